@@ -22,6 +22,7 @@ val mixinVersion: String by project
 val pluginSpiVersion: String by project
 val guavaVersion: String by project
 val junitVersion: String by project
+val jmhVersion: String by project
 
 minecraft {
     version(minecraftVersion)
@@ -183,6 +184,12 @@ val mixins by sourceSets.registering {
         extendsFrom(mixinsConfig)
     }
 }
+val jmh by sourceSets.registering {
+    applyNamedDependencyOnOutput(originProject = project, sourceAdding = main, targetSource = this, implProject = project, dependencyConfigName = this.implementationConfigurationName)
+    configurations.named(implementationConfigurationName) {
+        extendsFrom(configurations.implementation.get())
+    }
+}
 
 dependencies {
     // api
@@ -251,10 +258,22 @@ dependencies {
     mixinsConfig(sourceSets.named("main").map { it.output })
     add(mixins.get().implementationConfigurationName, project(":SpongeAPI"))
 
+    // Benchmarks
+    add(jmh.get().implementationConfigurationName, "org.openjdk.jmh:jmh-core:$jmhVersion")
+    add(jmh.get().annotationProcessorConfigurationName, "org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+
     // Tests
     testImplementation("org.junit.jupiter:junit-jupiter-api:$junitVersion")
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:$junitVersion")
 }
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks. Pass -Pjmh.include=<regex> to select benchmarks."
+    classpath = jmh.get().runtimeClasspath
+    main = "org.openjdk.jmh.Main"
+    (project.findProperty("jmh.include") as String?)?.let { args(it) }
+}
+
 /*val extraSrgs = file("extra.srgs")
 mixin {
     add("mixins", "sponge.mixins.refmap.json")
@@ -479,6 +498,8 @@ if (testplugins != null) {
         dependencies {
             implementation(rootProject.project(":SpongeAPI"))
             annotationProcessor(rootProject.project(":SpongeAPI"))
+            // For tests of implementation features that have no API yet, they run with the implementation anyway
+            compileOnly(rootProject)
         }
 
         tasks.jar {
@@ -24,14 +24,18 @@
  */
 package org.spongepowered.common.accessor.server.players;
 
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.server.players.PlayerList;
 import net.minecraft.world.level.storage.PlayerDataStorage;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.gen.Accessor;
+import org.spongepowered.asm.mixin.gen.Invoker;
 
 @Mixin(PlayerList.class)
 public interface PlayerListAccessor {
 
     @Accessor("playerIo") PlayerDataStorage accessor$playerIo();
 
+    @Invoker("save") void invoker$save(final ServerPlayer player);
+
 }
@@ -0,0 +1,59 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.applaunch.config.common;
+
+import org.spongepowered.configurate.objectmapping.meta.Comment;
+import org.spongepowered.configurate.objectmapping.meta.Setting;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+
+@ConfigSerializable
+public final class AsyncSchedulerCategory {
+
+    @Setting("execution-mode")
+    @Comment("The way asynchronous plugin tasks are executed. Valid values are: \n"
+           + "'CACHED' runs all tasks on a single shared, unbounded thread pool, \n"
+           + "'VIRTUAL' runs every task on its own virtual thread, if the JVM supports \n"
+           + "them, falling back to 'CACHED' otherwise, \n"
+           + "'BOUNDED' gives each plugin its own pool of at most 'max-threads-per-plugin' threads.")
+    public ExecutionMode executionMode = ExecutionMode.CACHED;
+
+    @Setting("max-threads-per-plugin")
+    @Comment("The maximum number of threads a single plugin may use to run \n"
+           + "asynchronous tasks in 'BOUNDED' mode.")
+    public int maxThreadsPerPlugin = 8;
+
+    @Setting("max-queued-tasks-per-plugin")
+    @Comment("The maximum number of asynchronous tasks of a single plugin that may \n"
+           + "be waiting for a thread at once. Executions beyond this limit are \n"
+           + "skipped and logged, and task executors reject new tasks. \n"
+           + "Set to 0 to not limit the queue.")
+    public int maxQueuedTasksPerPlugin = 0;
+
+    public enum ExecutionMode {
+        CACHED,
+        VIRTUAL,
+        BOUNDED
+    }
+}
@@ -93,6 +93,10 @@ public final class CommonConfig implements Config {
     @Setting
     public final WorldCategory world = new WorldCategory();
 
+    @Setting("async-scheduler")
+    @Comment("Configuration options related to the execution of asynchronous plugin tasks")
+    public final AsyncSchedulerCategory asyncScheduler = new AsyncSchedulerCategory();
+
     /* TODO(zml): Reimplement this when bringing in SpongeContextCalculator from invalid
     public Map<String, Predicate<InetAddress>> getIpSets() {
         return ImmutableMap.copyOf(Maps.transformValues(this.ipSets, Predicates::and));
@@ -112,6 +112,39 @@ public final class OptimizationCategory {
         "are `persistent`. Does not drastically improve performance.")
     public boolean disableScheduledUpdatesForPersistentLeafBlocks = true;
 
+    @Setting("lambda-event-listeners")
+    @Comment("If 'true', plugin event listener methods are bound through\n"
+        + "the JVM's LambdaMetafactory instead of generating a class\n"
+        + "per listener method. This reduces the number of classes\n"
+        + "defined for plugins with many listeners and lets the JIT\n"
+        + "inline the listener invocation. Listeners with more than\n"
+        + "four parameters always use the generated classes.")
+    public boolean lambdaEventListeners = false;
+
+    @Setting("compact-data-containers")
+    @Comment("If 'true', data containers created through the data manager use a\n"
+        + "compact storage mode. Keys are interned, lists of numbers are stored\n"
+        + "in primitive arrays and nested views don't keep their own copy of\n"
+        + "their path. This lowers the memory used by large containers, such as\n"
+        + "schematics or player data, that are kept around by plugins.")
+    public boolean compactDataContainers = false;
+
+    @Setting("async-chunk-serialization")
+    @Comment("If 'true', saving a chunk only copies the block states of its\n"
+        + "sections on the main thread. Their palettes are built and encoded\n"
+        + "on worker threads, after which the chunk is handed to the region\n"
+        + "file storage with the next world tick. Saves which flush the\n"
+        + "region files, such as on shutdown, remain synchronous.")
+    public boolean asyncChunkSerialization = false;
+
+    @Setting("async-player-data-saves")
+    @Comment("If 'true', player data files are compressed and written on a\n"
+        + "background thread. The data is copied on the main thread, and\n"
+        + "saving a player again before the previous save was written only\n"
+        + "writes the latest data. Reading player data sees saves that are\n"
+        + "not written yet.")
+    public boolean asyncPlayerDataSaves = false;
+
     public OptimizationCategory() {
         // Enabled by default on SpongeVanilla, disabled by default on SpongeForge.
         // Because of how early this constructor gets called, we can't use SpongeImplHooks or even Game
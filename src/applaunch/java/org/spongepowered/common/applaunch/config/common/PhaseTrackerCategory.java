@@ -82,6 +82,14 @@ public final class PhaseTrackerCategory {
                                                               + "with generating the stack traces constantly.")
     public boolean generateStackTracePerPhase = false;
 
+    @Setting("verify-recycled-transactions")
+    @Comment("If 'true', captured block change and neighbor notification transactions \n"
+             + "are no longer reused once their phase has been processed, and instead \n"
+             + "are marked as recycled, such that any code still holding on to one of \n"
+             + "them fails with the stack trace of where it was recycled. This is only \n"
+             + "intended for troubleshooting, as it disables the pooling of transactions.")
+    public boolean verifyRecycledTransactions = false;
+
     @Setting("maximum-printed-runaway-counts")
     @Comment("If verbose is not enabled, this restricts the amount of \n"
                                                                + "runaway phase state printouts, usually happens on a server \n"
@@ -40,6 +40,11 @@ public final class WorldCategory {
                                                           + "Note: 20 ticks is equivalent to 1 second. Set to 0 to disable.")
     public int playerAutoSaveInterval = 6000;
 
+    @Setting(value = "player-auto-save-incremental")
+    @Comment("If 'true', global player data is saved a few players each tick, such that every player \n"
+                                                          + "is saved once per player-auto-save-interval, instead of saving all players at once.")
+    public boolean playerAutoSaveIncremental = false;
+
     @Setting(value = "leaf-decay")
     @Comment("If 'true', natural leaf decay is allowed.")
     public boolean leafDecay = true;
@@ -0,0 +1,104 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.data.persistence;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.DoubleTag;
+import net.minecraft.nbt.ListTag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.common.data.SpongeDataManager;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares translating a whole {@link CompoundTag} into a memory container
+ * against {@link NBTTranslator#wrap(CompoundTag) wrapping} it, when only a
+ * couple of values are read afterwards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NBTTranslatorBenchmark {
+
+    private static final DataQuery HEALTH = DataQuery.of("Health");
+    private static final DataQuery NESTED = DataQuery.of("Nested0", "Value");
+
+    @Param({"16", "256"})
+    public int size;
+
+    private CompoundTag compound;
+
+    @Setup
+    public void setup() throws Exception {
+        if (SpongeDataManager.INSTANCE == null) {
+            // Memory data views look up registry types through the data manager
+            final Constructor<SpongeDataManager> constructor = SpongeDataManager.class.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            constructor.newInstance();
+        }
+        this.compound = new CompoundTag();
+        this.compound.putFloat("Health", 20.0f);
+        for (int i = 0; i < this.size; i++) {
+            final CompoundTag nested = new CompoundTag();
+            nested.putInt("Value", i);
+            nested.putString("Name", "nested" + i);
+            nested.putByteArray("Bytes", new byte[64]);
+            final ListTag list = new ListTag();
+            for (int j = 0; j < 3; j++) {
+                list.add(DoubleTag.valueOf(j));
+            }
+            nested.put("List", list);
+            this.compound.put("Nested" + i, nested);
+        }
+    }
+
+    @Benchmark
+    public int translate() {
+        final DataContainer container = NBTTranslator.INSTANCE.translateFrom(this.compound);
+        return container.getInt(NBTTranslatorBenchmark.NESTED).get() + container.getInt(NBTTranslatorBenchmark.HEALTH).get();
+    }
+
+    @Benchmark
+    public int wrap() {
+        final DataContainer container = NBTTranslator.INSTANCE.wrap(this.compound);
+        return container.getInt(NBTTranslatorBenchmark.NESTED).get() + container.getInt(NBTTranslatorBenchmark.HEALTH).get();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.api.event.Cause;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventContext;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.common.event.filter.FilterFactory;
+import org.spongepowered.common.event.gen.DefineableClassLoader;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the dispatch cost of the generated class listeners against the
+ * {@link LambdaEventListenerFactory} and plain reflection.
+ *
+ * <p>With more than one listener every event is passed through several
+ * listener classes, which keeps the dispatch call sites megamorphic like
+ * they are on a server with many plugins.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventListenerFactoryBenchmark {
+
+    @Param({"asm", "lambda", "reflect"})
+    public String backend;
+
+    @Param({"1", "4"})
+    public int listeners;
+
+    private AnnotatedEventListener[] dispatchers;
+    private TestEvent event;
+
+    @Setup
+    public void setup() throws Exception {
+        final DefineableClassLoader classLoader = new DefineableClassLoader(EventListenerFactoryBenchmark.class.getClassLoader());
+        final FilterFactory filterFactory = new FilterFactory("org.spongepowered.common.event.filters", classLoader);
+        final AnnotatedEventListener.Factory asm = new ClassEventListenerFactory("org.spongepowered.common.event.listener", filterFactory, classLoader);
+        final AnnotatedEventListener.Factory factory;
+        switch (this.backend) {
+            case "asm":
+                factory = asm;
+                break;
+            case "lambda":
+                factory = new LambdaEventListenerFactory(filterFactory, asm);
+                break;
+            default:
+                factory = new InvokeEventListenerFactory(filterFactory);
+                break;
+        }
+        final Object[] handles = { new TestListener(), new TestListener2(), new TestListener3(), new TestListener4() };
+        this.dispatchers = new AnnotatedEventListener[this.listeners];
+        for (int i = 0; i < this.listeners; i++) {
+            final Object handle = handles[i];
+            this.dispatchers[i] = factory.create(handle, handle.getClass().getMethod("onEvent", TestEvent.class));
+        }
+        this.event = new TestEvent(Cause.of(EventContext.empty(), this));
+    }
+
+    @Benchmark
+    public void dispatch(final Blackhole blackhole) throws Exception {
+        for (final AnnotatedEventListener listener : this.dispatchers) {
+            listener.handle(this.event);
+        }
+        blackhole.consume(this.event.count);
+    }
+
+    public static final class TestListener {
+
+        @Listener
+        public void onEvent(final TestEvent event) {
+            event.count++;
+        }
+    }
+
+    public static final class TestListener2 {
+
+        @Listener
+        public void onEvent(final TestEvent event) {
+            event.count += 2;
+        }
+    }
+
+    public static final class TestListener3 {
+
+        @Listener
+        public void onEvent(final TestEvent event) {
+            event.count += 3;
+        }
+    }
+
+    public static final class TestListener4 {
+
+        @Listener
+        public void onEvent(final TestEvent event) {
+            event.count += 4;
+        }
+    }
+
+    public static final class TestEvent implements Event {
+
+        private final Cause cause;
+        int count;
+
+        TestEvent(final Cause cause) {
+            this.cause = cause;
+        }
+
+        @Override
+        public Cause getCause() {
+            return this.cause;
+        }
+    }
+}
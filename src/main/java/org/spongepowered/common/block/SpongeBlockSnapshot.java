@@ -83,7 +83,7 @@ public final class SpongeBlockSnapshot implements BlockSnapshot, SpongeImmutable
         this.blockState = Objects.requireNonNull(builder.blockState);
         this.worldKey = Objects.requireNonNull(builder.worldKey);
         this.pos = Objects.requireNonNull(builder.coordinates);
-        this.blockPos = VecHelper.toBlockPos(this.pos);
+        this.blockPos = builder.blockPos != null ? builder.blockPos : VecHelper.toBlockPos(this.pos);
         this.compound = builder.compound;
         this.changeFlag = builder.flag;
         this.world = builder.worldRef;
@@ -283,7 +283,7 @@ public SpongeBlockSnapshotBuilder createBuilder() {
         if (this.compound == null) {
             return DataContainer.createNew();
         }
-        return NBTTranslator.INSTANCE.translate(this.compound);
+        return NBTTranslator.INSTANCE.wrap(this.compound);
     }
 
     @Override
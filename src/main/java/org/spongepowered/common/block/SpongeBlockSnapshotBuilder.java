@@ -42,6 +42,7 @@
 import org.spongepowered.common.data.persistence.NBTTranslator;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.DataUtil;
+import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.SpongeBlockChangeFlag;
 import org.spongepowered.math.vector.Vector3i;
 
@@ -54,6 +55,7 @@
 import java.util.concurrent.ConcurrentLinkedDeque;
 
 import javax.annotation.Nullable;
+import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.block.Blocks;
@@ -62,6 +64,10 @@
 public class SpongeBlockSnapshotBuilder extends AbstractDataBuilder<@NonNull BlockSnapshot> implements BlockSnapshot.Builder {
 
     private static final Deque<SpongeBlockSnapshotBuilder> pool = new ConcurrentLinkedDeque<>();
+    // Captured snapshots are mostly of the same world in a row, so they share
+    // one reference instead of each allocating their own. Racy by design, a
+    // stale or unpublished reference only results in a new one being created.
+    @Nullable private static WeakReference<ServerLevel> lastWorldRef;
 
     public static SpongeBlockSnapshotBuilder unpooled() {
         return new SpongeBlockSnapshotBuilder(false);
@@ -80,6 +86,7 @@ public static SpongeBlockSnapshotBuilder pooled() {
     @Nullable UUID creatorUniqueId;
     @Nullable UUID notifierUniqueId;
     Vector3i coordinates;
+    @Nullable BlockPos blockPos;
     @Nullable List<DataManipulator.Immutable> manipulators;
     @Nullable CompoundTag compound;
     SpongeBlockChangeFlag flag = (SpongeBlockChangeFlag) BlockChangeFlags.ALL;
@@ -106,7 +113,13 @@ public SpongeBlockSnapshotBuilder world(final ResourceKey key) {
     
     public SpongeBlockSnapshotBuilder world(final ServerLevel world) {
         this.worldKey = ((org.spongepowered.api.world.server.ServerWorld) Objects.requireNonNull(world)).getKey();
-        this.worldRef = new WeakReference<>(world);
+        final @Nullable WeakReference<ServerLevel> lastWorldRef = SpongeBlockSnapshotBuilder.lastWorldRef;
+        if (lastWorldRef != null && lastWorldRef.get() == world) {
+            this.worldRef = lastWorldRef;
+        } else {
+            this.worldRef = new WeakReference<>(world);
+            SpongeBlockSnapshotBuilder.lastWorldRef = this.worldRef;
+        }
         return this;
     }
 
@@ -127,6 +140,7 @@ public SpongeBlockSnapshotBuilder blockState(final net.minecraft.world.level.blo
     @NonNull
     public SpongeBlockSnapshotBuilder position(@NonNull final Vector3i position) {
         this.coordinates = Objects.requireNonNull(position);
+        this.blockPos = null;
         if (this.compound != null) {
             this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_X, position.getX());
             this.compound.putInt(Constants.Sponge.BlockSnapshot.TILE_ENTITY_POSITION_Y, position.getY());
@@ -135,6 +149,13 @@ public SpongeBlockSnapshotBuilder position(@NonNull final Vector3i position) {
         return this;
     }
 
+    public SpongeBlockSnapshotBuilder position(final BlockPos pos) {
+        this.position(VecHelper.toVector3i(pos));
+        // Immutable positions are kept as is, sparing the snapshot a conversion back
+        this.blockPos = pos.immutable();
+        return this;
+    }
+
     @Override
     public BlockSnapshot.@NonNull Builder from(@NonNull final ServerLocation location) {
         return this.from(location.createSnapshot());
@@ -244,6 +265,7 @@ public SpongeBlockSnapshotBuilder reset() {
         this.creatorUniqueId = null;
         this.notifierUniqueId = null;
         this.coordinates = null;
+        this.blockPos = null;
         this.manipulators = null;
         this.compound = null;
         this.flag = null;
@@ -0,0 +1,236 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block.entity;
+
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.TickableBlockEntity;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
+import org.spongepowered.common.bridge.world.WorldBridge;
+import org.spongepowered.common.bridge.world.chunk.ActiveChunkReferantBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
+import org.spongepowered.common.config.inheritable.BlockEntityActivationCategory;
+import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
+import org.spongepowered.common.config.inheritable.WorldConfig;
+import org.spongepowered.common.server.BootstrapProperties;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Range based activation for ticking block entities. A block entity within
+ * its activation range of any player ticks normally, everything else only
+ * ticks on its configured tick rate.
+ */
+public final class BlockEntityActivation {
+
+    // Ranges come from the world config, so track the largest one per config
+    private static final Map<InheritableConfigHandle<WorldConfig>, AtomicInteger> maxActivationRanges =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Initialize block entity activation state.
+     *
+     * @param blockEntity The block entity to check
+     */
+    public static void initializeBlockEntityActivationState(final BlockEntity blockEntity) {
+        final Level level = blockEntity.getLevel();
+        if (level == null || level.isClientSide() || !(blockEntity instanceof TickableBlockEntity) || ((WorldBridge) level).bridge$isFake()) {
+            return;
+        }
+        final ResourceLocation key = Registry.BLOCK_ENTITY_TYPE.getKey(blockEntity.getType());
+        if (key == null) {
+            return;
+        }
+
+        final ActivationCapabilityBridge spongeBlockEntity = (ActivationCapabilityBridge) blockEntity;
+        final InheritableConfigHandle<WorldConfig> configAdapter = ((ServerWorldInfoBridge) level.getLevelData()).bridge$configAdapter();
+        final BlockEntityActivationCategory category = configAdapter.get().blockEntityActivation;
+        final String modId = key.getNamespace();
+        final String name = key.getPath();
+        int activationRange = category.defaultRange;
+        int tickRate = category.defaultTickRate;
+
+        boolean requiresSave = category.autoPopulate && !category.mods.containsKey(modId);
+        final BlockEntityActivationCategory.MobSubCategory modCategory = configAdapter.getOrCreateValue(s -> s.blockEntityActivation.mods.get(modId),
+                c -> c.blockEntityActivation.mods.put(modId, new BlockEntityActivationCategory.MobSubCategory()), category.autoPopulate);
+        if (modCategory != null) {
+            if (!modCategory.enabled) {
+                spongeBlockEntity.activation$setActivationRange(0);
+                spongeBlockEntity.activation$setSpongeTickRate(1);
+                spongeBlockEntity.activation$setDefaultActivationState(true);
+                return;
+            }
+            if (modCategory.defaultRange != null) {
+                activationRange = modCategory.defaultRange;
+            }
+            if (modCategory.defaultTickRate != null) {
+                tickRate = modCategory.defaultTickRate;
+            }
+
+            final Integer typeRange = modCategory.ranges.get(name);
+            if (typeRange != null) {
+                activationRange = typeRange;
+            } else if (category.autoPopulate) {
+                modCategory.ranges.put(name, activationRange);
+                requiresSave = true;
+            }
+            final Integer typeTickRate = modCategory.tickRates.get(name);
+            if (typeTickRate != null) {
+                tickRate = typeTickRate;
+            } else if (category.autoPopulate) {
+                modCategory.tickRates.put(name, tickRate);
+                requiresSave = true;
+            }
+        }
+
+        spongeBlockEntity.activation$setActivationRange(activationRange);
+        spongeBlockEntity.activation$setSpongeTickRate(tickRate);
+        // Only block entities that would tick every tick regardless of players skip the range checks
+        spongeBlockEntity.activation$setDefaultActivationState(activationRange <= 0 && tickRate == 1);
+        BlockEntityActivation.maxActivationRange(configAdapter).accumulateAndGet(activationRange, Math::max);
+
+        if (requiresSave) {
+            configAdapter.save();
+        }
+    }
+
+    /**
+     * Find what block entities are in range of the players in the world and
+     * set active if in range.
+     *
+     * @param world The world to perform activation checks in
+     */
+    public static void activateBlockEntities(final ServerLevel world) {
+        if (((WorldBridge) world).bridge$isFake()) {
+            return;
+        }
+        final ServerWorldInfoBridge levelData = (ServerWorldInfoBridge) world.getLevelData();
+        final int viewDistance = levelData.bridge$viewDistance().orElse(BootstrapProperties.viewDistance);
+        final int maxRange = Math.min((viewDistance << 4) - 8, BlockEntityActivation.maxActivationRange(levelData.bridge$configAdapter()).get());
+        if (maxRange <= 0) {
+            return;
+        }
+
+        final long currentTick = SpongeCommon.getServer().getTickCount();
+        for (final ServerPlayer player : world.players()) {
+            final int minChunkX = Mth.floor(player.getX() - maxRange) >> 4;
+            final int maxChunkX = Mth.floor(player.getX() + maxRange) >> 4;
+            final int minChunkZ = Mth.floor(player.getZ() - maxRange) >> 4;
+            final int maxChunkZ = Mth.floor(player.getZ() + maxRange) >> 4;
+
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; ++chunkX) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; ++chunkZ) {
+                    final LevelChunk chunk = world.getChunkSource().getChunkNow(chunkX, chunkZ);
+                    if (chunk == null || ((ChunkBridge) chunk).bridge$isPersistedChunk()) {
+                        continue;
+                    }
+                    BlockEntityActivation.activateChunkBlockEntities(player, chunk, currentTick);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks for the activation state of all block entities in this chunk.
+     *
+     * @param player The player activating block entities
+     * @param chunk Chunk to check for activation
+     * @param currentTick The current server tick
+     */
+    private static void activateChunkBlockEntities(final ServerPlayer player, final LevelChunk chunk, final long currentTick) {
+        for (final BlockEntity blockEntity : chunk.getBlockEntities().values()) {
+            if (!(blockEntity instanceof TickableBlockEntity)) {
+                continue;
+            }
+            final ActivationCapabilityBridge spongeBlockEntity = (ActivationCapabilityBridge) blockEntity;
+            if (spongeBlockEntity.activation$getDefaultActivationState() || spongeBlockEntity.activation$getActivatedTick() >= currentTick) {
+                // always active, or already activated by another player
+                continue;
+            }
+
+            // check if activation cache needs to be updated
+            if (spongeBlockEntity.activation$requiresActivationCacheRefresh()) {
+                BlockEntityActivation.initializeBlockEntityActivationState(blockEntity);
+                spongeBlockEntity.activation$requiresActivationCacheRefresh(false);
+            }
+
+            final int range = spongeBlockEntity.activation$getActivationRange();
+            if (range > 0 && blockEntity.getBlockPos().distSqr(player.getX(), player.getY(), player.getZ(), true) <= (double) range * range) {
+                spongeBlockEntity.activation$setActivatedTick(currentTick);
+            }
+        }
+    }
+
+    /**
+     * Checks if the block entity is active for this tick.
+     *
+     * @param blockEntity The block entity to check for activity
+     * @return Whether the given block entity should be active
+     */
+    public static boolean checkIfActive(final BlockEntity blockEntity) {
+        final Level level = blockEntity.getLevel();
+        if (level == null || level.isClientSide() || !(blockEntity instanceof TickableBlockEntity)) {
+            return true;
+        }
+
+        final ChunkBridge activeChunk = ((ActiveChunkReferantBridge) blockEntity).bridge$getActiveChunk();
+        if (activeChunk == null) {
+            // Should never happen but just in case for mods, always tick
+            return true;
+        }
+
+        if (!activeChunk.bridge$isActive()) {
+            return false;
+        }
+
+        final ActivationCapabilityBridge spongeBlockEntity = (ActivationCapabilityBridge) blockEntity;
+        if (activeChunk.bridge$isPersistedChunk() || spongeBlockEntity.activation$getDefaultActivationState()
+            || spongeBlockEntity.activation$getActivatedTick() >= SpongeCommon.getServer().getTickCount()) {
+            return true;
+        }
+
+        // Out of range of every player, fall back to the configured tick rate
+        final int tickRate = spongeBlockEntity.activation$getSpongeTickRate();
+        return tickRate > 0 && level.getGameTime() % tickRate == 0L;
+    }
+
+    private static AtomicInteger maxActivationRange(final InheritableConfigHandle<WorldConfig> configAdapter) {
+        return BlockEntityActivation.maxActivationRanges.computeIfAbsent(configAdapter, k -> new AtomicInteger());
+    }
+
+    private BlockEntityActivation() {
+    }
+}
@@ -61,6 +61,18 @@ public interface TrackableBridge {
 
     void bridge$setAllowsEntityEventCreation(boolean allowsEntityEventCreation);
 
+    /**
+     * Gets whether this trackable neither captures nor throws events for
+     * blocks and entities, in which case it can be ticked within a phase
+     * context shared with other such trackables.
+     *
+     * @return True if this trackable can be ticked untracked
+     */
+    default boolean bridge$allowsUntrackedTicks() {
+        return !this.bridge$allowsBlockBulkCaptures() && !this.bridge$allowsBlockEventCreation()
+            && !this.bridge$allowsEntityBulkCaptures() && !this.bridge$allowsEntityEventCreation();
+    }
+
     /**
      * Tells this trackable to refresh it's tracker states.
      * Usually these states are only needing to be refreshed
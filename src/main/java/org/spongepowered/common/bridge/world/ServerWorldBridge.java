@@ -62,4 +62,18 @@ public interface ServerWorldBridge {
     RegistryHolder bridge$registries();
 
     BlockSnapshot bridge$createSnapshot(int x, int y, int z);
+
+    /**
+     * Performs an auto-save which saves the level data right away, but only
+     * queues the modified chunks to be saved over the following ticks by
+     * {@link #bridge$continueIncrementalSave(long)}.
+     */
+    void bridge$startIncrementalSave();
+
+    /**
+     * Continues saving the chunks queued by the last incremental save.
+     *
+     * @param deadline The {@link System#nanoTime()} to stop saving at
+     */
+    void bridge$continueIncrementalSave(long deadline);
 }
@@ -39,11 +39,14 @@ public final class BlockEntityActivationCategory {
     public boolean autoPopulate = false;
 
     @Setting("default-range")
-    @Comment("Default activation block range used for all block entities unless overridden.")
+    @Comment("Default activation block range used for all block entities unless overridden.\n"
+            + "Block entities within this range of any player tick normally.")
     public int defaultRange = 64;
 
     @Setting("default-tick-rate")
-    @Comment("Default tick rate used for all block entities unless overridden.")
+    @Comment("Default tick rate used for all block entities unless overridden.\n"
+            + "Block entities outside of their activation range only tick once every 'tick-rate' ticks,\n"
+            + "a value of 0 or less stops them from ticking until a player comes within range.")
     public int defaultTickRate = 1;
 
     @Setting
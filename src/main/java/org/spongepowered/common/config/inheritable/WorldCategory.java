@@ -47,6 +47,13 @@ public final class WorldCategory {
         + "Note: 20 ticks is equivalent to 1 second.")
     public int autoSaveInterval = 6000;
 
+    @Setting("auto-save-budget")
+    @Comment("The time, in milliseconds, this world may spend saving chunks each tick. \n"
+        + "If above 0, the auto-save only queues the modified chunks and saves them a \n"
+        + "slice at a time until the next auto-save, instead of saving them all at once. \n"
+        + "Set to 0 to disable. (Default: 0)")
+    public int autoSaveBudget = 0;
+
     @Setting("log-auto-save")
     @Comment("Log when a world auto-saves its chunk data. Note: This may be spammy depending on the auto-save-interval configured for world.")
     public final boolean logAutoSave = false;
@@ -64,12 +64,17 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> void deser
         if (compound == null) {
             return;
         }
-        final DataContainer allData = NBTTranslator.INSTANCE.translate(compound);
+        final Class<? extends DataHolder> typeToken = dataHolder.getClass().asSubclass(DataHolder.class);
+        if (!DataUtil.hasSpongeData(compound) && !SpongeDataManager.getDatastoreRegistry().hasRootDataStores(typeToken)) {
+            // Nothing to deserialize, the manipulator is created once it is first accessed
+            return;
+        }
+        // Only the accessed parts of the compound are decoded, usually just the sponge data root
+        final DataContainer allData = NBTTranslator.INSTANCE.wrap(compound);
 
         DataUtil.upgradeDataVersion(compound, allData); // Upgrade v2->v3
 
         // Run content-updaters and collect failed data
-        final Class<? extends DataHolder> typeToken = dataHolder.getClass().asSubclass(DataHolder.class);
         allData.getView(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT).ifPresent(customData -> {
             for (DataQuery keyNamespace : customData.getKeys(false)) {
                 final DataView keyedData = customData.getView(keyNamespace).get();
@@ -86,7 +91,8 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> void deser
                             });
                         }
                     } else {
-                        dataHolder.bridge$addFailedData(keyNamespace.then(keyValue), dataStoreData);
+                        // Copied so the failed data doesn't keep referencing the compound
+                        dataHolder.bridge$addFailedData(keyNamespace.then(keyValue), dataStoreData.copy());
                     }
                 }
             }
@@ -105,6 +111,14 @@ public static <T extends SpongeDataHolderBridge & DataCompoundHolder> void deser
         }
     }
 
+    private static boolean hasSpongeData(final CompoundTag compound) {
+        if (compound.contains(Constants.Sponge.Data.V3.SPONGE_DATA_ROOT.asString('.'), Constants.NBT.TAG_COMPOUND)) {
+            return true;
+        }
+        return compound.contains(Constants.Forge.FORGE_DATA, Constants.NBT.TAG_COMPOUND)
+                && compound.getCompound(Constants.Forge.FORGE_DATA).contains(Constants.Sponge.Data.V2.SPONGE_DATA, Constants.NBT.TAG_COMPOUND);
+    }
+
     @SuppressWarnings("deprecation")
     public static void upgradeDataVersion(CompoundTag compound, DataContainer allData) {
         // Check for v2 data
@@ -55,7 +55,20 @@ public MemoryDataContainer() {
      * @see org.spongepowered.api.data.persistence.DataView.SafetyMode
      */
     public MemoryDataContainer(final DataView.SafetyMode safety) {
-        super(safety);
+        this(safety, false);
+    }
+
+    /**
+     * Creates a new {@link MemoryDataContainer} with the provided
+     * {@link org.spongepowered.api.data.persistence.DataView.SafetyMode},
+     * optionally using the compact storage mode.
+     *
+     * @param safety The safety mode to use
+     * @param compact Whether the compact storage mode is used
+     * @see MemoryDataView#isCompact()
+     */
+    public MemoryDataContainer(final DataView.SafetyMode safety, final boolean compact) {
+        super(safety, compact);
     }
 
     @Override
@@ -31,8 +31,17 @@
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.primitives.Bytes;
+import com.google.common.primitives.Doubles;
+import com.google.common.primitives.Floats;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+import com.google.common.primitives.Shorts;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import org.apache.commons.lang3.ArrayUtils;
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.Sponge;
@@ -52,6 +61,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -68,26 +78,108 @@
  */
 public class MemoryDataView implements DataView {
 
-    protected final Map<String, Object> map = Maps.newLinkedHashMap();
+    private static final Interner<String> KEY_INTERNER = Interners.newWeakInterner();
+
+    protected final Map<String, Object> map;
     private final DataContainer container;
     private final DataView parent;
-    private final DataQuery path;
+    // Null for compact views, where the path is derived from the parent
+    private final @Nullable DataQuery path;
+    private final String name;
     private final DataView.SafetyMode safety;
+    private final boolean compact;
+    // Whether the map may still contain unresolved lazy values
+    private boolean hasLazyValues;
 
-    MemoryDataView(final DataView.SafetyMode safety) {
+    MemoryDataView(final DataView.SafetyMode safety, final boolean compact) {
         checkState(this instanceof DataContainer, "Cannot construct a root MemoryDataView without a container!");
         this.path = DataQuery.of();
+        this.name = "";
         this.parent = this;
         this.container = (DataContainer) this;
         this.safety = Objects.requireNonNull(safety, "Safety mode");
+        this.compact = compact;
+        this.map = MemoryDataView.createMap(compact);
     }
 
-    private MemoryDataView(final DataView parent, final DataQuery path, final DataView.SafetyMode safety) {
+    private MemoryDataView(final MemoryDataView parent, final DataQuery path, final DataView.SafetyMode safety) {
         checkArgument(path.getParts().size() >= 1, "Path must have at least one part");
         this.parent = parent;
         this.container = parent.getContainer();
-        this.path = parent.getCurrentPath().then(path);
+        this.compact = parent.compact;
+        final List<String> parts = path.getParts();
+        this.name = this.compact ? MemoryDataView.KEY_INTERNER.intern(parts.get(parts.size() - 1)) : parts.get(parts.size() - 1);
+        this.path = this.compact && parts.size() == 1 ? null : parent.getCurrentPath().then(path);
         this.safety = Objects.requireNonNull(safety, "Safety mode");
+        this.map = MemoryDataView.createMap(this.compact);
+    }
+
+    private static Map<String, Object> createMap(final boolean compact) {
+        // The open hash map doesn't allocate an entry object per mapping
+        return compact ? new Object2ObjectLinkedOpenHashMap<>(4) : Maps.newLinkedHashMap();
+    }
+
+    private String key(final String key) {
+        return this.compact ? MemoryDataView.KEY_INTERNER.intern(key) : key;
+    }
+
+    /**
+     * Gets whether this view uses the compact storage mode, where keys are
+     * interned, numeric lists are backed by primitive arrays and the paths
+     * of nested views are derived from their parents.
+     *
+     * @return Whether this view is compact
+     */
+    public boolean isCompact() {
+        return this.compact;
+    }
+
+    /**
+     * Sets a value which is only decoded once it is first accessed, without
+     * going through any of the serialization performed by
+     * {@link #set(DataQuery, Object)}. Later writes to the same key simply
+     * replace the lazy value, the source it was created from is never
+     * modified.
+     *
+     * @param key The key
+     * @param value The lazy value
+     */
+    public void setLazy(final String key, final LazyValue value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        this.map.put(this.key(key), value);
+        this.hasLazyValues = true;
+    }
+
+    private @Nullable Object getResolved(final String key) {
+        final Object object = this.map.get(key);
+        if (object instanceof LazyValue) {
+            return this.resolve(key, (LazyValue) object);
+        }
+        return object;
+    }
+
+    private @Nullable Object resolve(final String key, final LazyValue value) {
+        final Object resolved = value.decode(() -> this.createView(DataQuery.of(key)));
+        if (resolved == null) {
+            this.map.remove(key);
+        } else {
+            this.map.put(key, resolved);
+        }
+        return resolved;
+    }
+
+    private void resolveLazyValues() {
+        if (!this.hasLazyValues) {
+            return;
+        }
+        for (final String key : ImmutableList.copyOf(this.map.keySet())) {
+            final Object object = this.map.get(key);
+            if (object instanceof LazyValue) {
+                this.resolve(key, (LazyValue) object);
+            }
+        }
+        this.hasLazyValues = false;
     }
 
     @Override
@@ -97,13 +189,15 @@ public DataContainer getContainer() {
 
     @Override
     public DataQuery getCurrentPath() {
+        if (this.path == null) {
+            return this.parent.getCurrentPath().then(this.name);
+        }
         return this.path;
     }
 
     @Override
     public String getName() {
-        final List<String> parts = this.path.getParts();
-        return parts.isEmpty() ? "" : parts.get(parts.size() - 1);
+        return this.name;
     }
 
     @Override
@@ -119,6 +213,7 @@ public Set<DataQuery> getKeys(final boolean deep) {
             builder.add(DataQuery.of(entry.getKey()));
         }
         if (deep) {
+            this.resolveLazyValues();
             for (final Map.Entry<String, Object> entry : this.map.entrySet()) {
                 if (entry.getValue() instanceof DataView) {
                     for (final DataQuery query : ((DataView) entry.getValue()).getKeys(true)) {
@@ -190,7 +285,7 @@ public Optional<Object> get(final DataQuery path) {
 
         final String key = queryParts.get(0);
         if (sz == 1) {
-            final Object object = this.map.get(key);
+            final Object object = this.getResolved(key);
             if (object == null) {
                 return Optional.empty();
             }
@@ -244,7 +339,7 @@ public DataView set(final DataQuery path, final Object value) {
         }
 
         final List<String> parts = path.getParts();
-        final String key = parts.get(0);
+        final String key = this.key(parts.get(0));
         if (parts.size() > 1) {
             final DataQuery subQuery = DataQuery.of(key);
             final Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
@@ -321,6 +416,13 @@ else if (value instanceof ResourceKey) {
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void setCollection(final String key, final Collection<?> value) {
+        if (this.compact) {
+            final List<?> packed = MemoryDataView.packNumbers(value);
+            if (packed != null) {
+                this.map.put(key, packed);
+                return;
+            }
+        }
         final ImmutableList.Builder<Object> builder = ImmutableList.builder();
         @Nullable DataManager manager;
 
@@ -335,7 +437,7 @@ private void setCollection(final String key, final Collection<?> value) {
                 builder.add(((DataSerializable) object).toContainer());
             } else if (object instanceof DataView) {
                 if (this.safety == org.spongepowered.api.data.persistence.DataView.SafetyMode.ALL_DATA_CLONED || this.safety == org.spongepowered.api.data.persistence.DataView.SafetyMode.CLONED_ON_SET) {
-                    final MemoryDataView view = new MemoryDataContainer(this.safety);
+                    final MemoryDataView view = new MemoryDataContainer(this.safety, this.compact);
                     final DataView internalView = (DataView) object;
                     for (final Map.Entry<DataQuery, Object> entry : internalView.getValues(false).entrySet()) {
                         view.set(entry.getKey(), entry.getValue());
@@ -371,6 +473,45 @@ private void setCollection(final String key, final Collection<?> value) {
         this.map.put(key, builder.build());
     }
 
+    /**
+     * Packs a collection of boxed numbers which all share the same type
+     * into an immutable list backed by a primitive array.
+     *
+     * @param value The collection
+     * @return The packed list, or null if the collection can't be packed
+     */
+    @SuppressWarnings("unchecked")
+    private static @Nullable List<?> packNumbers(final Collection<?> value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        final Class<?> type = value.iterator().next().getClass();
+        if (type != Integer.class && type != Long.class && type != Double.class && type != Float.class
+                && type != Short.class && type != Byte.class) {
+            return null;
+        }
+        for (final Object object : value) {
+            if (object == null || object.getClass() != type) {
+                return null;
+            }
+        }
+        final List<?> packed;
+        if (type == Integer.class) {
+            packed = Ints.asList(Ints.toArray((Collection<Integer>) value));
+        } else if (type == Long.class) {
+            packed = Longs.asList(Longs.toArray((Collection<Long>) value));
+        } else if (type == Double.class) {
+            packed = Doubles.asList(Doubles.toArray((Collection<Double>) value));
+        } else if (type == Float.class) {
+            packed = Floats.asList(Floats.toArray((Collection<Float>) value));
+        } else if (type == Short.class) {
+            packed = Shorts.asList(Shorts.toArray((Collection<Short>) value));
+        } else {
+            packed = Bytes.asList(Bytes.toArray((Collection<Byte>) value));
+        }
+        return Collections.unmodifiableList(packed);
+    }
+
     @SuppressWarnings("rawtypes")
     private ImmutableList<Object> ensureSerialization(final Collection<?> collection) {
         final ImmutableList.Builder<Object> objectBuilder = ImmutableList.builder();
@@ -446,7 +587,7 @@ public DataView createView(final DataQuery path) {
 
         checkArgument(sz != 0, "The size of the query must be at least 1");
 
-        final String key = queryParts.get(0);
+        final String key = this.key(queryParts.get(0));
         final DataQuery keyQuery = DataQuery.of(key);
 
         if (sz == 1) {
@@ -455,9 +596,9 @@ public DataView createView(final DataQuery path) {
             return result;
         }
         final DataQuery subQuery = path.popFirst();
-        DataView subView = (DataView) this.map.get(key);
+        DataView subView = (DataView) this.getResolved(key);
         if (subView == null) {
-            subView = new MemoryDataView(this.parent, keyQuery, this.safety);
+            subView = new MemoryDataView((MemoryDataView) this.parent, keyQuery, this.safety);
             this.map.put(key, subView);
         }
         return subView.createView(subQuery);
@@ -530,7 +671,7 @@ private Optional<DataView> getUnsafeView(final DataQuery path) {
     }
 
     private Optional<DataView> getUnsafeView(final String path) {
-        final Object object = this.map.get(path);
+        final Object object = this.getResolved(path);
         if (!(object instanceof DataView)) {
             return Optional.empty();
         }
@@ -819,7 +960,7 @@ public <T> Optional<List<T>> getObjectList(final DataQuery path, final Class<T>
 
     @Override
     public DataContainer copy() {
-        final DataContainer container = new MemoryDataContainer(this.safety);
+        final DataContainer container = new MemoryDataContainer(this.safety, this.compact);
         this.getKeys(false)
             .forEach(query ->
                 this.get(query).ifPresent(obj ->
@@ -831,7 +972,7 @@ public DataContainer copy() {
 
     @Override
     public DataContainer copy(final org.spongepowered.api.data.persistence.DataView.SafetyMode safety) {
-        final DataContainer container = new MemoryDataContainer(safety);
+        final DataContainer container = new MemoryDataContainer(safety, this.compact);
         this.getKeys(false)
             .forEach(query ->
                 this.get(query).ifPresent(obj ->
@@ -853,7 +994,8 @@ public org.spongepowered.api.data.persistence.DataView.SafetyMode getSafetyMode(
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.map, this.path);
+        this.resolveLazyValues();
+        return Objects.hash(this.map, this.getCurrentPath());
     }
 
     @Override
@@ -865,18 +1007,40 @@ public boolean equals(@Nullable final Object obj) {
             return false;
         }
         final MemoryDataView other = (MemoryDataView) obj;
+        this.resolveLazyValues();
+        other.resolveLazyValues();
 
         return com.google.common.base.Objects.equal(this.map.entrySet(), other.map.entrySet())
-            && com.google.common.base.Objects.equal(this.path, other.path);
+            && com.google.common.base.Objects.equal(this.getCurrentPath(), other.getCurrentPath());
     }
 
     @Override
     public String toString() {
         final MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this);
-        if (!this.path.toString().isEmpty()) {
-            helper.add("path", this.path);
+        final DataQuery path = this.getCurrentPath();
+        if (!path.toString().isEmpty()) {
+            helper.add("path", path);
         }
         helper.add("safety", this.safety.name());
+        this.resolveLazyValues();
         return helper.add("map", this.map).toString();
     }
+
+    /**
+     * A value of a {@link MemoryDataView} which is decoded from its source
+     * the first time it is accessed.
+     */
+    @FunctionalInterface
+    public interface LazyValue {
+
+        /**
+         * Decodes this value. Values which represent a view should populate
+         * and return the view provided by the given factory, which replaces
+         * this value in its parent.
+         *
+         * @param viewFactory The factory creating the view for this value
+         * @return The decoded value, or null if there is no value
+         */
+        @Nullable Object decode(Supplier<DataView> viewFactory);
+    }
 }
@@ -55,6 +55,7 @@
 import org.spongepowered.api.registry.RegistryType;
 import org.spongepowered.api.registry.RegistryTypes;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.data.builder.item.SpongeItemStackSnapshotDataBuilder;
 import org.spongepowered.common.data.key.KeyBasedDataListener;
 import org.spongepowered.common.data.persistence.datastore.DataStoreRegistry;
@@ -248,12 +249,12 @@ public Optional<ResourceKey> getLegacyRegistration(final String id) {
 
     @Override
     public DataContainer createContainer() {
-        return new MemoryDataContainer();
+        return this.createContainer(DataView.SafetyMode.ALL_DATA_CLONED);
     }
 
     @Override
     public DataContainer createContainer(final DataView.SafetyMode safety) {
-        return new MemoryDataContainer(safety);
+        return new MemoryDataContainer(safety, SpongeConfigs.getCommon().get().optimizations.compactDataContainers);
     }
 
     public <E extends DataHolder> void registerKeyListener(final KeyBasedDataListener<E> keyListener) {
@@ -36,6 +36,8 @@
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.common.data.MemoryDataContainer;
+import org.spongepowered.common.data.MemoryDataView;
 import org.spongepowered.common.util.Constants;
 
 import java.util.List;
@@ -175,6 +177,24 @@ private static DataContainer getViewFromCompound(CompoundTag compound) {
         return container;
     }
 
+    private static void addLazily(final CompoundTag compound, final MemoryDataView view) {
+        for (final String key : compound.getAllKeys()) {
+            final Tag base = compound.get(key);
+            final byte type = base.getId();
+            if (type == Constants.NBT.TAG_COMPOUND) {
+                view.setLazy(key, viewFactory -> {
+                    final DataView internalView = viewFactory.get();
+                    NBTTranslator.addLazily((CompoundTag) base, (MemoryDataView) internalView);
+                    return internalView;
+                });
+            } else if (type == Constants.NBT.TAG_BYTE && key.contains(NBTTranslator.BOOLEAN_IDENTIFIER)) {
+                view.setLazy(key.replace(NBTTranslator.BOOLEAN_IDENTIFIER, ""), viewFactory -> ((ByteTag) base).getAsByte() != 0);
+            } else {
+                view.setLazy(key, viewFactory -> NBTTranslator.fromTagBase(base, type, true));
+            }
+        }
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     private static void setInternal(Tag base, byte type, DataView view, String key) {
         checkNotNull(base);
@@ -217,7 +237,7 @@ private static void setInternal(Tag base, byte type, DataView view, String key)
                 int count = list.size();
                 List objectList = Lists.newArrayListWithCapacity(count);
                 for (final Tag inbt : list) {
-                    objectList.add(NBTTranslator.fromTagBase(inbt, listType));
+                    objectList.add(NBTTranslator.fromTagBase(inbt, listType, false));
                 }
                 view.set(of(key), objectList);
                 break;
@@ -246,7 +266,7 @@ private static void setInternal(Tag base, byte type, DataView view, String key)
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private static Object fromTagBase(Tag base, byte type) {
+    private static Object fromTagBase(Tag base, byte type, boolean lazy) {
         switch (type) {
             case Constants.NBT.TAG_BYTE:
                 return ((ByteTag) base).getAsByte();
@@ -270,11 +290,11 @@ private static Object fromTagBase(Tag base, byte type) {
                 int count = list.size();
                 List objectList = Lists.newArrayListWithCapacity(count);
                 for (Tag inbt : list) {
-                    objectList.add(NBTTranslator.fromTagBase(inbt, listType));
+                    objectList.add(NBTTranslator.fromTagBase(inbt, listType, lazy));
                 }
                 return objectList;
             case Constants.NBT.TAG_COMPOUND:
-                return NBTTranslator.getViewFromCompound((CompoundTag) base);
+                return lazy ? NBTTranslator.INSTANCE.wrap((CompoundTag) base) : NBTTranslator.getViewFromCompound((CompoundTag) base);
             case Constants.NBT.TAG_INT_ARRAY:
                 return ((IntArrayTag) base).getAsIntArray();
             case Constants.NBT.TAG_LONG_ARRAY:
@@ -292,6 +312,23 @@ public DataContainer translateFrom(CompoundTag node) {
         return NBTTranslator.getViewFromCompound(node);
     }
 
+    /**
+     * Creates a {@link DataContainer} view of the given compound which only
+     * decodes the values that are accessed, rather than translating the
+     * whole tree upfront. Writes to the container never modify the compound,
+     * so the compound may be shared, but it must not be modified itself
+     * while the container is still in use.
+     *
+     * @param node The compound to wrap
+     * @return The lazily decoded container
+     */
+    public DataContainer wrap(CompoundTag node) {
+        checkNotNull(node);
+        final MemoryDataContainer container = new MemoryDataContainer(DataView.SafetyMode.NO_DATA_CLONED);
+        NBTTranslator.addLazily(node, container);
+        return container;
+    }
+
     @Override
     public TypeToken<CompoundTag> getToken() {
         return NBTTranslator.TOKEN;
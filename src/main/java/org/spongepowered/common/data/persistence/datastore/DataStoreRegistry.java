@@ -53,6 +53,7 @@ public final class DataStoreRegistry {
 
     private final Map<LookupKey, DataStore> dataStoreCache = new ConcurrentHashMap<>();
     private final Multimap<Type, DataStore> dataStoreByTokenCache = HashMultimap.create();
+    private final Map<Type, Boolean> rootDataStoreCache = new ConcurrentHashMap<>();
 
     public void register(final DataStore dataStore, Iterable<Key<?>> keys) {
         keys.forEach(k -> this.dataStoreByValueKey.put(k, dataStore));
@@ -63,6 +64,7 @@ public void register(final DataStore dataStore, Iterable<Key<?>> keys) {
         this.allDataStores.add(dataStore);
         this.dataStoreCache.clear();
         this.dataStoreByTokenCache.clear();
+        this.rootDataStoreCache.clear();
     }
 
     public Collection<DataStore> getDataStores(Key<?> dataKey) {
@@ -114,6 +116,19 @@ public Collection<DataStore> getDataStoresForType(Class<? extends DataHolder> ho
         return this.dataStoreByTokenCache.get(holderType);
     }
 
+    /**
+     * Gets whether any of the {@link DataStore}s for the given holder type
+     * reads its data from outside of the custom sponge data root, in which
+     * case the whole compound of the holder has to be deserialized.
+     *
+     * @param holderType The data holder type
+     * @return Whether there are data stores reading from the data root
+     */
+    public boolean hasRootDataStores(final Class<? extends DataHolder> holderType) {
+        return this.rootDataStoreCache.computeIfAbsent(holderType, type -> this.getDataStoresForType(holderType).stream()
+                .anyMatch(dataStore -> !(dataStore instanceof SpongeDataStore) || ((SpongeDataStore) dataStore).getDataStoreKey() == null));
+    }
+
     private static class LookupKey {
 
         private final Type holderType;
@@ -24,21 +24,32 @@
  */
 package org.spongepowered.common.data.provider;
 
-import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableList;
 import org.spongepowered.api.data.DataProvider;
 import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.value.Value;
 import org.spongepowered.common.data.key.SpongeKey;
 
 import java.util.Collection;
-import java.util.Map;
 
 public final class DataProviderLookup {
 
-    private final Map<Key<?>, DataProvider<?, ?>> providerMap;
+    private final DataProvider<?, ?>[] providers;
+    private final Collection<DataProvider<?, ?>> allProviders;
+    final int generation;
 
-    DataProviderLookup(Map<Key<?>, DataProvider<?, ?>> providerMap) {
-        this.providerMap = ImmutableMap.copyOf(providerMap);
+    DataProviderLookup(final Collection<DataProvider<?, ?>> providers, final int generation) {
+        this.allProviders = ImmutableList.copyOf(providers);
+        this.generation = generation;
+        int size = 0;
+        for (final DataProvider<?, ?> provider : this.allProviders) {
+            size = Math.max(size, ((SpongeKey<?, ?>) provider.getKey()).getId() + 1);
+        }
+        // Indexed by the dense key id, so lookups don't need any hashing
+        this.providers = new DataProvider<?, ?>[size];
+        for (final DataProvider<?, ?> provider : this.allProviders) {
+            this.providers[((SpongeKey<?, ?>) provider.getKey()).getId()] = provider;
+        }
     }
 
     /**
@@ -47,7 +58,7 @@ public final class DataProviderLookup {
      * @return The delegate data providers
      */
     public Collection<DataProvider<?, ?>> getAllProviders() {
-        return this.providerMap.values();
+        return this.allProviders;
     }
 
     /**
@@ -59,7 +70,15 @@ public final class DataProviderLookup {
      * @return The delegate provider
      */
     @SuppressWarnings("unchecked")
-    public <V extends Value<E>, E> DataProvider<V, E> getProvider(Key<V> key) {
-        return (DataProvider<V, E>) this.providerMap.getOrDefault(key, ((SpongeKey<V, E>) key).getEmptyDataProvider());
+    public <V extends Value<E>, E> DataProvider<V, E> getProvider(final Key<V> key) {
+        final SpongeKey<V, E> spongeKey = (SpongeKey<V, E>) key;
+        final int id = spongeKey.getId();
+        if (id < this.providers.length) {
+            final DataProvider<?, ?> provider = this.providers[id];
+            if (provider != null) {
+                return (DataProvider<V, E>) provider;
+            }
+        }
+        return spongeKey.getEmptyDataProvider();
     }
 }
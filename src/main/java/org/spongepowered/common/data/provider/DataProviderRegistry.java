@@ -26,6 +26,7 @@
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.data.DataProvider;
 import org.spongepowered.api.data.Key;
 import org.spongepowered.api.data.value.Value;
@@ -42,47 +43,25 @@
 
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public final class DataProviderRegistry {
 
-    private static class LookupKey {
+    private static final class LookupHolder {
 
-        final Class<?> holderType;
-
-        final Key<?> key;
-        private LookupKey(final Class<?> holderType, final Key<?> key) {
-            this.holderType = holderType;
-            this.key = key;
-        }
-
-        @Override
-        public boolean equals(final Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || this.getClass() != o.getClass()) {
-                return false;
-            }
-            final LookupKey lookupKey = (LookupKey) o;
-            return this.holderType.equals(lookupKey.holderType) &&
-                    this.key.equals(lookupKey.key);
-        }
+        volatile @Nullable DataProviderLookup lookup;
+    }
 
+    private final Multimap<Key<?>, DataProvider<?,?>> dataProviders = HashMultimap.create();
+    private final ClassValue<LookupHolder> dataProviderLookupCache = new ClassValue<LookupHolder>() {
         @Override
-        public int hashCode() {
-            return Objects.hash(this.holderType, this.key);
+        protected LookupHolder computeValue(final Class<?> type) {
+            return new LookupHolder();
         }
-
-    }
-    private final Multimap<Key<?>, DataProvider<?,?>> dataProviders = HashMultimap.create();
-    private final Map<LookupKey, DataProvider<?,?>> dataProviderCache = new ConcurrentHashMap<>();
-    private final Map<Class<?>, DataProviderLookup> dataProviderLookupCache = new ConcurrentHashMap<>();
+    };
+    // Incremented on every registration to invalidate the lookups cached per holder type
+    private volatile int generation;
 
     private static boolean filterHolderType(final DataProvider<?,?> provider, final Class<?> holderType) {
         // Filter out data providers of which we know that they will never be relevant.
@@ -93,18 +72,13 @@ private static boolean filterHolderType(final DataProvider<?,?> provider, final
         return true;
     }
 
-    @SuppressWarnings("unchecked")
-    private DataProvider<?,?> loadProvider(final LookupKey key) {
-        return this.buildDelegate((Key<Value<Object>>) key.key, provider -> DataProviderRegistry.filterHolderType(provider, key.holderType));
-    }
-
     @SuppressWarnings(value = {"unchecked", "rawtypes"})
-    private DataProviderLookup loadProviderLookup(final Class<?> holderType) {
-        final Stream<DataProvider> stream = this.dataProviders.keySet().stream()
-                .map(key -> this.getProvider((Key) key, holderType))
-                .filter(provider -> !(provider instanceof EmptyDataProvider));
-        final Map<Key<?>, DataProvider<?, ?>> map = stream.collect(Collectors.toMap(p -> (Key<?>) p.getKey(), p -> (DataProvider<?, ?>) p));
-        return new DataProviderLookup(map);
+    private DataProviderLookup loadProviderLookup(final Class<?> holderType, final int generation) {
+        final List<DataProvider<?, ?>> providers = this.dataProviders.keySet().stream()
+                .map(key -> this.buildDelegate((Key) key, provider -> DataProviderRegistry.filterHolderType((DataProvider<?, ?>) provider, holderType)))
+                .filter(provider -> !(provider instanceof EmptyDataProvider))
+                .collect(Collectors.toList());
+        return new DataProviderLookup(providers, generation);
     }
 
     /**
@@ -134,7 +108,14 @@ private static <V extends Value<E>, E> DataProvider<V, E> buildDelegateProvider(
      * @return The built lookup
      */
     public DataProviderLookup getProviderLookup(final Class<?> dataHolderType) {
-        return this.dataProviderLookupCache.computeIfAbsent(dataHolderType, this::loadProviderLookup);
+        final LookupHolder holder = this.dataProviderLookupCache.get(dataHolderType);
+        final int generation = this.generation;
+        DataProviderLookup lookup = holder.lookup;
+        if (lookup == null || lookup.generation != generation) {
+            lookup = this.loadProviderLookup(dataHolderType, generation);
+            holder.lookup = lookup;
+        }
+        return lookup;
     }
 
     /**
@@ -145,10 +126,11 @@ public DataProviderLookup getProviderLookup(final Class<?> dataHolderType) {
      */
     @SuppressWarnings({"unchecked", "rawtypes"})
     public DataProviderLookup buildLookup(final Predicate<DataProvider<?,?>> predicate) {
-        final Stream<DataProvider> stream = this.dataProviders.keySet().stream()
-                .map(key -> DataProviderRegistry.buildDelegateProvider((Key) key, (List) this.dataProviders.get(key).stream().filter(predicate)));
-        final Map<Key<?>, DataProvider<?, ?>> map = stream.collect(Collectors.toMap(p -> (Key<?>) p.getKey(), p -> (DataProvider<?, ?>) p));
-        return new DataProviderLookup(map);
+        final List<DataProvider<?, ?>> providers = this.dataProviders.keySet().stream()
+                .map(key -> DataProviderRegistry.buildDelegateProvider((Key) key, (List) this.dataProviders.get(key).stream().filter(predicate)
+                        .collect(Collectors.toList())))
+                .collect(Collectors.toList());
+        return new DataProviderLookup(providers, this.generation);
     }
 
     /**
@@ -188,9 +170,8 @@ public Collection<DataProvider<?,?>> getAllProviders(final Class<?> dataHolderTy
      * @param <E> The element type of the value
      * @return The delegate data provider
      */
-    @SuppressWarnings({"unchecked"})
     public <V extends Value<E>, E> DataProvider<V, E> getProvider(final Key<V> key, final Class<?> dataHolderType) {
-        return (DataProvider<V, E>) this.dataProviderCache.computeIfAbsent(new LookupKey(dataHolderType, key), this::loadProvider);
+        return this.getProviderLookup(dataHolderType).getProvider(key);
     }
 
     /**
@@ -200,8 +181,7 @@ public <V extends Value<E>, E> DataProvider<V, E> getProvider(final Key<V> key,
      */
     public void register(final DataProvider<?,?> provider) {
         this.dataProviders.put(provider.getKey(), provider);
-        this.dataProviderCache.clear();
-        this.dataProviderLookupCache.clear();
+        this.generation++;
     }
 
     public void registerDefaultProviders() {
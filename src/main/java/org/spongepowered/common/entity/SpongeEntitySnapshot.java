@@ -257,7 +257,7 @@ public EntityArchetype createArchetype() {
         if (this.compound == null) {
             return DataContainer.createNew();
         }
-        return NBTTranslator.INSTANCE.translate(this.compound);
+        return NBTTranslator.INSTANCE.wrap(this.compound);
     }
 
     @Override
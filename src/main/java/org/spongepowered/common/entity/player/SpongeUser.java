@@ -55,6 +55,7 @@
 import org.spongepowered.api.util.Tristate;
 import org.spongepowered.api.world.server.ServerLocation;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.SpongeServer;
 import org.spongepowered.common.accessor.server.MinecraftServerAccessor;
 import org.spongepowered.common.bridge.authlib.GameProfileHolderBridge;
 import org.spongepowered.common.bridge.data.SpongeDataHolderBridge;
@@ -72,12 +73,11 @@
 import org.spongepowered.common.service.server.permission.SubjectHelper;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.MissingImplementationException;
+import org.spongepowered.common.world.storage.PlayerDataWriter;
 import org.spongepowered.math.vector.Vector3d;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -89,7 +89,6 @@
 import javax.annotation.Nullable;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
-import net.minecraft.nbt.NbtIo;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.inventory.PlayerEnderChestContainer;
@@ -179,14 +178,11 @@ public void initialize() {
         }
 
         final LevelStorageSource.LevelStorageAccess storageSource = ((MinecraftServerAccessor) Sponge.getServer()).accessor$storageSource();
-        final File file = storageSource.getLevelPath(LevelResource.PLAYER_DATA_DIR).resolve(this.profile.getId().toString() + ".dat").toFile();
-        if (!file.exists()) {
-            return;
-        }
-
+        final Path file = storageSource.getLevelPath(LevelResource.PLAYER_DATA_DIR).resolve(this.profile.getId().toString() + ".dat");
         try {
-            try (final FileInputStream in = new FileInputStream(file)) {
-                this.readCompound(NbtIo.readCompressed(in));
+            final CompoundTag compound = ((SpongeServer) Sponge.getServer()).getPlayerDataManager().getWriter().read(file);
+            if (compound != null) {
+                this.readCompound(compound);
             }
         } catch (final IOException e) {
             SpongeCommon.getLogger().warn("Corrupt user file '{}'!", file, e);
@@ -433,22 +429,22 @@ public void save() {
         Preconditions.checkState(this.isInitialized(), "User {} is not initialized", this.profile.getId());
 
         final LevelStorageSource.LevelStorageAccess storageSource = ((MinecraftServerAccessor) Sponge.getServer()).accessor$storageSource();
-        final File file = storageSource.getLevelPath(LevelResource.PLAYER_DATA_DIR).resolve(this.getUniqueId() + ".dat").toFile();
+        final Path file = storageSource.getLevelPath(LevelResource.PLAYER_DATA_DIR).resolve(this.getUniqueId() + ".dat");
+        final PlayerDataWriter writer = ((SpongeServer) Sponge.getServer()).getPlayerDataManager().getWriter();
         CompoundTag compound;
         try {
-            compound = NbtIo.readCompressed(new FileInputStream(file));
+            compound = writer.read(file);
         } catch (final IOException ignored) {
             // Nevermind
+            compound = null;
+        }
+        if (compound == null) {
             compound = new CompoundTag();
         }
         this.writeCompound(compound);
-        try (final FileOutputStream out = new FileOutputStream(file)) {
-            NbtIo.writeCompressed(compound, out);
-            SpongeUser.dirtyUsers.remove(this);
-            this.invalidate();
-        } catch (final IOException e) {
-            SpongeCommon.getLogger().warn("Failed to save user file [{}]!", file, e);
-        }
+        writer.write(file, compound);
+        SpongeUser.dirtyUsers.remove(this);
+        this.invalidate();
     }
 
     // Helpers for Equipment:
@@ -0,0 +1,280 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.event.Event;
+import org.spongepowered.common.event.filter.EventFilter;
+import org.spongepowered.common.event.filter.FilterFactory;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An {@link AnnotatedEventListener.Factory} which binds listener methods
+ * through {@link LambdaMetafactory} instead of generating a class per
+ * listener method. The lambda classes are spun by the JVM against the
+ * listener class itself, so they are unloaded together with the plugin
+ * and avoid the extra class loader and bytecode verification required
+ * by the {@link ClassEventListenerFactory}.
+ *
+ * <p>Listener methods with more than {@link #MAX_PARAMETERS} parameters
+ * (or listener classes which cannot be looked up with private access)
+ * are delegated to the fallback factory.</p>
+ */
+public final class LambdaEventListenerFactory implements AnnotatedEventListener.Factory {
+
+    private static final int MAX_PARAMETERS = 4;
+    private static final Class<?>[] INVOKERS = { Invoker1.class, Invoker2.class, Invoker3.class, Invoker4.class };
+
+    private static final Method PRIVATE_LOOKUP_IN;
+    private static final Constructor<MethodHandles.Lookup> LOOKUP_CONSTRUCTOR;
+
+    static {
+        Method privateLookupIn = null;
+        Constructor<MethodHandles.Lookup> lookupConstructor = null;
+        try {
+            // Java 9+
+            privateLookupIn = MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+        } catch (final NoSuchMethodException e) {
+            try {
+                // Java 8, the full privilege lookup constructor is private
+                lookupConstructor = MethodHandles.Lookup.class.getDeclaredConstructor(Class.class);
+                lookupConstructor.setAccessible(true);
+            } catch (final ReflectiveOperationException | RuntimeException ignored) {
+            }
+        }
+        PRIVATE_LOOKUP_IN = privateLookupIn;
+        LOOKUP_CONSTRUCTOR = lookupConstructor;
+    }
+
+    private final FilterFactory filterFactory;
+    private final AnnotatedEventListener.Factory fallback;
+    // Keyed by the listener class, so the invokers don't keep unloaded plugin classes reachable
+    private final ClassValue<Map<Method, Object>> invokers = new ClassValue<Map<Method, Object>>() {
+        @Override
+        protected Map<Method, Object> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    public LambdaEventListenerFactory(final FilterFactory filterFactory, final AnnotatedEventListener.Factory fallback) {
+        this.filterFactory = checkNotNull(filterFactory, "filterFactory");
+        this.fallback = checkNotNull(fallback, "fallback");
+    }
+
+    @Override
+    public AnnotatedEventListener create(final Object handle, final Method method) throws Exception {
+        final int parameters = method.getParameterCount();
+        if (parameters > LambdaEventListenerFactory.MAX_PARAMETERS) {
+            return this.fallback.create(handle, method);
+        }
+        final Map<Method, Object> invokers = this.invokers.get(method.getDeclaringClass());
+        Object invoker = invokers.get(method);
+        if (invoker == null) {
+            try {
+                invoker = this.createInvoker(method);
+            } catch (final Exception e) {
+                return this.fallback.create(handle, method);
+            }
+            final Object existing = invokers.putIfAbsent(method, invoker);
+            if (existing != null) {
+                invoker = existing;
+            }
+        }
+        final Class<? extends EventFilter> filterClass = this.filterFactory.createFilter(method);
+        if (filterClass == null) {
+            if (parameters != 1) {
+                // basic sanity check
+                throw new IllegalStateException("Failed to generate EventFilter for non trivial filtering operation.");
+            }
+            return new UnfilteredListener(handle, (Invoker1) invoker);
+        }
+        final EventFilter filter = filterClass.newInstance();
+        switch (parameters) {
+            case 1:
+                return new FilteredListener1(handle, filter, (Invoker1) invoker);
+            case 2:
+                return new FilteredListener2(handle, filter, (Invoker2) invoker);
+            case 3:
+                return new FilteredListener3(handle, filter, (Invoker3) invoker);
+            default:
+                return new FilteredListener4(handle, filter, (Invoker4) invoker);
+        }
+    }
+
+    Object createInvoker(final Method method) throws Exception {
+        final Class<?> invokerType = LambdaEventListenerFactory.INVOKERS[method.getParameterCount() - 1];
+        final MethodHandles.Lookup lookup = LambdaEventListenerFactory.lookupIn(method.getDeclaringClass());
+        final MethodHandle target = lookup.unreflect(method);
+        final MethodType erased = MethodType.genericMethodType(method.getParameterCount() + 1).changeReturnType(void.class);
+        final CallSite site = LambdaMetafactory.metafactory(lookup, "invoke", MethodType.methodType(invokerType), erased, target,
+                target.type().wrap().changeReturnType(void.class));
+        try {
+            return site.getTarget().invoke();
+        } catch (final Exception | Error e) {
+            throw e;
+        } catch (final Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    private static MethodHandles.Lookup lookupIn(final Class<?> target) throws ReflectiveOperationException {
+        if (LambdaEventListenerFactory.PRIVATE_LOOKUP_IN != null) {
+            return (MethodHandles.Lookup) LambdaEventListenerFactory.PRIVATE_LOOKUP_IN.invoke(null, target, MethodHandles.lookup());
+        }
+        if (LambdaEventListenerFactory.LOOKUP_CONSTRUCTOR != null) {
+            return LambdaEventListenerFactory.LOOKUP_CONSTRUCTOR.newInstance(target);
+        }
+        throw new IllegalAccessException("Unable to acquire a private lookup for " + target);
+    }
+
+    @FunctionalInterface
+    public interface Invoker1 {
+
+        void invoke(Object handle, Object event) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface Invoker2 {
+
+        void invoke(Object handle, Object event, Object a1) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface Invoker3 {
+
+        void invoke(Object handle, Object event, Object a1, Object a2) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface Invoker4 {
+
+        void invoke(Object handle, Object event, Object a1, Object a2, Object a3) throws Exception;
+    }
+
+    private static final class UnfilteredListener extends AnnotatedEventListener {
+
+        private final Invoker1 invoker;
+
+        UnfilteredListener(final Object handle, final Invoker1 invoker) {
+            super(handle);
+            this.invoker = invoker;
+        }
+
+        @Override
+        public void handle(final Event event) throws Exception {
+            this.invoker.invoke(this.handle, event);
+        }
+    }
+
+    private static final class FilteredListener1 extends AnnotatedEventListener {
+
+        private final EventFilter filter;
+        private final Invoker1 invoker;
+
+        FilteredListener1(final Object handle, final EventFilter filter, final Invoker1 invoker) {
+            super(handle);
+            this.filter = filter;
+            this.invoker = invoker;
+        }
+
+        @Override
+        public void handle(final Event event) throws Exception {
+            final Object[] args = this.filter.filter(event);
+            if (args != null) {
+                this.invoker.invoke(this.handle, args[0]);
+            }
+        }
+    }
+
+    private static final class FilteredListener2 extends AnnotatedEventListener {
+
+        private final EventFilter filter;
+        private final Invoker2 invoker;
+
+        FilteredListener2(final Object handle, final EventFilter filter, final Invoker2 invoker) {
+            super(handle);
+            this.filter = filter;
+            this.invoker = invoker;
+        }
+
+        @Override
+        public void handle(final Event event) throws Exception {
+            final Object[] args = this.filter.filter(event);
+            if (args != null) {
+                this.invoker.invoke(this.handle, args[0], args[1]);
+            }
+        }
+    }
+
+    private static final class FilteredListener3 extends AnnotatedEventListener {
+
+        private final EventFilter filter;
+        private final Invoker3 invoker;
+
+        FilteredListener3(final Object handle, final EventFilter filter, final Invoker3 invoker) {
+            super(handle);
+            this.filter = filter;
+            this.invoker = invoker;
+        }
+
+        @Override
+        public void handle(final Event event) throws Exception {
+            final Object[] args = this.filter.filter(event);
+            if (args != null) {
+                this.invoker.invoke(this.handle, args[0], args[1], args[2]);
+            }
+        }
+    }
+
+    private static final class FilteredListener4 extends AnnotatedEventListener {
+
+        private final EventFilter filter;
+        private final Invoker4 invoker;
+
+        FilteredListener4(final Object handle, final EventFilter filter, final Invoker4 invoker) {
+            super(handle);
+            this.filter = filter;
+            this.invoker = invoker;
+        }
+
+        @Override
+        public void handle(final Event event) throws Exception {
+            final Object[] args = this.filter.filter(event);
+            if (args != null) {
+                this.invoker.invoke(this.handle, args[0], args[1], args[2], args[3]);
+            }
+        }
+    }
+}
@@ -27,17 +27,21 @@
 import com.google.common.base.CaseFormat;
 import io.leangen.geantyref.GenericTypeReflector;
 import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.util.TypeTokenUtil;
 import org.spongepowered.configurate.util.Types;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 public final class ListenerChecker {
@@ -45,6 +49,18 @@ public final class ListenerChecker {
     private static final boolean ALL_TRUE = Boolean.parseBoolean(System.getProperty("sponge.shouldFireAll", "").toLowerCase());
     private static final boolean DEBUG = Boolean.parseBoolean(System.getProperty("sponge.debugShouldFire", "").toLowerCase());
 
+    // Like the ShouldFire fields, the listener flags of event types are global.
+    // The registered listener types, with the number of listeners, guarded by itself.
+    private static final Map<EventType<?>, Integer> listenerTypes = new HashMap<>();
+    // Incremented every time the registered listener types change
+    private static volatile int generation;
+    private static final ClassValue<ListenerFlag> flags = new ClassValue<ListenerFlag>() {
+        @Override
+        protected ListenerFlag computeValue(final Class<?> type) {
+            return new ListenerFlag(type);
+        }
+    };
+
     private final Class<?> clazz;
     private Map<String, FieldData> fields = new HashMap<>();
     private Map<Class<?>, FieldData> fieldClassMap = new IdentityHashMap<>();
@@ -81,12 +97,61 @@ public ListenerChecker(Class<?> clazz) {
         }
     }
 
-    public <T> void registerListenerFor(Class<T> eventClass) {
-        this.updateFields(eventClass, true);
+    public void registerListenerFor(final EventType<?> eventType) {
+        ListenerChecker.updateListenerTypes(eventType, true);
+        this.updateFields(eventType.getType(), true);
+    }
+
+    public void unregisterListenerFor(final EventType<?> eventType) {
+        ListenerChecker.updateListenerTypes(eventType, false);
+        this.updateFields(eventType.getType(), false);
+    }
+
+    private static void updateListenerTypes(final EventType<?> eventType, final boolean registering) {
+        synchronized (ListenerChecker.listenerTypes) {
+            if (registering) {
+                ListenerChecker.listenerTypes.merge(eventType, 1, Integer::sum);
+            } else {
+                ListenerChecker.listenerTypes.computeIfPresent(eventType, (type, count) -> count == 1 ? null : count - 1);
+            }
+            ListenerChecker.generation++;
+        }
+    }
+
+    /**
+     * Gets whether any listener may receive an event of the given type. This
+     * is the case if a listener is registered for the type, one of its super
+     * types or one of its sub types, following the same rules as the
+     * {@link ShouldFire} flags.
+     *
+     * @param eventType The event type
+     * @return Whether the event may have listeners
+     */
+    public static boolean hasListeners(final Class<?> eventType) {
+        if (ListenerChecker.ALL_TRUE) {
+            return true;
+        }
+        final ListenerFlag flag = ListenerChecker.flags.get(eventType);
+        if (flag.generation != ListenerChecker.generation) {
+            return flag.update();
+        }
+        return flag.value;
     }
 
-    public <T> void unregisterListenerFor(Class<T> eventClass) {
-        this.updateFields(eventClass, false);
+    /**
+     * Gets whether any listener may receive a generic event of the given type
+     * and generic parameter. Listeners of super types of the event only count
+     * if their generic parameter accepts the given one.
+     *
+     * @param eventType The event type
+     * @param genericType The generic parameter of the event
+     * @return Whether the event may have listeners
+     */
+    public static boolean hasListeners(final Class<?> eventType, final Type genericType) {
+        if (!ListenerChecker.hasListeners(eventType)) {
+            return false;
+        }
+        return ListenerChecker.flags.get(eventType).hasListeners(genericType);
     }
 
     private Class<?> getClassForField(final Field field) {
@@ -173,6 +238,80 @@ public <T> void updateFields(Class<? super T> eventClass, boolean registering) {
         }
     }
 
+    private static final class ListenerFlag {
+
+        private final Class<?> type;
+        volatile int generation = -1;
+        volatile boolean value;
+        // The flags of generic parameters, only valid for the generation they
+        // were created in
+        private volatile GenericFlags genericFlags = new GenericFlags(-1);
+
+        ListenerFlag(final Class<?> type) {
+            this.type = type;
+        }
+
+        boolean update() {
+            synchronized (ListenerChecker.listenerTypes) {
+                boolean value = false;
+                for (final EventType<?> listenerType : ListenerChecker.listenerTypes.keySet()) {
+                    final Class<?> listenerClass = listenerType.getType();
+                    if (listenerClass.isAssignableFrom(this.type) || this.type.isAssignableFrom(listenerClass)) {
+                        value = true;
+                        break;
+                    }
+                }
+                this.value = value;
+                this.generation = ListenerChecker.generation;
+                return value;
+            }
+        }
+
+        boolean hasListeners(final Type genericType) {
+            GenericFlags genericFlags = this.genericFlags;
+            final int generation = ListenerChecker.generation;
+            if (genericFlags.generation != generation) {
+                genericFlags = new GenericFlags(generation);
+                this.genericFlags = genericFlags;
+            }
+            final Boolean value = genericFlags.values.get(genericType);
+            if (value != null) {
+                return value;
+            }
+            synchronized (ListenerChecker.listenerTypes) {
+                boolean computed = false;
+                for (final EventType<?> listenerType : ListenerChecker.listenerTypes.keySet()) {
+                    final Class<?> listenerClass = listenerType.getType();
+                    if (this.type.isAssignableFrom(listenerClass)) {
+                        // Sub types may be posted with any parameter
+                        computed = true;
+                    } else if (listenerClass.isAssignableFrom(this.type)) {
+                        final @Nullable Type listenerGenericType = listenerType.getGenericType();
+                        computed = listenerGenericType == null || TypeTokenUtil.isAssignable(genericType, listenerGenericType);
+                    }
+                    if (computed) {
+                        break;
+                    }
+                }
+                // Don't cache results computed against newer listeners
+                if (genericFlags.generation == ListenerChecker.generation) {
+                    genericFlags.values.put(genericType, computed);
+                }
+                return computed;
+            }
+        }
+    }
+
+    private static final class GenericFlags {
+
+        final int generation;
+        final Map<Type, Boolean> values = new ConcurrentHashMap<>();
+
+        GenericFlags(final int generation) {
+            this.generation = generation;
+        }
+    }
+
     private static class FieldData {
         Field field;
         int listenerCount = 0;
@@ -29,19 +29,74 @@
 import co.aikar.timings.Timing;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.entity.EntityType;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventListener;
 import org.spongepowered.api.event.Order;
 import org.spongepowered.common.relocate.co.aikar.timings.SpongeTimings;
 import org.spongepowered.plugin.PluginContainer;
 
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 public final class RegisteredListener<T extends Event> implements SpongeEventListener<T>, Comparable<RegisteredListener<?>> {
 
+    /**
+     * The getter of the entity an event concerns, or null if the event
+     * class has none.
+     */
+    private static final ClassValue<MethodHandle> ENTITY_GETTERS = new ClassValue<MethodHandle>() {
+        @Nullable
+        @Override
+        protected MethodHandle computeValue(final Class<?> type) {
+            final Method method = RegisteredListener.findEntityGetter(type);
+            if (method == null) {
+                return null;
+            }
+            try {
+                return MethodHandles.publicLookup().unreflect(method).asType(MethodType.methodType(Entity.class, Event.class));
+            } catch (final IllegalAccessException e) {
+                return null;
+            }
+        }
+    };
+
+    // Generated event classes aren't public, so look for the getter on one of their public interfaces
+    @Nullable
+    private static Method findEntityGetter(final Class<?> type) {
+        final Method method;
+        try {
+            method = type.getMethod("getEntity");
+        } catch (final NoSuchMethodException e) {
+            return null;
+        }
+        if (Modifier.isStatic(method.getModifiers()) || !Entity.class.isAssignableFrom(method.getReturnType())) {
+            return null;
+        }
+        if (Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+            return method;
+        }
+        for (final Class<?> itf : type.getInterfaces()) {
+            final Method found = RegisteredListener.findEntityGetter(itf);
+            if (found != null) {
+                return found;
+            }
+        }
+        return type.getSuperclass() == null ? null : RegisteredListener.findEntityGetter(type.getSuperclass());
+    }
+
     private final PluginContainer plugin;
 
     private final EventType<T> eventType;
@@ -50,14 +105,19 @@
     private final EventListener<? super T> listener;
 
     private final boolean beforeModifications;
+    private final boolean untracked;
+    @Nullable private final Predicate<EntityType<?>> entityTypeFilter;
     private Timing listenerTimer;
 
-    RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> listener, boolean beforeModifications) {
+    RegisteredListener(PluginContainer plugin, EventType<T> eventType, Order order, EventListener<? super T> listener, boolean beforeModifications,
+            boolean untracked, @Nullable Predicate<EntityType<?>> entityTypeFilter) {
         this.plugin = checkNotNull(plugin, "plugin");
         this.eventType = checkNotNull(eventType, "eventType");
         this.order = checkNotNull(order, "order");
         this.listener = checkNotNull(listener, "listener");
         this.beforeModifications = beforeModifications;
+        this.untracked = untracked;
+        this.entityTypeFilter = entityTypeFilter;
     }
 
     public PluginContainer getPlugin() {
@@ -76,6 +136,53 @@ public boolean isBeforeModifications() {
         return this.beforeModifications;
     }
 
+    /**
+     * Gets whether this listener can be invoked without a cause frame
+     * and plugin phase.
+     *
+     * @return True if the listener is untracked
+     * @see UntrackedListener
+     */
+    public boolean isUntracked() {
+        return this.untracked;
+    }
+
+    /**
+     * Gets the filter on the types of entities whose events this listener
+     * receives, if any.
+     *
+     * @return The entity type filter, or null if unfiltered
+     * @see EntityTypeFilter
+     */
+    @Nullable
+    public Predicate<EntityType<?>> getEntityTypeFilter() {
+        return this.entityTypeFilter;
+    }
+
+    /**
+     * Gets whether the given event should be passed to this listener,
+     * according to its {@link #getEntityTypeFilter() entity type filter}.
+     *
+     * @param event The event
+     * @return True if the listener accepts the event
+     */
+    boolean accepts(final Event event) {
+        if (this.entityTypeFilter == null) {
+            return true;
+        }
+        final MethodHandle getter = RegisteredListener.ENTITY_GETTERS.get(event.getClass());
+        if (getter == null) {
+            return true;
+        }
+        final Entity entity;
+        try {
+            entity = (Entity) getter.invokeExact(event);
+        } catch (final Throwable e) {
+            return true;
+        }
+        return entity == null || this.entityTypeFilter.test(entity.getType());
+    }
+
     public Timing getTimingsHandler() {
         if (this.listenerTimer == null) {
             this.listenerTimer = SpongeTimings.getPluginTimings(this.plugin, this.getHandle().getClass().getSimpleName());
@@ -105,10 +212,19 @@ public int compareTo(RegisteredListener<?> handler) {
     public static final class Cache {
 
         private final List<RegisteredListener<?>> listeners;
+        private final RegisteredListener<?>[] listenerArray;
         private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
+        // Whether any of the listeners is filtered by entity type
+        private final boolean entityTypeFiltered;
+        private final Map<EntityType<?>, Boolean> listenedEntityTypes = new ConcurrentHashMap<>();
+        // The listener generation of the event manager this cache was baked in
+        final int generation;
 
-        Cache(List<RegisteredListener<?>> listeners) {
+        Cache(List<RegisteredListener<?>> listeners, int generation) {
             this.listeners = listeners;
+            this.listenerArray = listeners.toArray(new RegisteredListener<?>[0]);
+            this.generation = generation;
+            this.entityTypeFiltered = listeners.stream().anyMatch(listener -> listener.entityTypeFilter != null);
 
             this.listenersByOrder = new EnumMap<>(Order.class);
             for (RegisteredListener<?> handler : listeners) {
@@ -121,6 +237,40 @@ public List<RegisteredListener<?>> getListeners() {
             return this.listeners;
         }
 
+        /**
+         * Gets the listeners as an array, to be iterated without allocating
+         * when posting events. The array must not be modified.
+         *
+         * @return The listeners
+         */
+        RegisteredListener<?>[] getListenerArray() {
+            return this.listenerArray;
+        }
+
+        /**
+         * Gets whether any of the listeners would receive an event concerning
+         * an entity of the given type.
+         *
+         * @param entityType The entity type
+         * @return True if there is any interested listener
+         */
+        boolean hasListeners(final EntityType<?> entityType) {
+            if (this.listenerArray.length == 0) {
+                return false;
+            }
+            if (!this.entityTypeFiltered) {
+                return true;
+            }
+            return this.listenedEntityTypes.computeIfAbsent(entityType, type -> {
+                for (final RegisteredListener<?> listener : this.listenerArray) {
+                    if (listener.entityTypeFilter == null || listener.entityTypeFilter.test(type)) {
+                        return true;
+                    }
+                }
+                return false;
+            });
+        }
+
         public List<RegisteredListener<?>> getListenersByOrder(Order order) {
             final List<RegisteredListener<?>> list = this.listenersByOrder.get(checkNotNull(order, "order"));
             if (list == null) {
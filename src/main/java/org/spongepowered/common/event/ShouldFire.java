@@ -24,6 +24,10 @@
  */
 package org.spongepowered.common.event;
 
+import org.spongepowered.api.event.Event;
+
+import java.lang.reflect.Type;
+
 public final class ShouldFire {
 
     // Format is event class name with underscores
@@ -113,4 +117,32 @@ public final class ShouldFire {
 
     public static boolean KICK_PLAYER_EVENT = false;
 
+    /**
+     * Gets whether an event of the given type may have listeners, following
+     * the same rules as the flags above. Events without a flag of their own
+     * should be checked with this before building their causes, snapshots
+     * and other expensive parts.
+     *
+     * @param eventType The event type
+     * @return Whether the event should be fired
+     */
+    public static boolean hasListeners(final Class<? extends Event> eventType) {
+        return ListenerChecker.hasListeners(eventType);
+    }
+
+    /**
+     * Gets whether a generic event of the given type and parameter may have
+     * listeners.
+     *
+     * @param eventType The event type
+     * @param genericType The generic parameter of the event
+     * @return Whether the event should be fired
+     * @see #hasListeners(Class)
+     */
+    public static boolean hasListeners(final Class<? extends Event> eventType, final Type genericType) {
+        return ListenerChecker.hasListeners(eventType, genericType);
+    }
+
+    private ShouldFire() {
+    }
 }
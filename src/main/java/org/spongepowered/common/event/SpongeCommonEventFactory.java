@@ -749,39 +749,46 @@ public static boolean handleCollideBlockEvent(final Block block, final net.minec
             return false;
         }
 
-        try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
-            frame.pushCause( entity);
+        boolean cancelled = false;
+        // Only build the cause when there is someone to post the event to
+        if (ShouldFire.hasListeners(CollideBlockEvent.class)) {
+            try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
+                frame.pushCause( entity);
+
+                if (entity instanceof CreatorTrackedBridge) {
+                    final CreatorTrackedBridge spongeEntity = (CreatorTrackedBridge) entity;
+                    spongeEntity.tracked$getCreatorReference().ifPresent(user -> frame.addContext(EventContextKeys.CREATOR, user));
+                }
 
-            if (entity instanceof CreatorTrackedBridge) {
-                final CreatorTrackedBridge spongeEntity = (CreatorTrackedBridge) entity;
-                spongeEntity.tracked$getCreatorReference().ifPresent(user -> frame.addContext(EventContextKeys.CREATOR, user));
+                // TODO: Add target side support
+                final CollideBlockEvent event = SpongeEventFactory.createCollideBlockEvent(frame.getCurrentCause(), (BlockState) state,
+                        ServerLocation.of((org.spongepowered.api.world.server.ServerWorld) world, VecHelper.toVector3d(pos)), direction);
+                cancelled = SpongeCommon.postEvent(event);
             }
+        }
+        if (!cancelled) {
+            final EntityBridge spongeEntity = (EntityBridge) entity;
+            if (!pos.equals(spongeEntity.bridge$getLastCollidedBlockPos())) {
+                final PhaseContext<?> context = PhaseTracker.getInstance().getPhaseContext();
+                context.applyNotifierIfAvailable(notifier -> {
+                    ChunkBridge spongeChunk = ((ActiveChunkReferantBridge) entity).bridge$getActiveChunk();
+                    if (spongeChunk == null) {
+                        spongeChunk = (ChunkBridge) world.getChunkAt(pos);
+                    }
+                    spongeChunk.bridge$addTrackedBlockPosition(block, pos, notifier, PlayerTracker.Type.NOTIFIER);
 
-            // TODO: Add target side support
-            final CollideBlockEvent event = SpongeEventFactory.createCollideBlockEvent(frame.getCurrentCause(), (BlockState) state,
-                    ServerLocation.of((org.spongepowered.api.world.server.ServerWorld) world, VecHelper.toVector3d(pos)), direction);
-            final boolean cancelled = SpongeCommon.postEvent(event);
-            if (!cancelled) {
-                final EntityBridge spongeEntity = (EntityBridge) entity;
-                if (!pos.equals(spongeEntity.bridge$getLastCollidedBlockPos())) {
-                    final PhaseContext<?> context = PhaseTracker.getInstance().getPhaseContext();
-                    context.applyNotifierIfAvailable(notifier -> {
-                        ChunkBridge spongeChunk = ((ActiveChunkReferantBridge) entity).bridge$getActiveChunk();
-                        if (spongeChunk == null) {
-                            spongeChunk = (ChunkBridge) world.getChunkAt(pos);
-                        }
-                        spongeChunk.bridge$addTrackedBlockPosition(block, pos, notifier, PlayerTracker.Type.NOTIFIER);
-
-                    });
-                }
+                });
             }
-            return cancelled;
         }
+        return cancelled;
     }
 
     public static boolean handleCollideImpactEvent(final net.minecraft.world.entity.Entity projectile, @Nullable final ProjectileSource projectileSource,
             final HitResult movingObjectPosition) {
         final HitResult.Type movingObjectType = movingObjectPosition.getType();
+        if (movingObjectType == HitResult.Type.ENTITY && !ShouldFire.hasListeners(CollideEntityEvent.Impact.class)) {
+            return false;
+        }
         try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
             frame.pushCause(projectile);
             frame.addContext(EventContextKeys.PROJECTILE_SOURCE, projectileSource == null
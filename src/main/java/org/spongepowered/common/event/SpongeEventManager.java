@@ -27,6 +27,7 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import co.aikar.timings.Timing;
+import co.aikar.timings.Timings;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.HashMultimap;
@@ -36,8 +37,11 @@
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
 import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceLocation;
 import org.apache.logging.log4j.Logger;
 import org.spongepowered.api.Engine;
+import org.spongepowered.api.entity.EntityType;
 import org.spongepowered.api.event.Cancellable;
 import org.spongepowered.api.event.CauseStackManager;
 import org.spongepowered.api.event.Event;
@@ -49,6 +53,7 @@
 import org.spongepowered.api.event.impl.AbstractEvent;
 import org.spongepowered.api.event.item.inventory.container.InteractContainerEvent;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.inventory.container.ContainerBridge;
 import org.spongepowered.common.event.filter.FilterFactory;
 import org.spongepowered.common.event.gen.DefineableClassLoader;
@@ -72,6 +77,7 @@
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -80,7 +86,6 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @Singleton
@@ -104,6 +109,23 @@ public final class SpongeEventManager implements EventManager {
     protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
             Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
 
+    /**
+     * The handlers of non generic events, stored directly on the event class
+     * so posting doesn't need to create a key and hash it. Caches baked in an
+     * older {@link #generation} are stale and get baked again.
+     */
+    private final ClassValue<RegisteredListener.Cache> handlersByClass = new ClassValue<RegisteredListener.Cache>() {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        @Override
+        protected RegisteredListener.Cache computeValue(final Class<?> type) {
+            SpongeEventManager.this.bakedClasses.add(type);
+            return SpongeEventManager.this.bakeHandlers(new EventType(type, null));
+        }
+    };
+    private final Set<Class<?>> bakedClasses = ConcurrentHashMap.newKeySet();
+    // Incremented every time handlers are added or removed
+    private volatile int generation;
+
     @Inject
     public SpongeEventManager(final Logger logger) {
         this.logger = logger;
@@ -139,6 +161,9 @@ public SpongeEventManager(final Logger logger) {
     }
 
     <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> eventType) {
+        // Read before baking, if the handlers change while we're baking
+        // the resulting cache will be considered stale.
+        final int generation = this.generation;
         final List<RegisteredListener<?>> handlers = new ArrayList<>();
         final Stream<? extends Class<?>> types = Types.allSuperTypesAndInterfaces(eventType.getType())
                 .map(GenericTypeReflector::erase)
@@ -165,7 +190,19 @@ <T extends Event> RegisteredListener.Cache bakeHandlers(final EventType<T> event
         }
 
         Collections.sort(handlers);
-        return new RegisteredListener.Cache(handlers);
+        return new RegisteredListener.Cache(handlers, generation);
+    }
+
+    private void invalidateHandlers() {
+        this.generation++;
+        this.handlersCache.invalidateAll();
+        // Release the stale listeners of non generic events as well, posting
+        // would only discard them once the event is posted again.
+        for (final Iterator<Class<?>> it = this.bakedClasses.iterator(); it.hasNext();) {
+            final Class<?> type = it.next();
+            it.remove();
+            this.handlersByClass.remove(type);
+        }
     }
 
     @Nullable
@@ -209,13 +246,13 @@ private void register(final List<RegisteredListener<? extends Event>> handlers)
                 final Class<?> raw = handler.getEventType().getType();
                 if (this.handlersByEvent.put(raw, handler)) {
                     changed = true;
-                    this.checker.registerListenerFor(raw);
+                    this.checker.registerListenerFor(handler.getEventType());
                 }
             }
         }
 
         if (changed) {
-            this.handlersCache.invalidateAll();
+            this.invalidateHandlers();
         }
     }
 
@@ -239,8 +276,11 @@ private void registerListener(PluginContainer plugin, Object listenerObject) {
         AnnotatedEventListener.Factory handlerFactory = this.classLoaders.get(handleLoader);
         if (handlerFactory == null) {
             final DefineableClassLoader classLoader = new DefineableClassLoader(handleLoader);
-            handlerFactory = new ClassEventListenerFactory("org.spongepowered.common.event.listener",
-                    new FilterFactory("org.spongepowered.common.event.filters", classLoader), classLoader);
+            final FilterFactory filterFactory = new FilterFactory("org.spongepowered.common.event.filters", classLoader);
+            handlerFactory = new ClassEventListenerFactory("org.spongepowered.common.event.listener", filterFactory, classLoader);
+            if (SpongeConfigs.getCommon().get().optimizations.lambdaEventListeners) {
+                handlerFactory = new LambdaEventListenerFactory(filterFactory, handlerFactory);
+            }
             this.classLoaders.put(handleLoader, handlerFactory);
         }
 
@@ -258,7 +298,15 @@ private void registerListener(PluginContainer plugin, Object listenerObject) {
                         continue;
                     }
 
-                    handlers.add(SpongeEventManager.createRegistration(plugin, eventType, listener, handler));
+                    final boolean untracked = method.isAnnotationPresent(UntrackedListener.class)
+                            || handle.isAnnotationPresent(UntrackedListener.class);
+                    EntityTypeFilter entityTypes = method.getAnnotation(EntityTypeFilter.class);
+                    if (entityTypes == null) {
+                        entityTypes = handle.getAnnotation(EntityTypeFilter.class);
+                    }
+                    final Predicate<EntityType<?>> entityTypeFilter = entityTypes == null ? null
+                            : SpongeEventManager.createEntityTypeFilter(entityTypes);
+                    handlers.add(SpongeEventManager.createRegistration(plugin, eventType, listener, untracked, entityTypeFilter, handler));
                 } else {
                     methodErrors.put(method, error);
                 }
@@ -287,20 +335,36 @@ private void registerListener(PluginContainer plugin, Object listenerObject) {
         this.register(handlers);
     }
 
+    private static Predicate<EntityType<?>> createEntityTypeFilter(final EntityTypeFilter filter) {
+        final Set<ResourceLocation> keys = new HashSet<>();
+        for (final String key : filter.value()) {
+            keys.add(new ResourceLocation(key));
+        }
+        // Entity types are only known once the registries are loaded, so
+        // resolve them on first use and remember the outcome
+        final Map<EntityType<?>, Boolean> accepted = new ConcurrentHashMap<>();
+        return type -> accepted.computeIfAbsent(type,
+                t -> keys.contains(Registry.ENTITY_TYPE.getKey((net.minecraft.world.entity.EntityType<?>) t)));
+    }
+
     private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventClass,
-            final Listener listener, final EventListener<? super T> handler) {
-        return SpongeEventManager.createRegistration(plugin, eventClass, listener.order(), listener.beforeModifications(), handler);
+            final Listener listener, final boolean untracked, @Nullable final Predicate<EntityType<?>> entityTypeFilter,
+            final EventListener<? super T> handler) {
+        return SpongeEventManager.createRegistration(plugin, eventClass, listener.order(), listener.beforeModifications(), untracked,
+                entityTypeFilter, handler);
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
     private static <T extends Event> RegisteredListener<T> createRegistration(final PluginContainer plugin, final Type eventType,
-            final Order order, final boolean beforeModifications, final EventListener<? super T> handler) {
+            final Order order, final boolean beforeModifications, final boolean untracked,
+            @Nullable final Predicate<EntityType<?>> entityTypeFilter, final EventListener<? super T> handler) {
         Type genericType = null;
         final Class<?> erased = GenericTypeReflector.erase(eventType);
         if (GenericEvent.class.isAssignableFrom(erased)) {
             genericType = TypeTokenUtil.typeArgumentFromSupertype(eventType, GenericEvent.class, 0);
         }
-        return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, beforeModifications);
+        return new RegisteredListener(plugin, new EventType(erased, genericType), order, handler, beforeModifications, untracked,
+                entityTypeFilter);
     }
 
     @Override
@@ -340,7 +404,30 @@ public <T extends Event> void registerListener(final PluginContainer plugin, fin
     @Override
     public <T extends Event> void registerListener(final PluginContainer plugin, final TypeToken<T> eventType, final Order order,
             final boolean beforeModifications, final EventListener<? super T> listener) {
-        this.register(SpongeEventManager.createRegistration(plugin, eventType.getType(), order, beforeModifications, listener));
+        final boolean untracked = listener.getClass().isAnnotationPresent(UntrackedListener.class);
+        final EntityTypeFilter entityTypes = listener.getClass().getAnnotation(EntityTypeFilter.class);
+        final Predicate<EntityType<?>> entityTypeFilter = entityTypes == null ? null : SpongeEventManager.createEntityTypeFilter(entityTypes);
+        this.register(SpongeEventManager.createRegistration(plugin, eventType.getType(), order, beforeModifications, untracked,
+                entityTypeFilter, listener));
+    }
+
+    /**
+     * Registers a listener which only receives events concerning entities
+     * whose type matches the given filter. Events which do not concern a
+     * single entity are always passed to the listener.
+     *
+     * @param plugin The plugin instance
+     * @param eventClass The event class
+     * @param order The order the listener will get called at
+     * @param entityTypeFilter The filter on the entity types
+     * @param listener The listener to receive the events
+     * @param <T> The type of the event
+     */
+    public <T extends Event> void registerListener(final PluginContainer plugin, final Class<T> eventClass, final Order order,
+            final Predicate<EntityType<?>> entityTypeFilter, final EventListener<? super T> listener) {
+        checkNotNull(entityTypeFilter, "entityTypeFilter");
+        final boolean untracked = listener.getClass().isAnnotationPresent(UntrackedListener.class);
+        this.register(SpongeEventManager.createRegistration(plugin, eventClass, order, false, untracked, entityTypeFilter, listener));
     }
 
     private void unregister(final Predicate<RegisteredListener<?>> unregister) {
@@ -354,14 +441,14 @@ private void unregister(final Predicate<RegisteredListener<?>> unregister) {
                     itr.remove();
                     changed = true;
                     // TODO: This doesn't seem right, even as it was before
-                    this.checker.unregisterListenerFor(handler.getEventType().getType());
+                    this.checker.unregisterListenerFor(handler.getEventType());
                     this.registeredListeners.remove(handler.getHandle());
                 }
             }
         }
 
         if (changed) {
-            this.handlersCache.invalidateAll();
+            this.invalidateHandlers();
         }
     }
 
@@ -381,23 +468,49 @@ public void unregisterPluginListeners(final PluginContainer plugin) {
     protected RegisteredListener.Cache getHandlerCache(final Event event) {
         checkNotNull(event, "event");
         final Class<? extends Event> eventClass = event.getClass();
-        final EventType<? extends Event> eventType;
         if (event instanceof GenericEvent) {
-            eventType = new EventType(eventClass, checkNotNull(((GenericEvent) event).getParamType().getType()));
-        } else {
-            eventType = new EventType(eventClass, null);
+            final EventType<? extends Event> eventType = new EventType(eventClass, checkNotNull(((GenericEvent) event).getParamType().getType()));
+            return this.handlersCache.get(eventType);
+        }
+        return this.getHandlerCache(eventClass);
+    }
+
+    private RegisteredListener.Cache getHandlerCache(final Class<? extends Event> eventClass) {
+        RegisteredListener.Cache cache = this.handlersByClass.get(eventClass);
+        if (cache.generation != this.generation) {
+            this.handlersByClass.remove(eventClass);
+            cache = this.handlersByClass.get(eventClass);
         }
-        return this.handlersCache.get(eventType);
+        return cache;
+    }
+
+    /**
+     * Gets whether any listener would receive an event of the given non
+     * generic type concerning an entity of the given type. Checking this
+     * allows to skip constructing events nobody is interested in.
+     *
+     * @param eventClass The event class
+     * @param entityType The type of the entity concerned
+     * @return True if there is any interested listener
+     */
+    public boolean hasListeners(final Class<? extends Event> eventClass, final EntityType<?> entityType) {
+        return this.getHandlerCache(eventClass).hasListeners(entityType);
     }
 
     @SuppressWarnings("unchecked")
-    private boolean post(final Event event, final List<RegisteredListener<?>> handlers) {
+    private boolean post(final Event event, final RegisteredListener<?>[] handlers) {
+        if (handlers.length == 0) {
+            return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+        }
         final Engine engine = EngineUtil.determineEngine();
 
         // If this event is being posted asynchronously then we don't want
         // to do any timing or cause stack changes
         if (engine == null) {
             for (final RegisteredListener handler : handlers) {
+                if (!handler.accepts(event)) {
+                    continue;
+                }
                 try {
                     if (event instanceof AbstractEvent) {
                         ((AbstractEvent) event).currentOrder = handler.getOrder();
@@ -415,40 +528,67 @@ private boolean post(final Event event, final List<RegisteredListener<?>> handle
             }
             return event instanceof Cancellable && ((Cancellable) event).isCancelled();
         }
-        TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
+        final boolean timingsEnabled = Timings.isTimingsEnabled();
+        if (timingsEnabled) {
+            TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
+        }
+        // The current phase won't change between listeners, as each listener
+        // closes the phase it enters.
+        final boolean allowsListenerPhase = PhaseTracker.getInstance().getPhaseContext().allowsEventListener();
         for (@SuppressWarnings("rawtypes") final RegisteredListener handler : handlers) {
-            try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame();
-                 final PhaseContext<?> context = this.createPluginContext(handler);
-                 final Timing timings = handler.getTimingsHandler()) {
-                frame.pushCause(handler.getPlugin());
-                if (context != null) {
-                    context.buildAndSwitch();
+            if (!handler.accepts(event)) {
+                continue;
+            }
+            try {
+                if (handler.isUntracked()) {
+                    SpongeEventManager.handle(event, handler, timingsEnabled);
+                    continue;
                 }
-                timings.startTimingIfSync();
-                if (event instanceof AbstractEvent) {
-                    ((AbstractEvent) event).currentOrder = handler.getOrder();
+                try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame();
+                     @Nullable final PhaseContext<?> context = allowsListenerPhase ? this.createPluginContext(handler) : null) {
+                    frame.pushCause(handler.getPlugin());
+                    if (context != null) {
+                        context.buildAndSwitch();
+                    }
+                    SpongeEventManager.handle(event, handler, timingsEnabled);
                 }
-                SpongeCommon.setActivePlugin(handler.getPlugin());
-                handler.handle(event);
             } catch (Throwable e) {
                 this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin().getMetadata().getId(), e);
-            } finally {
-                SpongeCommon.setActivePlugin(null);
             }
         }
         if (event instanceof AbstractEvent) {
             ((AbstractEvent) event).currentOrder = null;
         }
+        if (timingsEnabled) {
+            TimingsManager.PLUGIN_EVENT_HANDLER.stopTimingIfSync();
+        }
         return event instanceof Cancellable && ((Cancellable) event).isCancelled();
     }
 
-    @Nullable
-    private EventListenerPhaseContext createPluginContext(final RegisteredListener<?> handler) {
-        if (PhaseTracker.getInstance().getPhaseContext().allowsEventListener()) {
-            return PluginPhase.Listener.GENERAL_LISTENER.createPhaseContext(PhaseTracker.getInstance())
-                .source(handler.getPlugin());
+    @SuppressWarnings("unchecked")
+    private static void handle(final Event event, @SuppressWarnings("rawtypes") final RegisteredListener handler, final boolean timingsEnabled)
+            throws Exception {
+        if (event instanceof AbstractEvent) {
+            ((AbstractEvent) event).currentOrder = handler.getOrder();
+        }
+        SpongeCommon.setActivePlugin(handler.getPlugin());
+        try {
+            if (!timingsEnabled) {
+                handler.handle(event);
+                return;
+            }
+            try (final Timing timings = handler.getTimingsHandler()) {
+                timings.startTimingIfSync();
+                handler.handle(event);
+            }
+        } finally {
+            SpongeCommon.setActivePlugin(null);
         }
-        return null;
+    }
+
+    private EventListenerPhaseContext createPluginContext(final RegisteredListener<?> handler) {
+        return PluginPhase.Listener.GENERAL_LISTENER.createPhaseContext(PhaseTracker.getInstance())
+            .source(handler.getPlugin());
     }
 
     @Override
@@ -460,7 +600,7 @@ public boolean post(final Event event) {
             // Allow the client thread by default so devs can actually
             // call their own events inside the init events. Only allowing
             // this as long that there is no server available
-            return this.post(event, this.getHandlerCache(event).getListeners());
+            return this.post(event, this.getHandlerCache(event).getListenerArray());
         } finally {
             if (event instanceof InteractContainerEvent) { // Finished using Container
                 ((ContainerBridge) ((InteractContainerEvent) event).getContainer()).bridge$setInUse(false);
@@ -470,9 +610,9 @@ public boolean post(final Event event) {
 
     public boolean post(final Event event, final PluginContainer plugin) {
         final List<RegisteredListener<?>> listeners = this.getHandlerCache(event).getListeners();
-        final List<RegisteredListener<?>> pluginListeners = listeners.stream()
+        final RegisteredListener<?>[] pluginListeners = listeners.stream()
             .filter(l -> l.getPlugin() == plugin)
-            .collect(Collectors.toList());
+            .toArray(RegisteredListener<?>[]::new);
         return this.post(event, pluginListeners);
     }
 }
@@ -134,7 +134,7 @@ public P addBlockCaptures() {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         this.checkBlockSuppliers();
 
-        this.transactor = new TransactionalCaptureSupplier();
+        this.transactor = new TransactionalCaptureSupplier(this.createdTracker);
         return (P) this;
     }
 
@@ -319,7 +319,7 @@ public List<SpongeBlockSnapshot> getCapturedOriginalBlocksChanged() throws Illeg
 
     public TransactionalCaptureSupplier getTransactor() {
         if (this.transactor == null) {
-            this.transactor = new TransactionalCaptureSupplier();
+            this.transactor = new TransactionalCaptureSupplier(this.createdTracker);
         }
         return this.transactor;
     }
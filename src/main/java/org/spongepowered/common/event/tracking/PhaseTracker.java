@@ -47,6 +47,7 @@
 import org.spongepowered.common.applaunch.config.common.PhaseTrackerCategory;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.event.cause.entity.SpongeSpawnTypes;
+import org.spongepowered.common.event.tracking.context.transaction.TransactionPool;
 import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
 import org.spongepowered.common.event.tracking.phase.tick.TickPhase;
 import org.spongepowered.common.launch.Launch;
@@ -459,6 +460,12 @@ public <C extends PhaseContext<C>> ArrayDeque<C> getContextPoolFor(final PooledP
         return (ArrayDeque<C>) this.stateContextPool.computeIfAbsent(state, (newState) -> new ArrayDeque<>());
     }
 
+    private final TransactionPool transactionPool = new TransactionPool();
+
+    public TransactionPool getTransactionPool() {
+        return this.transactionPool;
+    }
+
     @Override
     public boolean equals(final @Nullable Object o) {
         if (this == o) {
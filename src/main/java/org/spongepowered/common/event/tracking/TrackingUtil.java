@@ -37,18 +37,23 @@
 import org.spongepowered.api.block.entity.BlockEntity;
 import org.spongepowered.api.data.Transaction;
 import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.entity.EntityType;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.block.TickBlockEvent;
+import org.spongepowered.api.event.entity.MoveEntityEvent;
+import org.spongepowered.api.event.entity.RotateEntityEvent;
 import org.spongepowered.api.world.BlockChangeFlag;
 import org.spongepowered.api.world.BlockChangeFlags;
 import org.spongepowered.api.world.LocatableBlock;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
+import org.spongepowered.common.block.entity.BlockEntityActivation;
 import org.spongepowered.common.bridge.CreatorTrackedBridge;
 import org.spongepowered.common.bridge.TimingBridge;
 import org.spongepowered.common.bridge.TrackableBridge;
+import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
 import org.spongepowered.common.bridge.block.TrackerBlockEventDataBridge;
 import org.spongepowered.common.bridge.tileentity.TileEntityBridge;
 import org.spongepowered.common.bridge.world.TrackedWorldBridge;
@@ -58,6 +63,7 @@
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
+import org.spongepowered.common.event.SpongeEventManager;
 import org.spongepowered.common.event.tracking.context.transaction.TransactionalCaptureSupplier;
 import org.spongepowered.common.event.tracking.phase.tick.BlockEventTickContext;
 import org.spongepowered.common.event.tracking.phase.tick.BlockTickContext;
@@ -66,7 +72,6 @@
 import org.spongepowered.common.event.tracking.phase.tick.TickPhase;
 import org.spongepowered.common.event.tracking.phase.tick.TileEntityTickContext;
 import org.spongepowered.common.util.PrettyPrinter;
-import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.BlockChange;
 import org.spongepowered.common.world.server.SpongeLocatableBlockBuilder;
 
@@ -116,12 +121,45 @@ public final class TrackingUtil {
         });
     public static final int WIDTH = 40;
 
+    /**
+     * The context shared by consecutive untracked entity and block entity
+     * ticks, entered lazily by the first of them and closed as soon as a
+     * tracked tick follows or the world finishes ticking its entities.
+     */
+    @Nullable private static PhaseContext<?> untrackedTickContext;
+
+    private static PhaseContext<?> enterUntrackedTicks() {
+        if (TrackingUtil.untrackedTickContext == null) {
+            TrackingUtil.untrackedTickContext = TickPhase.Tick.UNTRACKED.createPhaseContext(PhaseTracker.SERVER).buildAndSwitch();
+        }
+        return TrackingUtil.untrackedTickContext;
+    }
+
+    public static void finishUntrackedTicks() {
+        final PhaseContext<?> context = TrackingUtil.untrackedTickContext;
+        if (context != null) {
+            TrackingUtil.untrackedTickContext = null;
+            context.close();
+        }
+    }
+
     public static void tickEntity(final Consumer<net.minecraft.world.entity.Entity> consumer, final net.minecraft.world.entity.Entity entity) {
         checkArgument(entity instanceof Entity, "Entity %s is not an instance of SpongeAPI's Entity!", entity);
         checkNotNull(entity, "Cannot capture on a null ticking entity!");
         if (!((TrackableBridge) entity).bridge$shouldTick()) {
             return;
         }
+        if (((TrackableBridge) entity).bridge$allowsUntrackedTicks()) {
+            final PhaseContext<?> context = TrackingUtil.enterUntrackedTicks();
+            try {
+                consumer.accept(entity);
+                TrackingUtil.callNaturalMovementEvents(entity);
+            } catch (final Exception e) {
+                PhasePrinter.printExceptionFromPhase(PhaseTracker.getInstance().stack, e, context);
+            }
+            return;
+        }
+        TrackingUtil.finishUntrackedTicks();
 
         final EntityTickContext tickContext = TickPhase.Tick.ENTITY.createPhaseContext(PhaseTracker.SERVER).source(entity);
         try (final EntityTickContext context = tickContext;
@@ -136,23 +174,59 @@ public static void tickEntity(final Consumer<net.minecraft.world.entity.Entity>
             context.buildAndSwitch();
             entityTiming.startTiming();
             consumer.accept(entity);
-            if (ShouldFire.MOVE_ENTITY_EVENT) {
-                SpongeCommonEventFactory.callNaturalMoveEntityEvent(entity);
-            }
-            if (ShouldFire.ROTATE_ENTITY_EVENT) {
-                SpongeCommonEventFactory.callNaturalRotateEntityEvent(entity);
-            }
+            TrackingUtil.callNaturalMovementEvents(entity);
         } catch (final Exception e) {
             PhasePrinter.printExceptionFromPhase(PhaseTracker.getInstance().stack, e, tickContext);
         }
     }
 
+    private static void callNaturalMovementEvents(final net.minecraft.world.entity.Entity entity) {
+        if (!ShouldFire.MOVE_ENTITY_EVENT && !ShouldFire.ROTATE_ENTITY_EVENT) {
+            return;
+        }
+        // Don't construct the events for entity types no listener is interested in
+        final SpongeEventManager eventManager = (SpongeEventManager) SpongeCommon.getGame().getEventManager();
+        final EntityType<?> entityType = ((Entity) entity).getType();
+        if (ShouldFire.MOVE_ENTITY_EVENT && eventManager.hasListeners(MoveEntityEvent.class, entityType)) {
+            SpongeCommonEventFactory.callNaturalMoveEntityEvent(entity);
+        }
+        if (ShouldFire.ROTATE_ENTITY_EVENT && eventManager.hasListeners(RotateEntityEvent.class, entityType)) {
+            SpongeCommonEventFactory.callNaturalRotateEntityEvent(entity);
+        }
+    }
+
     public static void tickRidingEntity(final net.minecraft.world.entity.Entity entity) {
         checkArgument(entity instanceof Entity, "Entity %s is not an instance of SpongeAPI's Entity!", entity);
         checkNotNull(entity, "Cannot capture on a null ticking entity!");
         if (!((TrackableBridge) entity).bridge$shouldTick()) {
             return;
         }
+        if (((TrackableBridge) entity).bridge$allowsUntrackedTicks()) {
+            final PhaseContext<?> shared = TrackingUtil.untrackedTickContext;
+            if (shared != null && PhaseTracker.SERVER.getPhaseContext() == shared) {
+                // The vehicle ticked untracked as well, keep sharing its context
+                try {
+                    entity.rideTick();
+                    TrackingUtil.callNaturalMovementEvents(entity);
+                } catch (final Exception e) {
+                    PhasePrinter.printExceptionFromPhase(PhaseTracker.getInstance().stack, e, shared);
+                }
+                return;
+            }
+            // The vehicle's tracked context is still open below us, so the
+            // shared context can't be entered here without outliving it
+            final PhaseContext<?> untrackedContext = TickPhase.Tick.UNTRACKED.createPhaseContext(PhaseTracker.SERVER);
+            try (final PhaseContext<?> context = untrackedContext) {
+                context.buildAndSwitch();
+                entity.rideTick();
+                TrackingUtil.callNaturalMovementEvents(entity);
+            } catch (final Exception e) {
+                PhasePrinter.printExceptionFromPhase(PhaseTracker.getInstance().stack, e, untrackedContext);
+            }
+            return;
+        }
+        // Passengers tick inside their vehicle's tick, so a tracked passenger
+        // pushes its context on top of the vehicle's, shared untracked or not
 
         final EntityTickContext tickContext = TickPhase.Tick.ENTITY.createPhaseContext(PhaseTracker.SERVER).source(entity);
         try (
@@ -168,12 +242,7 @@ public static void tickRidingEntity(final net.minecraft.world.entity.Entity enti
             }
             context.buildAndSwitch();
             entity.rideTick();
-            if (ShouldFire.MOVE_ENTITY_EVENT) {
-                SpongeCommonEventFactory.callNaturalMoveEntityEvent(entity);
-            }
-            if (ShouldFire.ROTATE_ENTITY_EVENT) {
-                SpongeCommonEventFactory.callNaturalRotateEntityEvent(entity);
-            }
+            TrackingUtil.callNaturalMovementEvents(entity);
         } catch (final Exception e) {
             PhasePrinter.printExceptionFromPhase(PhaseTracker.getInstance().stack, e, tickContext);
         }
@@ -193,6 +262,24 @@ public static void tickTileEntity(final TrackedWorldBridge mixinWorldServer, fin
         if (chunk == null) {
             ((ActiveChunkReferantBridge) tile).bridge$setActiveChunk((TrackedChunkBridge) tileEntity.getLevel().getChunkAt(tileEntity.getBlockPos()));
         }
+        // Only present when the block entity activation module is enabled
+        if (tile instanceof ActivationCapabilityBridge && !BlockEntityActivation.checkIfActive(tileEntity)) {
+            return;
+        }
+
+        if (((TrackableBridge) tileEntity).bridge$allowsUntrackedTicks()) {
+            final PhaseContext<?> untrackedContext = TrackingUtil.enterUntrackedTicks();
+            try {
+                tile.tick();
+            } catch (final Exception e) {
+                PhasePrinter.printExceptionFromPhase(PhaseTracker.getInstance().stack, e, untrackedContext);
+            }
+            if (tileEntity.isRemoved()) {
+                ((ActiveChunkReferantBridge) tileEntity).bridge$setActiveChunk(null);
+            }
+            return;
+        }
+        TrackingUtil.finishUntrackedTicks();
 
         final TileEntityTickContext context = TickPhase.Tick.TILE_ENTITY.createPhaseContext(PhaseTracker.SERVER).source(mixinTileEntity);
         try (final PhaseContext<?> phaseContext = context) {
@@ -511,7 +598,7 @@ public static SpongeBlockSnapshot createPooledSnapshot(final net.minecraft.world
         builder.reset();
         builder.blockState(state)
                 .world(worldSupplier.get())
-                .position(VecHelper.toVector3i(pos));
+                .position(pos);
         creatorSupplier.get().ifPresent(builder::creator);
         notifierSupplier.get().ifPresent(builder::notifier);
         if (blockEntity != null) {
@@ -56,8 +56,8 @@
 
 abstract class BlockEventBasedTransaction extends GameTransaction<ChangeBlockEvent.All> {
 
-    final BlockPos affectedPosition;
-    final BlockState originalState;
+    BlockPos affectedPosition;
+    BlockState originalState;
 
     BlockEventBasedTransaction(final BlockPos affectedPosition, final BlockState originalState, final ResourceKey worldKey) {
         super(TransactionTypes.BLOCK.get(), worldKey);
@@ -65,6 +65,23 @@ abstract class BlockEventBasedTransaction extends GameTransaction<ChangeBlockEve
         this.originalState = originalState;
     }
 
+    BlockEventBasedTransaction() {
+        super(TransactionTypes.BLOCK.get());
+    }
+
+    final void populateBlock(final BlockPos affectedPosition, final BlockState originalState, final ResourceKey worldKey) {
+        this.affectedPosition = affectedPosition.immutable();
+        this.originalState = originalState;
+        this.worldKey = worldKey;
+    }
+
+    @Override
+    void recycle() {
+        super.recycle();
+        this.affectedPosition = null;
+        this.originalState = null;
+    }
+
     @Override
     public final Optional<ChangeBlockEvent.All> generateEvent(final PhaseContext<@NonNull ?> context,
         final @Nullable GameTransaction<@NonNull ?> parent,
@@ -78,6 +95,7 @@ public final Optional<ChangeBlockEvent.All> generateEvent(final PhaseContext<@No
         }
         final ListMultimap<BlockPos, SpongeBlockSnapshot> positions = LinkedListMultimap.create();
         for (final GameTransaction<@NonNull ?> transaction : transactions) {
+            transaction.ensureNotRecycled();
             final BlockEventBasedTransaction blockTransaction = (BlockEventBasedTransaction) transaction;
             if (!positions.containsKey(blockTransaction.affectedPosition)) {
                 positions.put(
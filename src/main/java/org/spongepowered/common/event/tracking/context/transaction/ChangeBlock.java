@@ -54,33 +54,50 @@
 @DefaultQualifier(NonNull.class)
 public final class ChangeBlock extends BlockEventBasedTransaction {
 
-    final SpongeBlockSnapshot original;
-    final int originalOpacity;
-    final BlockState newState;
-    final SpongeBlockChangeFlag blockChangeFlag;
+    SpongeBlockSnapshot original;
+    int originalOpacity;
+    BlockState newState;
+    SpongeBlockChangeFlag blockChangeFlag;
     @Nullable public BlockEntity queuedRemoval;
     @Nullable public BlockEntity queuedAdd;
 
-    ChangeBlock(final SpongeBlockSnapshot attachedSnapshot, final BlockState newState,
+    // Instances are obtained through TransactionPool#changeBlock
+    ChangeBlock() {
+    }
+
+    void populate(final SpongeBlockSnapshot attachedSnapshot, final BlockState newState,
         final SpongeBlockChangeFlag blockChange
     ) {
-        super(attachedSnapshot.getBlockPos(), (BlockState) attachedSnapshot.getState(), attachedSnapshot.getWorld());
+        this.populateBlock(attachedSnapshot.getBlockPos(), (BlockState) attachedSnapshot.getState(), attachedSnapshot.getWorld());
         this.original = attachedSnapshot;
         this.newState = newState;
         this.blockChangeFlag = blockChange;
         this.originalOpacity = this.originalState.getLightBlock(this.original.getServerWorld().get(), this.affectedPosition);
     }
 
+    @Override
+    void recycle() {
+        super.recycle();
+        this.original = null;
+        this.originalOpacity = 0;
+        this.newState = null;
+        this.blockChangeFlag = null;
+        this.queuedRemoval = null;
+        this.queuedAdd = null;
+    }
+
     public BlockState getNewState() {
+        this.ensureNotRecycled();
         return this.newState;
     }
 
     public SpongeBlockChangeFlag getBlockChangeFlag() {
+        this.ensureNotRecycled();
         return this.blockChangeFlag;
     }
 
     public void populateChunkEffects(final ChunkPipeline.Builder builder) {
-
+        this.ensureNotRecycled();
         builder.addEffect(SetBlockToChunkSectionEffect.getInstance());
         builder.addEffect(UpdateHeightMapEffect.getInstance());
         builder.addEffect(UpdateChunkLightManagerEffect.getInstance());
@@ -101,6 +118,7 @@ public void populateChunkEffects(final ChunkPipeline.Builder builder) {
 
     @Override
     public boolean acceptTileAddition(final BlockEntity tileEntity) {
+        this.ensureNotRecycled();
         if (this.queuedAdd == tileEntity) {
             return true;
         }
@@ -116,6 +134,7 @@ public boolean acceptTileAddition(final BlockEntity tileEntity) {
 
     @Override
     public boolean acceptTileRemoval(final @Nullable BlockEntity tileentity) {
+        this.ensureNotRecycled();
         if (this.queuedRemoval == tileentity) {
             return true;
         }
@@ -136,6 +155,7 @@ public boolean acceptTileReplacement(final @Nullable BlockEntity existing, final
 
     @Override
     public void restore() {
+        this.ensureNotRecycled();
         this.original.restore(true, BlockChangeFlagManager.fromNativeInt(Constants.BlockChangeFlags.FORCED_RESTORE));
     }
 
@@ -50,8 +50,10 @@
 public abstract class GameTransaction<E extends Event & Cancellable> {
 
     private final TransactionType<? extends E> transactionType;
-    protected final ResourceKey worldKey;
+    protected ResourceKey worldKey;
     boolean cancelled = false;
+    // Only set when verifying recycled transactions, see TransactionPool
+    @Nullable Exception recycledAt;
 
     // Children Definitions
     @Nullable LinkedList<ResultingTransactionBySideEffect> sideEffects;
@@ -65,6 +67,29 @@
         this.worldKey = worldKey;
     }
 
+    GameTransaction(final TransactionType<? extends E> transactionType) {
+        this.transactionType = transactionType;
+    }
+
+    /**
+     * Clears the node state of this transaction before it is handed back to
+     * its {@link TransactionPool}. Pooled transaction types override this to
+     * drop any references they hold on to.
+     */
+    void recycle() {
+        this.worldKey = null;
+        this.cancelled = false;
+        this.sideEffects = null;
+        this.previous = null;
+        this.next = null;
+    }
+
+    final void ensureNotRecycled() {
+        if (this.recycledAt != null) {
+            throw new IllegalStateException("Transaction " + this + " is still in use after being recycled", this.recycledAt);
+        }
+    }
+
     @Override
     public String toString() {
         return new StringJoiner(", ", GameTransaction.class.getSimpleName() + "[", "]")
@@ -140,6 +165,7 @@ public abstract Optional<E> generateEvent(
     public abstract void restore();
 
     public void markCancelled() {
+        this.ensureNotRecycled();
         this.cancelled = true;
         if (this.sideEffects != null) {
             for (final ResultingTransactionBySideEffect sideEffect : this.sideEffects) {
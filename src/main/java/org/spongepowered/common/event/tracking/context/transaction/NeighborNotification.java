@@ -49,21 +49,26 @@
 import net.minecraft.world.level.block.state.BlockState;
 
 final class NeighborNotification extends GameTransaction<NotifyNeighborBlockEvent> {
-    final BlockState original;
-    final BlockPos notifyPos;
-    final Block sourceBlock;
-    final BlockPos sourcePos;
+    BlockState original;
+    BlockPos notifyPos;
+    Block sourceBlock;
+    BlockPos sourcePos;
     // State definitions
-    final BlockPos affectedPosition;
-    final BlockState originalState;
-    private final Supplier<ServerLevel> serverWorld;
-    private Supplier<LocatableBlock> locatableBlock;
+    BlockPos affectedPosition;
+    BlockState originalState;
+    private Supplier<ServerLevel> serverWorld;
+    @Nullable private LocatableBlock locatableBlock;
 
-    NeighborNotification(final Supplier<ServerLevel> serverWorldSupplier,
+    // Instances are obtained through TransactionPool#neighborNotification
+    NeighborNotification() {
+        super(TransactionTypes.NEIGHBOR_NOTIFICATION.get());
+    }
+
+    void populate(final Supplier<ServerLevel> serverWorldSupplier,
         final BlockState notifyState, final BlockPos notifyPos,
         final Block sourceBlock, final BlockPos sourcePos
     ) {
-        super(TransactionTypes.NEIGHBOR_NOTIFICATION.get(), ((org.spongepowered.api.world.server.ServerWorld) serverWorldSupplier.get()).getKey());
+        this.worldKey = ((org.spongepowered.api.world.server.ServerWorld) serverWorldSupplier.get()).getKey();
         this.affectedPosition = sourcePos;
         this.originalState = notifyState;
         this.serverWorld = serverWorldSupplier;
@@ -71,16 +76,30 @@ final class NeighborNotification extends GameTransaction<NotifyNeighborBlockEven
         this.sourceBlock = sourceBlock;
         this.sourcePos = sourcePos;
         this.original = serverWorldSupplier.get().getBlockState(sourcePos);
-        // This is one way to have lazily initialized fields
-        this.locatableBlock = () -> {
-            final LocatableBlock locatableBlock = new SpongeLocatableBlockBuilder()
+    }
+
+    @Override
+    void recycle() {
+        super.recycle();
+        this.original = null;
+        this.notifyPos = null;
+        this.sourceBlock = null;
+        this.sourcePos = null;
+        this.affectedPosition = null;
+        this.originalState = null;
+        this.serverWorld = null;
+        this.locatableBlock = null;
+    }
+
+    private LocatableBlock getLocatableBlock() {
+        if (this.locatableBlock == null) {
+            this.locatableBlock = new SpongeLocatableBlockBuilder()
                 .world(this.serverWorld)
                 .position(this.sourcePos.getX(), this.sourcePos.getY(), this.sourcePos.getZ())
                 .state((org.spongepowered.api.block.BlockState) this.original)
                 .build();
-            this.locatableBlock = () -> locatableBlock;
-            return locatableBlock;
-        };
+        }
+        return this.locatableBlock;
     }
 
     @Override
@@ -102,8 +121,10 @@ public String toString() {
     public Optional<BiConsumer<PhaseContext<@NonNull ?>, CauseStackManager.StackFrame>> getFrameMutator(
         @Nullable GameTransaction<@NonNull ?> parent
     ) {
+        this.ensureNotRecycled();
+        final LocatableBlock locatableBlock = this.getLocatableBlock();
         return Optional.of((context, frame) -> {
-            frame.pushCause(this.locatableBlock.get());
+            frame.pushCause(locatableBlock);
         });
     }
 
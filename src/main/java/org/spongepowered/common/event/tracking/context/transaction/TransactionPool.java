@@ -0,0 +1,113 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking.context.transaction;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.world.SpongeBlockChangeFlag;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+/**
+ * Recycles the most frequently captured {@link GameTransaction} nodes of a
+ * {@link org.spongepowered.common.event.tracking.PhaseTracker}, such that a
+ * piston or TNT chain capturing thousands of block changes in a single tick
+ * does not allocate a new node for each of them. Nodes are released once the
+ * owning {@link TransactionalCaptureSupplier} is reset after its transactions
+ * have been processed.
+ *
+ * <p>Like the phase context pools, a pool is only ever accessed from the
+ * sided thread of its tracker.</p>
+ */
+public final class TransactionPool {
+
+    private static final int MAX_POOLED = 4096;
+
+    private final ArrayDeque<ChangeBlock> changeBlocks = new ArrayDeque<>();
+    private final ArrayDeque<NeighborNotification> neighborNotifications = new ArrayDeque<>();
+
+    ChangeBlock changeBlock(final SpongeBlockSnapshot original, final BlockState newState, final SpongeBlockChangeFlag flag) {
+        @Nullable ChangeBlock changeBlock = this.changeBlocks.pollFirst();
+        if (changeBlock == null) {
+            changeBlock = new ChangeBlock();
+        }
+        changeBlock.populate(original, newState, flag);
+        return changeBlock;
+    }
+
+    NeighborNotification neighborNotification(final Supplier<ServerLevel> serverWorldSupplier, final BlockState notifyState,
+        final BlockPos notifyPos, final Block sourceBlock, final BlockPos sourcePos
+    ) {
+        @Nullable NeighborNotification notification = this.neighborNotifications.pollFirst();
+        if (notification == null) {
+            notification = new NeighborNotification();
+        }
+        notification.populate(serverWorldSupplier, notifyState, notifyPos, sourceBlock, sourcePos);
+        return notification;
+    }
+
+    /**
+     * Releases the given chain of transactions, along with all of their side
+     * effect children, back to this pool. With the phase tracker's
+     * {@code verify-recycled-transactions} option enabled, released nodes are
+     * instead marked as recycled and never handed out again, so that any
+     * further use of them fails fast.
+     *
+     * @param head The first transaction of the chain
+     */
+    void release(@Nullable final GameTransaction<@NonNull ?> head) {
+        final boolean verify = SpongeConfigs.getCommon().get().phaseTracker.verifyRecycledTransactions;
+        @Nullable GameTransaction<@NonNull ?> node = head;
+        while (node != null) {
+            final @Nullable GameTransaction<@NonNull ?> next = node.next;
+            if (node.sideEffects != null) {
+                for (final ResultingTransactionBySideEffect sideEffect : node.sideEffects) {
+                    this.release(sideEffect.head);
+                }
+            }
+            if (node instanceof ChangeBlock || node instanceof NeighborNotification) {
+                node.recycle();
+                if (verify) {
+                    node.recycledAt = new Exception("Transaction recycled");
+                } else if (node instanceof ChangeBlock) {
+                    if (this.changeBlocks.size() < TransactionPool.MAX_POOLED) {
+                        this.changeBlocks.push((ChangeBlock) node);
+                    }
+                } else if (this.neighborNotifications.size() < TransactionPool.MAX_POOLED) {
+                    this.neighborNotifications.push((NeighborNotification) node);
+                }
+            }
+            node = next;
+        }
+    }
+
+}
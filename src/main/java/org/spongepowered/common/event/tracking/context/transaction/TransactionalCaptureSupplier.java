@@ -84,8 +84,10 @@ public final class TransactionalCaptureSupplier implements ICaptureSupplier {
     @Nullable private GameTransaction tail;
     @Nullable private GameTransaction head;
     @Nullable private ResultingTransactionBySideEffect effect;
+    private final TransactionPool pool;
 
-    public TransactionalCaptureSupplier() {
+    public TransactionalCaptureSupplier(final PhaseTracker tracker) {
+        this.pool = tracker.getTransactionPool();
     }
 
 
@@ -146,7 +148,7 @@ private void logTransaction(final GameTransaction transaction) {
     public ChangeBlock logBlockChange(final SpongeBlockSnapshot originalBlockSnapshot, final BlockState newState,
         final BlockChangeFlag flags
     ) {
-        final ChangeBlock changeBlock = new ChangeBlock(
+        final ChangeBlock changeBlock = this.pool.changeBlock(
             originalBlockSnapshot, newState, (SpongeBlockChangeFlag) flags
         );
         this.logTransaction(changeBlock);
@@ -199,7 +201,7 @@ public void logNeighborNotification(final Supplier<ServerLevel> serverWorldSuppl
         final BlockPos immutableTarget, final BlockState targetBlockState,
         @Nullable final BlockEntity existingTile
     ) {
-        final NeighborNotification notificationTransaction = new NeighborNotification(serverWorldSupplier, targetBlockState, immutableTarget, blockIn, immutableFrom);
+        final NeighborNotification notificationTransaction = this.pool.neighborNotification(serverWorldSupplier, targetBlockState, immutableTarget, blockIn, immutableFrom);
         this.logTransaction(notificationTransaction);
     }
 
@@ -367,6 +369,7 @@ private AddTileEntity createTileAdditionTransaction(final BlockEntity tileentity
     }
 
     public void clear() {
+        this.pool.release(this.head);
         this.head = null;
         this.tail = null;
         this.effect = null;
@@ -551,6 +554,7 @@ public String toString() {
 
     public void reset() {
         if (this.head != null) {
+            this.pool.release(this.head);
             this.head = null;
             this.tail = null;
         }
@@ -36,6 +36,7 @@ public static final class Tick {
         public static final IPhaseState<BlockTickContext> RANDOM_BLOCK = new BlockTickPhaseState("RandomBlockTickPhase");
 
         public static final IPhaseState<EntityTickContext> ENTITY = new EntityTickPhaseState();
+        public static final IPhaseState<UntrackedTickContext> UNTRACKED = new UntrackedTickPhaseState();
 
         public static final IPhaseState<DimensionContext> DIMENSION = new DimensionTickPhaseState();
         public static final IPhaseState<TileEntityTickContext> TILE_ENTITY = new TileEntityTickPhaseState();
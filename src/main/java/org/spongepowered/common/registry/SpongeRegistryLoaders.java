@@ -53,6 +53,7 @@
 import org.spongepowered.api.ResourceKey;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.block.transaction.Operation;
 import org.spongepowered.api.block.transaction.Operations;
 import org.spongepowered.api.command.parameter.managed.ValueParameter;
@@ -233,7 +234,9 @@
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.portal.EndPortalType;
 import org.spongepowered.common.world.portal.NetherPortalType;
+import org.spongepowered.common.world.schematic.PrimitiveIdPalette;
 import org.spongepowered.common.world.schematic.SpongePaletteType;
+import org.spongepowered.common.world.schematic.SpongePaletteTypes;
 import org.spongepowered.common.world.teleport.ConfigTeleportHelperFilter;
 import org.spongepowered.common.world.teleport.DefaultTeleportHelperFilter;
 import org.spongepowered.common.world.teleport.FlyingTeleportHelperFilter;
@@ -677,6 +680,11 @@ public static RegistryLoader<Operation> operation() {
                     (string, registry) -> BlockStateSerializerDeserializer.deserialize(string),
                     (registry, blockState) -> BlockStateSerializerDeserializer.serialize(blockState)
             ));
+            l.add(SpongePaletteTypes.BLOCK_STATE_ID_PALETTE, k -> new SpongePaletteType<BlockState, BlockType>(
+                    (string, registry) -> BlockStateSerializerDeserializer.deserialize(string),
+                    (registry, blockState) -> BlockStateSerializerDeserializer.serialize(blockState),
+                    (type, registry, registryType) -> PrimitiveIdPalette.ofBlockStates(type, registry, 64)
+            ));
         });
     }
 
@@ -73,6 +73,7 @@ public class WorldTimingsHandler {
     public final Timing causeTrackerBlockBreakTimer;
     public final Timing causeTrackerEntityTimer;
     public final Timing causeTrackerEntityItemTimer;
+    public final Timing neighborNotifications;
 
     // Chunk population
     public final Timing chunkPopulate;
@@ -119,6 +120,7 @@ public WorldTimingsHandler(Level world) {
         this.causeTrackerBlockBreakTimer = SpongeTimingsFactory.ofSafe(name + "causeTracker - BlockBreakCaptures");
         this.causeTrackerEntityTimer = SpongeTimingsFactory.ofSafe(name + "causeTracker - EntityCaptures");
         this.causeTrackerEntityItemTimer = SpongeTimingsFactory.ofSafe(name + "causeTracker - EntityItemCaptures");
+        this.neighborNotifications = SpongeTimingsFactory.ofSafe(name + "causeTracker - NeighborNotifications");
 
         this.chunkPopulate = SpongeTimingsFactory.ofSafe(name + "chunkPopulate");
     }
@@ -24,172 +24,154 @@
  */
 package org.spongepowered.common.scheduler;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.logging.log4j.Level;
 import org.spongepowered.api.scheduler.ScheduledTask;
 import org.spongepowered.api.util.Functional;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.util.PrettyPrinter;
+import org.spongepowered.plugin.PluginContainer;
 
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.LockSupport;
 
 public final class AsyncScheduler extends SpongeScheduler {
 
-    // Locking mechanism
-    private final Lock lock = new ReentrantLock();
-    private final Condition condition = this.lock.newCondition();
-    private final AtomicBoolean stateChanged = new AtomicBoolean(false);
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
-                                                                                   .setNameFormat("Sponge-AsyncScheduler-%d")
-                                                                                   .build());
+    // The executors of asynchronous tasks, as configured.
+    private final AsyncTaskExecutors executors = new AsyncTaskExecutors(SpongeConfigs.getCommon().get().asyncScheduler);
+    private final Thread thread;
     private volatile boolean running = true;
 
-    // Adjustable timeout for pending Tasks
-    private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
+    // The deadline the scheduler thread is parked until, tasks that are due
+    // earlier than this need to wake the thread up.
+    private volatile long parkedUntil = Long.MIN_VALUE;
 
     public AsyncScheduler() {
         super("A");
 
-        final Thread thread = new Thread(AsyncScheduler.this::mainLoop);
-        thread.setName("Sponge Async Scheduler Thread");
-        thread.setDaemon(true);
-        thread.start();
+        this.thread = new Thread(AsyncScheduler.this::mainLoop);
+        this.thread.setName("Sponge Async Scheduler Thread");
+        this.thread.setDaemon(true);
+        this.thread.start();
     }
 
     private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
         while (this.running) {
-            this.recalibrateMinimumTimeout();
             this.runTick();
         }
     }
 
-    private void recalibrateMinimumTimeout() {
-        this.lock.lock();
-        try {
-            final Set<ScheduledTask> tasks = this.getTasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            final long now = System.nanoTime();
-            for (final ScheduledTask tmpTask : tasks) {
-                final SpongeScheduledTask task = (SpongeScheduledTask) tmpTask;
-                if (task.getState() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-                    // bail out for this task. We'll signal when we complete the task.
-                    continue;
-                }
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.task.delay == 0 && task.task.interval == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                long timeSinceLast = now - task.getTimestamp();
-
-                if (task.task.delay > 0 && task.getState() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an delay and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.task.delay - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.task.interval > 0 && task.getState().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.task.interval - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
-            }
-        } finally {
-            this.lock.unlock();
+    /**
+     * Wakes up the scheduler thread if the task is due before the thread
+     * would otherwise wake up.
+     *
+     * @param task The task that was queued
+     */
+    private void signal(final SpongeScheduledTask task) {
+        if (task.queueIndex >= 0 && task.deadline < this.parkedUntil) {
+            LockSupport.unpark(this.thread);
         }
     }
 
     @Override
     protected void addTask(final SpongeScheduledTask task) {
-        this.lock.lock();
-        try {
-            super.addTask(task);
-            this.condition.signalAll();
-        } finally {
-            this.lock.unlock();
-        }
+        super.addTask(task);
+        this.signal(task);
     }
 
     @Override
     protected void preTick() {
-        this.lock.lock();
-        try {
-            // If we have something that has indicated it needs to change,
-            // don't await, just continue.
-            if (!this.stateChanged.get()) {
-                this.condition.await(this.minimumTimeout, TimeUnit.NANOSECONDS);
+        final long deadline = this.getNextDeadline();
+        this.parkedUntil = deadline;
+        // A task may have been queued before we published the deadline
+        // without waking us up, so check again before parking.
+        if (this.getNextDeadline() < deadline) {
+            this.parkedUntil = Long.MIN_VALUE;
+            return;
+        }
+        if (deadline == Long.MAX_VALUE) {
+            LockSupport.park(this);
+        } else {
+            final long timeout = deadline - System.nanoTime();
+            if (timeout > 0) {
+                LockSupport.parkNanos(this, timeout);
             }
-            // We're processing now. Set to false.
-            this.stateChanged.set(false);
-        } catch (final InterruptedException ignored) {
-            // The taskMap has been modified; there is work to do.
-            // Continue on without handling the Exception.
-        } catch (IllegalMonitorStateException e) {
-            SpongeCommon.getLogger().error("The scheduler internal state machine suffered a catastrophic error", e);
         }
+        this.parkedUntil = Long.MIN_VALUE;
     }
 
     @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
+    protected void onTaskCompletion(final SpongeScheduledTask task) {
+        // Repeating tasks are queued again on completion
+        this.signal(task);
     }
 
     @Override
-    protected void finallyPostTick() {
-        this.lock.unlock();
+    protected void executeTaskRunnable(SpongeScheduledTask task, Runnable runnable) {
+        try {
+            this.executors.execute(task.getOwner(), runnable, task.takeReservation());
+        } catch (final RejectedExecutionException e) {
+            if (this.running) {
+                SpongeCommon.getLogger().warn("Skipping an execution of the task '{}' owned by '{}': {}",
+                        task.getName(), task.getOwner().getMetadata().getId(), e.getMessage());
+            }
+            this.onExecutionSkipped(task, e);
+        }
     }
 
     @Override
-    protected void onTaskCompletion(final SpongeScheduledTask task) {
-        if (task.getState() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
-            this.lock.lock();
-            try {
-                this.stateChanged.set(true);
-                this.condition.signalAll();
-            } finally {
-                this.lock.unlock();
-            }
-        }
+    protected boolean reserveCapacity(final PluginContainer plugin) {
+        this.executors.reserve(plugin);
+        return true;
     }
 
     @Override
-    protected void executeTaskRunnable(SpongeScheduledTask task, Runnable runnable) {
-        this.executor.submit(runnable);
+    protected void releaseCapacity(final PluginContainer plugin) {
+        this.executors.release(plugin);
+    }
+
+    /**
+     * Gets the execution statistics of the asynchronous tasks of the plugin.
+     *
+     * @param plugin The plugin
+     * @return The metrics
+     */
+    public PluginTaskMetrics getMetrics(final PluginContainer plugin) {
+        return this.executors.getMetrics(Objects.requireNonNull(plugin, "plugin"));
+    }
+
+    /**
+     * Gets the execution statistics of all plugins that have run asynchronous
+     * tasks, by plugin id.
+     *
+     * @return The metrics
+     */
+    public Map<String, PluginTaskMetrics> getMetrics() {
+        return this.executors.getMetrics();
     }
 
     public <T> CompletableFuture<T> submit(Callable<T> callable) {
-        return Functional.asyncFailableFuture(callable, this.executor);
+        return Functional.asyncFailableFuture(callable, runnable -> this.executors.execute(SpongeCommon.getPlugin(), runnable, false));
     }
 
     public void close() {
         this.running = false;
+        LockSupport.unpark(this.thread);
         // Cancel all tasks
         final Set<ScheduledTask> tasks = this.getTasks();
         tasks.forEach(ScheduledTask::cancel);
 
-        // Shut down the executor
-        this.executor.shutdown();
+        // Shut down the executors
+        this.executors.shutdown();
 
         try {
-            if (!this.executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            if (!this.executors.awaitTermination(10, TimeUnit.SECONDS)) {
                 new PrettyPrinter()
                         .add("Sponge async scheduler failed to shut down in 10 seconds! Tasks that may have been active:")
                         .addWithIndices(tasks)
@@ -197,7 +179,7 @@ public void close() {
                         .add("We will now attempt immediate shutdown.")
                         .log(SpongeCommon.getLogger(), Level.WARN);
 
-                this.executor.shutdownNow();
+                this.executors.shutdownNow();
             }
         } catch (final InterruptedException e) {
             SpongeCommon.getLogger().error("The async scheduler was interrupted while awaiting shutdown!");
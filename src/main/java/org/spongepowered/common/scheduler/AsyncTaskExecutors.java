@@ -0,0 +1,235 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.common.AsyncSchedulerCategory;
+import org.spongepowered.plugin.PluginContainer;
+
+import javax.annotation.Nullable;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the asynchronous tasks of plugins according to the configured
+ * {@link AsyncSchedulerCategory.ExecutionMode}, keeping track of
+ * {@link PluginTaskMetrics} and the queue limits of each plugin.
+ */
+final class AsyncTaskExecutors {
+
+    private final AsyncSchedulerCategory.ExecutionMode mode;
+    private final int maxThreadsPerPlugin;
+    private final int maxQueuedTasksPerPlugin;
+    // The executor shared by all plugins, unless each plugin has its own
+    @Nullable private final ExecutorService sharedExecutor;
+    private final Map<String, PluginExecutor> pluginExecutors = new ConcurrentHashMap<>();
+
+    AsyncTaskExecutors(final AsyncSchedulerCategory config) {
+        AsyncSchedulerCategory.ExecutionMode mode = config.executionMode;
+        @Nullable ExecutorService sharedExecutor = null;
+        if (mode == AsyncSchedulerCategory.ExecutionMode.VIRTUAL) {
+            sharedExecutor = AsyncTaskExecutors.createVirtualThreadExecutor();
+            if (sharedExecutor == null) {
+                SpongeCommon.getLogger().warn("Virtual threads are not supported by this JVM, falling back to the CACHED async execution mode.");
+                mode = AsyncSchedulerCategory.ExecutionMode.CACHED;
+            }
+        }
+        if (mode == AsyncSchedulerCategory.ExecutionMode.CACHED) {
+            sharedExecutor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                    .setNameFormat("Sponge-AsyncScheduler-%d")
+                    .build());
+        }
+        this.mode = mode;
+        this.sharedExecutor = sharedExecutor;
+        this.maxThreadsPerPlugin = Math.max(1, config.maxThreadsPerPlugin);
+        this.maxQueuedTasksPerPlugin = Math.max(0, config.maxQueuedTasksPerPlugin);
+    }
+
+    @Nullable
+    private static ExecutorService createVirtualThreadExecutor() {
+        try {
+            final Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            // Not supported by this JVM, or only as a preview feature
+            return null;
+        }
+    }
+
+    AsyncSchedulerCategory.ExecutionMode getMode() {
+        return this.mode;
+    }
+
+    /**
+     * Runs the runnable on behalf of the plugin.
+     *
+     * @param plugin The plugin
+     * @param runnable The runnable
+     * @param reserved Whether a queue slot was already reserved through
+     *     {@link #reserve(PluginContainer)}
+     * @throws RejectedExecutionException If the queue of the plugin is full,
+     *     or the executors are shut down
+     */
+    void execute(final PluginContainer plugin, final Runnable runnable, final boolean reserved) {
+        this.getExecutor(plugin).execute(runnable, reserved);
+    }
+
+    /**
+     * Reserves a queue slot for another task of the plugin.
+     *
+     * @param plugin The plugin
+     * @throws RejectedExecutionException If the queue of the plugin is full
+     */
+    void reserve(final PluginContainer plugin) {
+        this.getExecutor(plugin).reserve();
+    }
+
+    /**
+     * Releases a queue slot reserved through {@link #reserve(PluginContainer)}.
+     *
+     * @param plugin The plugin
+     */
+    void release(final PluginContainer plugin) {
+        this.getExecutor(plugin).metrics.queued.decrementAndGet();
+    }
+
+    PluginTaskMetrics getMetrics(final PluginContainer plugin) {
+        return this.getExecutor(plugin).metrics;
+    }
+
+    Map<String, PluginTaskMetrics> getMetrics() {
+        final ImmutableMap.Builder<String, PluginTaskMetrics> metrics = ImmutableMap.builder();
+        this.pluginExecutors.forEach((id, executor) -> metrics.put(id, executor.metrics));
+        return metrics.build();
+    }
+
+    private PluginExecutor getExecutor(final PluginContainer plugin) {
+        return this.pluginExecutors.computeIfAbsent(plugin.getMetadata().getId(), this::createExecutor);
+    }
+
+    private PluginExecutor createExecutor(final String pluginId) {
+        if (this.sharedExecutor != null) {
+            return new PluginExecutor(pluginId, this.sharedExecutor);
+        }
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(this.maxThreadsPerPlugin, this.maxThreadsPerPlugin,
+                60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder()
+                .setNameFormat("Sponge-AsyncScheduler-" + pluginId + "-%d")
+                .build());
+        executor.allowCoreThreadTimeOut(true);
+        return new PluginExecutor(pluginId, executor);
+    }
+
+    private List<ExecutorService> getExecutorServices() {
+        final List<ExecutorService> services = new ArrayList<>();
+        if (this.sharedExecutor != null) {
+            services.add(this.sharedExecutor);
+        } else {
+            this.pluginExecutors.values().forEach(executor -> services.add(executor.executor));
+        }
+        return services;
+    }
+
+    void shutdown() {
+        this.getExecutorServices().forEach(ExecutorService::shutdown);
+    }
+
+    boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (final ExecutorService service : this.getExecutorServices()) {
+            if (!service.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void shutdownNow() {
+        this.getExecutorServices().forEach(ExecutorService::shutdownNow);
+    }
+
+    private final class PluginExecutor {
+
+        private final String pluginId;
+        final ExecutorService executor;
+        final PluginTaskMetrics metrics = new PluginTaskMetrics();
+
+        PluginExecutor(final String pluginId, final ExecutorService executor) {
+            this.pluginId = pluginId;
+            this.executor = executor;
+        }
+
+        void reserve() {
+            final int maxQueued = AsyncTaskExecutors.this.maxQueuedTasksPerPlugin;
+            final AtomicInteger queued = this.metrics.queued;
+            if (maxQueued <= 0) {
+                queued.incrementAndGet();
+                return;
+            }
+            // Check and take the slot at once, concurrent submissions can't overshoot the limit
+            int current;
+            do {
+                current = queued.get();
+                if (current >= maxQueued) {
+                    this.metrics.onRejected();
+                    throw new RejectedExecutionException("The plugin '" + this.pluginId + "' has reached its limit of "
+                            + maxQueued + " queued asynchronous tasks");
+                }
+            } while (!queued.compareAndSet(current, current + 1));
+        }
+
+        void execute(final Runnable runnable, final boolean reserved) {
+            if (!reserved) {
+                this.reserve();
+            }
+            final long submitted = System.nanoTime();
+            try {
+                this.executor.execute(() -> {
+                    final long started = this.metrics.onStart(submitted);
+                    try {
+                        runnable.run();
+                    } finally {
+                        this.metrics.onComplete(started);
+                    }
+                });
+            } catch (final RejectedExecutionException e) {
+                this.metrics.queued.decrementAndGet();
+                this.metrics.onRejected();
+                throw e;
+            }
+        }
+    }
+}
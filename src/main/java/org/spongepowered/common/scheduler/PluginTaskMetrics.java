@@ -0,0 +1,131 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.base.MoreObjects;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution statistics of the asynchronous tasks of a single plugin.
+ */
+public final class PluginTaskMetrics {
+
+    final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalLatency = new LongAdder();
+    private final LongAdder totalExecutionTime = new LongAdder();
+
+    /**
+     * Gets the number of tasks that are waiting for a thread.
+     *
+     * @return The number of queued tasks
+     */
+    public int getQueuedTasks() {
+        return this.queued.get();
+    }
+
+    /**
+     * Gets the number of tasks that are currently executing.
+     *
+     * @return The number of running tasks
+     */
+    public int getRunningTasks() {
+        return this.running.get();
+    }
+
+    /**
+     * Gets the number of task executions that have completed.
+     *
+     * @return The number of completed executions
+     */
+    public long getCompletedTasks() {
+        return this.completed.sum();
+    }
+
+    /**
+     * Gets the number of task executions that were skipped because the
+     * queue of the plugin was full.
+     *
+     * @return The number of rejected executions
+     */
+    public long getRejectedTasks() {
+        return this.rejected.sum();
+    }
+
+    /**
+     * Gets the average time completed tasks spent waiting for a thread.
+     *
+     * @return The average latency
+     */
+    public Duration getAverageLatency() {
+        final long completed = this.completed.sum();
+        return completed == 0 ? Duration.ZERO : Duration.ofNanos(this.totalLatency.sum() / completed);
+    }
+
+    /**
+     * Gets the average time completed tasks spent executing.
+     *
+     * @return The average execution time
+     */
+    public Duration getAverageExecutionTime() {
+        final long completed = this.completed.sum();
+        return completed == 0 ? Duration.ZERO : Duration.ofNanos(this.totalExecutionTime.sum() / completed);
+    }
+
+    void onRejected() {
+        this.rejected.increment();
+    }
+
+    long onStart(final long submitted) {
+        final long now = System.nanoTime();
+        this.queued.decrementAndGet();
+        this.running.incrementAndGet();
+        this.totalLatency.add(now - submitted);
+        return now;
+    }
+
+    void onComplete(final long started) {
+        this.totalExecutionTime.add(System.nanoTime() - started);
+        this.running.decrementAndGet();
+        this.completed.increment();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("queued", this.getQueuedTasks())
+                .add("running", this.getRunningTasks())
+                .add("completed", this.getCompletedTasks())
+                .add("rejected", this.getRejectedTasks())
+                .add("averageLatency", this.getAverageLatency())
+                .add("averageExecutionTime", this.getAverageExecutionTime())
+                .toString();
+    }
+}
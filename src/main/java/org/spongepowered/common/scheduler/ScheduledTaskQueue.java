@@ -0,0 +1,175 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of {@link SpongeScheduledTask}s ordered by their
+ * {@link SpongeScheduledTask#deadline deadline}, allowing a scheduler to only
+ * visit the tasks that are due instead of every pending task.
+ *
+ * <p>Each task keeps track of its own position within the heap so that
+ * cancelled tasks can be removed in logarithmic time. All operations are
+ * guarded by the queue's monitor, as tasks may be submitted and cancelled
+ * from any thread.</p>
+ */
+final class ScheduledTaskQueue {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private SpongeScheduledTask[] heap = new SpongeScheduledTask[ScheduledTaskQueue.INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Adds the task to the queue, to be due at the given deadline. If the
+     * task was already queued it is moved to its new position.
+     *
+     * @param task The task
+     * @param deadline The timestamp at which the task becomes due
+     */
+    synchronized void offer(final SpongeScheduledTask task, final long deadline) {
+        if (task.queueIndex >= 0) {
+            this.removeAt(task.queueIndex);
+        }
+        task.deadline = deadline;
+        if (this.size == this.heap.length) {
+            this.heap = Arrays.copyOf(this.heap, this.size << 1);
+        }
+        final int index = this.size++;
+        this.heap[index] = task;
+        task.queueIndex = index;
+        this.siftUp(index);
+    }
+
+    /**
+     * Removes and returns the earliest task if it is due at the given
+     * timestamp.
+     *
+     * @param now The current timestamp
+     * @return The due task, or null if no task is due
+     */
+    @Nullable
+    synchronized SpongeScheduledTask pollDue(final long now) {
+        if (this.size == 0) {
+            return null;
+        }
+        final SpongeScheduledTask first = this.heap[0];
+        if (first.deadline > now) {
+            return null;
+        }
+        this.removeAt(0);
+        return first;
+    }
+
+    /**
+     * Gets the deadline of the earliest task in the queue.
+     *
+     * @return The earliest deadline, or {@link Long#MAX_VALUE} if empty
+     */
+    synchronized long peekDeadline() {
+        return this.size == 0 ? Long.MAX_VALUE : this.heap[0].deadline;
+    }
+
+    /**
+     * Removes the task from the queue, if present.
+     *
+     * @param task The task
+     * @return True if the task was queued
+     */
+    synchronized boolean remove(final SpongeScheduledTask task) {
+        final int index = task.queueIndex;
+        if (index < 0 || index >= this.size || this.heap[index] != task) {
+            return false;
+        }
+        this.removeAt(index);
+        return true;
+    }
+
+    synchronized int size() {
+        return this.size;
+    }
+
+    synchronized boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    private void removeAt(final int index) {
+        final SpongeScheduledTask removed = this.heap[index];
+        removed.queueIndex = -1;
+        final int last = --this.size;
+        if (index != last) {
+            final SpongeScheduledTask moved = this.heap[last];
+            this.heap[index] = moved;
+            moved.queueIndex = index;
+            this.heap[last] = null;
+            this.siftDown(index);
+            if (this.heap[index] == moved) {
+                this.siftUp(index);
+            }
+        } else {
+            this.heap[last] = null;
+        }
+    }
+
+    private void siftUp(int index) {
+        final SpongeScheduledTask task = this.heap[index];
+        while (index > 0) {
+            final int parentIndex = (index - 1) >>> 1;
+            final SpongeScheduledTask parent = this.heap[parentIndex];
+            if (parent.deadline <= task.deadline) {
+                break;
+            }
+            this.heap[index] = parent;
+            parent.queueIndex = index;
+            index = parentIndex;
+        }
+        this.heap[index] = task;
+        task.queueIndex = index;
+    }
+
+    private void siftDown(int index) {
+        final SpongeScheduledTask task = this.heap[index];
+        final int half = this.size >>> 1;
+        while (index < half) {
+            int childIndex = (index << 1) + 1;
+            SpongeScheduledTask child = this.heap[childIndex];
+            final int rightIndex = childIndex + 1;
+            if (rightIndex < this.size && this.heap[rightIndex].deadline < child.deadline) {
+                childIndex = rightIndex;
+                child = this.heap[childIndex];
+            }
+            if (task.deadline <= child.deadline) {
+                break;
+            }
+            this.heap[index] = child;
+            child.queueIndex = index;
+            index = childIndex;
+        }
+        this.heap[index] = task;
+        task.queueIndex = index;
+    }
+}
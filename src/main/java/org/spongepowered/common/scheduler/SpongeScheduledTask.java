@@ -28,7 +28,10 @@
 import org.spongepowered.api.scheduler.ScheduledTask;
 import org.spongepowered.api.scheduler.Task;
 
+import javax.annotation.Nullable;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * An internal representation of a {@link Task} created by a plugin.
@@ -42,12 +45,25 @@ public final class SpongeScheduledTask implements ScheduledTask {
     private long timestamp;
     private ScheduledTaskState state;
     private boolean isCancelled = false;
+    // Whether a slot of the plugin's capacity is held for the first execution
+    private final AtomicBoolean reserved;
+    @Nullable private final RejectableFutureTask<?> future;
+    // Maintained by the owning ScheduledTaskQueue
+    long deadline;
+    int queueIndex = -1;
 
     SpongeScheduledTask(SpongeScheduler scheduler, SpongeTask task, String taskName) {
+        this(scheduler, task, taskName, false, null);
+    }
+
+    SpongeScheduledTask(SpongeScheduler scheduler, SpongeTask task, String taskName, boolean reserved,
+            @Nullable RejectableFutureTask<?> future) {
         this.scheduler = scheduler;
         this.id = UUID.randomUUID();
         this.name = taskName;
         this.task = task;
+        this.reserved = new AtomicBoolean(reserved);
+        this.future = future;
         // All tasks begin waiting.
         this.state = ScheduledTaskState.WAITING;
     }
@@ -76,6 +92,7 @@ public boolean cancel() {
         }
         this.state = ScheduledTaskState.CANCELED;
         this.isCancelled = true;
+        this.scheduler.removeTask(this);
         return success;
     }
 
@@ -118,6 +135,26 @@ void setState(ScheduledTaskState state) {
         this.state = state;
     }
 
+    /**
+     * Takes the capacity reserved for the task, if it is still held.
+     *
+     * @return Whether capacity was reserved
+     */
+    boolean takeReservation() {
+        return this.reserved.getAndSet(false);
+    }
+
+    /**
+     * Fails the future of a one-shot task whose execution was rejected.
+     *
+     * @param exception The cause of the rejection
+     */
+    void reject(RejectedExecutionException exception) {
+        if (this.future != null) {
+            this.future.reject(exception);
+        }
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
@@ -146,7 +183,7 @@ public enum ScheduledTaskState {
          */
         RUNNING(true),
         /**
-         * Task cancelled, scheduled to be removed from the task map.
+         * Task cancelled, removed from the task map.
          */
         CANCELED(false);
 
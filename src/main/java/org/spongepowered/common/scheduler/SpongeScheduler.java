@@ -45,7 +45,7 @@
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
-import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -57,8 +57,12 @@ public abstract class SpongeScheduler implements Scheduler {
 
     private final String tag;
 
-    // The simple queue of all pending (and running) ScheduledTasks
+    // All pending (and running) ScheduledTasks, for lookups
     private final Map<UUID, SpongeScheduledTask> taskMap = new ConcurrentHashMap<>();
+    // The pending ScheduledTasks ordered by the time they are due, one queue
+    // per timestamp source as tick and wall clock timestamps can't be compared
+    private final ScheduledTaskQueue timeQueue = new ScheduledTaskQueue();
+    private final ScheduledTaskQueue tickQueue = new ScheduledTaskQueue();
     private long sequenceNumber = 0L;
 
     SpongeScheduler(String tag) {
@@ -80,24 +84,79 @@ protected long getTimestamp(SpongeScheduledTask task) {
         return System.nanoTime();
     }
 
+    /**
+     * Gets whether the timestamps of the task are based on elapsed ticks
+     * rather than on wall clock time. Tasks from both sources are kept in
+     * separate queues.
+     *
+     * @param task The task
+     * @return True if the task is tick based
+     */
+    protected boolean isTickBased(SpongeScheduledTask task) {
+        return false;
+    }
+
+    /**
+     * Gets the timestamp used for tasks from the given source.
+     *
+     * @param tickBased Whether the timestamp should be tick based
+     * @return The current timestamp
+     */
+    protected long getTimestamp(boolean tickBased) {
+        return System.nanoTime();
+    }
+
     /**
      * Adds the task to the task map, will attempt to process the task on the
-     * next call to {@link #runTick}.
+     * next call to {@link #runTick} once its delay has passed.
      *
      * @param task The task to add
      */
     protected void addTask(final SpongeScheduledTask task) {
         task.setTimestamp(this.getTimestamp(task));
         this.taskMap.put(task.getUniqueId(), task);
+        this.enqueue(task);
+    }
+
+    /**
+     * Queues the task to be processed once its next execution timestamp
+     * has been reached.
+     *
+     * @param task The task to queue
+     */
+    final void enqueue(final SpongeScheduledTask task) {
+        final long timestamp = task.getTimestamp();
+        final long threshold = task.getState().isActive ? task.task.interval : task.task.delay;
+        final long deadline = timestamp + threshold;
+        // Saturate, plugins may schedule tasks with very long delays
+        this.getQueue(task).offer(task, deadline < timestamp ? Long.MAX_VALUE : deadline);
     }
 
     /**
-     * Removes the task from the task map.
+     * Removes the task from the task map and the pending queue.
      *
      * @param task The task to remove
      */
-    private void removeTask(final SpongeScheduledTask task) {
+    final void removeTask(final SpongeScheduledTask task) {
         this.taskMap.remove(task.getUniqueId());
+        this.getQueue(task).remove(task);
+        // A task removed before its first execution no longer needs its slot
+        if (task.takeReservation()) {
+            this.releaseCapacity(task.getOwner());
+        }
+    }
+
+    final ScheduledTaskQueue getQueue(final SpongeScheduledTask task) {
+        return this.isTickBased(task) ? this.tickQueue : this.timeQueue;
+    }
+
+    /**
+     * Gets the earliest timestamp at which a wall clock based task is due.
+     *
+     * @return The earliest deadline, or {@link Long#MAX_VALUE} if none
+     */
+    final long getNextDeadline() {
+        return this.timeQueue.peekDeadline();
     }
 
     @Override
@@ -158,21 +217,38 @@ public SpongeTaskExecutorService createExecutor(PluginContainer plugin) {
 
     @Override
     public SpongeScheduledTask submit(Task task) {
+        return this.submit(task, false, null);
+    }
+
+    /**
+     * Submits the task, optionally reserving capacity for its first
+     * execution up front.
+     *
+     * @param task The task
+     * @param reserveCapacity Whether capacity should be reserved
+     * @param future The future to fail if the one-shot task is rejected
+     * @return The scheduled task
+     * @throws java.util.concurrent.RejectedExecutionException If the plugin
+     *     has too many pending tasks
+     */
+    final SpongeScheduledTask submit(final Task task, final boolean reserveCapacity, @Nullable final RejectableFutureTask<?> future) {
         checkNotNull(task, "task");
+        final boolean reserved = reserveCapacity && this.reserveCapacity(task.getOwner());
         final SpongeScheduledTask scheduledTask = new SpongeScheduledTask(this, (SpongeTask) task,
-                task.getName() + "-" + this.tag + "-#" + this.sequenceNumber++);
+                task.getName() + "-" + this.tag + "-#" + this.sequenceNumber++, reserved, future);
         this.addTask(scheduledTask);
         return scheduledTask;
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks that are due.
      */
     final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            this.processQueue(this.tickQueue, true);
+            this.processQueue(this.timeQueue, false);
             this.postTick();
         } finally {
             this.finallyPostTick();
@@ -180,6 +256,19 @@ final void runTick() {
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.stopTimingIfSync();
     }
 
+    private void processQueue(final ScheduledTaskQueue queue, final boolean tickBased) {
+        if (queue.isEmpty()) {
+            return;
+        }
+        // This moment is 'now', tasks re-queued while processing won't
+        // be due until a later tick.
+        final long now = this.getTimestamp(tickBased);
+        SpongeScheduledTask task;
+        while ((task = queue.pollDue(now)) != null) {
+            this.processTask(task);
+        }
+    }
+
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
@@ -200,7 +289,7 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes a task which has become due.
      *
      * @param task The task to process
      */
@@ -211,34 +300,14 @@ private void processTask(final SpongeScheduledTask task) {
             this.removeTask(task);
             return;
         }
-        // If the task is already being processed, we wait for the previous
-        // occurrence to terminate.
-        if (task.getState() == SpongeScheduledTask.ScheduledTaskState.EXECUTING) {
-            return;
-        }
-        long threshold = Long.MAX_VALUE;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (interval) of the repeating task parameter.
-        if (task.getState() == SpongeScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.task.delay;
-        } else if (task.getState() == SpongeScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.task.interval;
-        }
-        // This moment is 'now'
-        long now = this.getTimestamp(task);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
-        // Repeating tasks get a reset-timestamp each time they are set RUNNING
-        // If the task has a interval of 0 (zero) this task will not repeat, and
-        // is removed after we start it.
-        if (threshold <= (now - task.getTimestamp())) {
-            task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
-            task.setTimestamp(this.getTimestamp(task));
-            this.startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.task.interval == 0L) {
-                this.removeTask(task);
-            }
+        // Repeating tasks are only re-queued once their previous occurrence
+        // has terminated, so they can't be due while executing.
+        task.setState(SpongeScheduledTask.ScheduledTaskState.SWITCHING);
+        task.setTimestamp(this.getTimestamp(task));
+        this.startTask(task);
+        // If task is one time shot, remove it from the map.
+        if (task.task.interval == 0L) {
+            this.taskMap.remove(task.getUniqueId());
         }
     }
 
@@ -266,6 +335,11 @@ private void startTask(final SpongeScheduledTask task) {
             } finally {
                 if (!task.isCancelled()) {
                     task.setState(SpongeScheduledTask.ScheduledTaskState.RUNNING);
+                    // Repeating tasks are due again one interval after they
+                    // last started.
+                    if (task.task.interval != 0L) {
+                        this.enqueue(task);
+                    }
                 }
                 SpongeCommon.setActivePlugin(null);
                 this.onTaskCompletion(task);
@@ -273,6 +347,50 @@ private void startTask(final SpongeScheduledTask task) {
         });
     }
 
+    /**
+     * Run when the runnable of a task could not be executed, the task is
+     * treated as if the execution has completed. A one-shot task won't run
+     * again, so its future fails with the rejection.
+     *
+     * @param task The task
+     * @param exception The cause of the rejection
+     */
+    final void onExecutionSkipped(final SpongeScheduledTask task, final RejectedExecutionException exception) {
+        if (!task.isCancelled()) {
+            task.setState(SpongeScheduledTask.ScheduledTaskState.RUNNING);
+            if (task.task.interval != 0L) {
+                this.enqueue(task);
+            } else {
+                task.reject(exception);
+            }
+        }
+        this.onTaskCompletion(task);
+    }
+
+    /**
+     * Reserves capacity for a new task of the plugin, used by the
+     * {@link SpongeTaskExecutorService}s of this scheduler. The reservation
+     * is held until the first execution of the task is handed off, or the
+     * task is removed.
+     *
+     * @param plugin The plugin
+     * @return Whether capacity was reserved
+     * @throws java.util.concurrent.RejectedExecutionException If the plugin
+     *     has too many pending tasks
+     */
+    protected boolean reserveCapacity(PluginContainer plugin) {
+        return false;
+    }
+
+    /**
+     * Releases capacity reserved by {@link #reserveCapacity(PluginContainer)}
+     * that won't be used.
+     *
+     * @param plugin The plugin
+     */
+    protected void releaseCapacity(PluginContainer plugin) {
+    }
+
     @Nullable
     protected PhaseContext<?> createContext(SpongeScheduledTask task, PluginContainer container) {
         return null;
@@ -294,8 +412,8 @@ protected void onTaskCompletion(SpongeScheduledTask task) {
     protected abstract void executeTaskRunnable(SpongeScheduledTask task, Runnable runnable);
 
     public <V> Future<V> execute(Callable<V> callable) {
-        final FutureTask<V> runnable = new FutureTask<>(callable);
-        this.submit(new SpongeTaskBuilder().execute(runnable).plugin(SpongeCommon.getPlugin()).build());
+        final RejectableFutureTask<V> runnable = new RejectableFutureTask<>(callable);
+        this.submit(new SpongeTaskBuilder().execute(runnable).plugin(SpongeCommon.getPlugin()).build(), false, runnable);
         return runnable;
     }
 
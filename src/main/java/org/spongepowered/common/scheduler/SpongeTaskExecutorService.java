@@ -89,7 +89,7 @@ public boolean awaitTermination(long timeout, TimeUnit unit) {
 
     @Override
     public void execute(Runnable command) {
-        this.submitTask(this.createTask(command).build());
+        this.submitTask(this.createTask(command).build(), null);
     }
 
     @Override
@@ -99,54 +99,54 @@ public TaskFuture<?> submit(Runnable command) {
 
     @Override
     public <T> TaskFuture<T> submit(Runnable command, @Nullable T result) {
-        final FutureTask<T> runnable = new FutureTask<>(command, result);
+        final RejectableFutureTask<T> runnable = new RejectableFutureTask<>(command, result);
         final Task task = this.createTask(runnable)
                 .build();
-        return new LanternScheduledFuture<>(runnable, this.submitTask(task), this.scheduler);
+        return new LanternScheduledFuture<>(runnable, this.submitTask(task, runnable), this.scheduler);
     }
 
     @Override
     public <T> TaskFuture<T> submit(Callable<T> command) {
-        final FutureTask<T> runnable = new FutureTask<>(command);
+        final RejectableFutureTask<T> runnable = new RejectableFutureTask<>(command);
         final Task task = this.createTask(runnable)
                 .build();
-        return new LanternScheduledFuture<>(runnable, this.submitTask(task), this.scheduler);
+        return new LanternScheduledFuture<>(runnable, this.submitTask(task, runnable), this.scheduler);
     }
 
     @Override
     public ScheduledTaskFuture<?> schedule(Runnable command, long delay, TemporalUnit unit) {
-        final FutureTask<?> runnable = new FutureTask<>(command, null);
+        final RejectableFutureTask<?> runnable = new RejectableFutureTask<>(command, null);
         final Task task = this.createTask(runnable)
                 .delay(delay, unit)
                 .build();
-        return new LanternScheduledFuture<>(runnable, this.submitTask(task), this.scheduler);
+        return new LanternScheduledFuture<>(runnable, this.submitTask(task, runnable), this.scheduler);
     }
 
     @Override
     public ScheduledTaskFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
-        final FutureTask<?> runnable = new FutureTask<>(command, null);
+        final RejectableFutureTask<?> runnable = new RejectableFutureTask<>(command, null);
         final Task task = this.createTask(runnable)
                 .delay(delay, unit)
                 .build();
-        return new LanternScheduledFuture<>(runnable, this.submitTask(task), this.scheduler);
+        return new LanternScheduledFuture<>(runnable, this.submitTask(task, runnable), this.scheduler);
     }
 
     @Override
     public <V> ScheduledTaskFuture<V> schedule(Callable<V> callable, long delay, TemporalUnit unit) {
-        final FutureTask<V> runnable = new FutureTask<>(callable);
+        final RejectableFutureTask<V> runnable = new RejectableFutureTask<>(callable);
         final Task task = this.createTask(runnable)
                 .delay(delay, unit)
                 .build();
-        return new LanternScheduledFuture<>(runnable, this.submitTask(task), this.scheduler);
+        return new LanternScheduledFuture<>(runnable, this.submitTask(task, runnable), this.scheduler);
     }
 
     @Override
     public <V> ScheduledTaskFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
-        final FutureTask<V> runnable = new FutureTask<>(callable);
+        final RejectableFutureTask<V> runnable = new RejectableFutureTask<>(callable);
         final Task task = this.createTask(runnable)
                 .delay(delay, unit)
                 .build();
-        return new LanternScheduledFuture<>(runnable, this.submitTask(task), this.scheduler);
+        return new LanternScheduledFuture<>(runnable, this.submitTask(task, runnable), this.scheduler);
     }
 
     @Override
@@ -156,7 +156,7 @@ public ScheduledTaskFuture<?> scheduleAtFixedRate(Runnable command, long initial
                 .delay(initialDelay, unit)
                 .interval(period, unit)
                 .build();
-        final SpongeScheduledTask scheduledTask = this.submitTask(task);
+        final SpongeScheduledTask scheduledTask = this.submitTask(task, null);
         // A repeatable task needs to be able to cancel itself
         runnable.setTask(scheduledTask);
         return new LanternScheduledFuture<>(runnable, scheduledTask, this.scheduler);
@@ -169,7 +169,7 @@ public ScheduledTaskFuture<?> scheduleAtFixedRate(Runnable command, long initial
                 .delay(initialDelay, unit)
                 .interval(period, unit)
                 .build();
-        final SpongeScheduledTask scheduledTask = this.submitTask(task);
+        final SpongeScheduledTask scheduledTask = this.submitTask(task, null);
         // A repeatable task needs to be able to cancel itself
         runnable.setTask(scheduledTask);
         return new LanternScheduledFuture<>(runnable, scheduledTask, this.scheduler);
@@ -191,8 +191,11 @@ private Task.Builder createTask(Runnable command) {
         return this.taskBuilderProvider.get().execute(command);
     }
 
-    private SpongeScheduledTask submitTask(Task task) {
-        return this.scheduler.submit(task);
+    private SpongeScheduledTask submitTask(Task task, @Nullable RejectableFutureTask<?> future) {
+        // Respect the execution limits of the plugin, rejecting the task
+        // instead of queueing it in the scheduler. The reserved slot is
+        // carried over to the first execution of the task.
+        return this.scheduler.submit(task, true, future);
     }
 
     private static class LanternScheduledFuture<V> implements org.spongepowered.api.scheduler.ScheduledTaskFuture<V> {
@@ -51,6 +51,19 @@ protected long getTimestamp(SpongeScheduledTask task) {
         return super.getTimestamp(task);
     }
 
+    @Override
+    protected boolean isTickBased(final SpongeScheduledTask task) {
+        return task.task.tickBased;
+    }
+
+    @Override
+    protected long getTimestamp(final boolean tickBased) {
+        if (tickBased) {
+            return this.counter * SpongeScheduler.TICK_DURATION_NS;
+        }
+        return super.getTimestamp(false);
+    }
+
     @Override
     protected void executeTaskRunnable(final SpongeScheduledTask task, final Runnable runnable) {
         runnable.run();
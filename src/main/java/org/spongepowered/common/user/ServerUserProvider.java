@@ -34,10 +34,12 @@
 import org.spongepowered.api.profile.GameProfile;
 import org.spongepowered.api.profile.GameProfileCache;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.SpongeServer;
 import org.spongepowered.common.accessor.server.players.PlayerListAccessor;
 import org.spongepowered.common.accessor.world.level.storage.PlayerDataStorageAccessor;
 import org.spongepowered.common.entity.player.SpongeUser;
 import org.spongepowered.common.profile.SpongeGameProfile;
+import org.spongepowered.common.world.storage.PlayerDataWriter;
 
 import java.io.IOException;
 import java.nio.file.FileSystems;
@@ -222,7 +224,8 @@ private Path getPlayerDataFile(final UUID uniqueId) {
         // Note: Uses the overworld's player data
         final Path file = this.getSaveHandlerDirectory().resolve(uniqueId.toString() + ".dat");
         //new File(saveHandler.accessor$getPlayersDirectory(), uniqueId.toString() + ".dat");
-        if (Files.exists(file)) {
+        // Files which are only pending to be written count as existing
+        if (this.getPlayerDataWriter().exists(file)) {
             return file;
         }
         return null;
@@ -231,6 +234,8 @@ private Path getPlayerDataFile(final UUID uniqueId) {
     private boolean deleteStoredPlayerData(final UUID uniqueId) {
         final Path dataFile = this.getPlayerDataFile(uniqueId);
         if (dataFile != null) {
+            // Drop the pending save and wait out one being written, so neither restores the file
+            this.getPlayerDataWriter().discard(dataFile);
             try {
                 return Files.deleteIfExists(dataFile);
             } catch (final SecurityException | IOException e) {
@@ -297,6 +302,10 @@ private PlayerDataStorage getSaveHandler() {
         return (PlayerDataStorage) ((PlayerListAccessor) this.server.getPlayerList()).accessor$playerIo();
     }
 
+    private PlayerDataWriter getPlayerDataWriter() {
+        return ((SpongeServer) this.server).getPlayerDataManager().getWriter();
+    }
+
     private Path getSaveHandlerDirectory() {
         return ((PlayerDataStorageAccessor) this.getSaveHandler()).accessor$playerDir().toPath();
     }
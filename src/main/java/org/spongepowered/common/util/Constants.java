@@ -317,6 +317,8 @@ public static final class Versions {
 
                 public static final DataQuery V1_TILE_ENTITY_DATA = of("TileEntities");
                 public static final DataQuery V1_TILE_ENTITY_ID = of("id");
+                public static final int V2 = 2;
+                public static final int V3 = 3;
             }
 
             /**
@@ -0,0 +1,284 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import com.google.common.collect.BiMap;
+import com.google.common.collect.HashBiMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import net.minecraft.world.level.block.Block;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.registry.Registry;
+import org.spongepowered.api.registry.RegistryHolder;
+import org.spongepowered.api.registry.RegistryType;
+import org.spongepowered.api.registry.RegistryTypes;
+import org.spongepowered.api.world.schematic.Palette;
+import org.spongepowered.api.world.schematic.PaletteReference;
+import org.spongepowered.api.world.schematic.PaletteType;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A mutable palette keyed by the global (registry) ids of its values rather
+ * than by {@link PaletteReference}s.
+ *
+ * <p>Palette ids map to global ids through a plain {@code int[]}, global ids
+ * map back through a primitive open addressing map, so {@link #get(Object)}
+ * and {@link #getOrAssign(Object)} neither box nor build a reference for the
+ * lookup. References are only created when one is explicitly asked for.</p>
+ */
+public final class PrimitiveIdPalette<T, R> implements Palette.Mutable<T, R> {
+
+    private static final int DEFAULT_ALLOCATION_SIZE = 64;
+    private static final int UNASSIGNED = -1;
+
+    private final PaletteType<T, R> paletteType;
+    private final Registry<R> registry;
+    private final RegistryType<R> registryType;
+    private final ToIntFunction<T> globalIdLookup;
+    private final IntFunction<T> globalValueLookup;
+    private final Int2IntOpenHashMap paletteIds;
+    private final BitSet allocation;
+    private int[] globalIds;
+    private int maxId = 0;
+
+    public PrimitiveIdPalette(final PaletteType<T, R> paletteType, final Registry<R> registry, final RegistryType<R> registryType,
+        final ToIntFunction<T> globalIdLookup, final IntFunction<T> globalValueLookup
+    ) {
+        this(paletteType, registry, registryType, globalIdLookup, globalValueLookup, PrimitiveIdPalette.DEFAULT_ALLOCATION_SIZE);
+    }
+
+    public PrimitiveIdPalette(final PaletteType<T, R> paletteType, final Registry<R> registry, final RegistryType<R> registryType,
+        final ToIntFunction<T> globalIdLookup, final IntFunction<T> globalValueLookup, final int expectedSize
+    ) {
+        this.paletteType = paletteType;
+        this.registry = registry;
+        this.registryType = registryType;
+        this.globalIdLookup = globalIdLookup;
+        this.globalValueLookup = globalValueLookup;
+        final int size = Math.max(expectedSize, 1);
+        this.paletteIds = new Int2IntOpenHashMap(size);
+        this.paletteIds.defaultReturnValue(PrimitiveIdPalette.UNASSIGNED);
+        this.allocation = new BitSet(size);
+        this.globalIds = new int[size];
+        Arrays.fill(this.globalIds, PrimitiveIdPalette.UNASSIGNED);
+    }
+
+    /**
+     * Creates a palette of block states, keyed by their vanilla state ids.
+     *
+     * @param paletteType The palette type
+     * @param registry The block type registry
+     * @param expectedSize The expected number of states
+     * @return The palette
+     */
+    public static PrimitiveIdPalette<BlockState, BlockType> ofBlockStates(final PaletteType<BlockState, BlockType> paletteType,
+        final Registry<BlockType> registry, final int expectedSize
+    ) {
+        return new PrimitiveIdPalette<>(
+            paletteType,
+            registry,
+            RegistryTypes.BLOCK_TYPE,
+            state -> Block.getId((net.minecraft.world.level.block.state.BlockState) state),
+            id -> (BlockState) Block.stateById(id),
+            expectedSize
+        );
+    }
+
+    @Override
+    public PaletteType<T, R> getType() {
+        return this.paletteType;
+    }
+
+    @Override
+    public int getHighestId() {
+        return this.maxId;
+    }
+
+    @Override
+    public OptionalInt get(final T state) {
+        final int id = this.paletteIds.get(this.globalIdLookup.applyAsInt(state));
+        if (id == PrimitiveIdPalette.UNASSIGNED) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(id);
+    }
+
+    @Override
+    public int getOrAssign(final T state) {
+        final int globalId = this.globalIdLookup.applyAsInt(state);
+        final int id = this.paletteIds.get(globalId);
+        if (id != PrimitiveIdPalette.UNASSIGNED) {
+            return id;
+        }
+        final int next = this.allocation.nextClearBit(0);
+        this.put(next, globalId);
+        return next;
+    }
+
+    /**
+     * Assigns the value to a specific palette id, for palettes read from
+     * storage where the ids are already decided.
+     *
+     * @param state The value
+     * @param id The palette id
+     * @return The palette id
+     */
+    public int assign(final T state, final int id) {
+        final int globalId = this.globalIdLookup.applyAsInt(state);
+        final int previous = this.paletteIds.get(globalId);
+        if (previous != PrimitiveIdPalette.UNASSIGNED && previous != id) {
+            this.clear(previous);
+        }
+        if (id < this.globalIds.length && this.globalIds[id] != PrimitiveIdPalette.UNASSIGNED) {
+            this.paletteIds.remove(this.globalIds[id]);
+        }
+        this.put(id, globalId);
+        return id;
+    }
+
+    private void put(final int id, final int globalId) {
+        if (id >= this.globalIds.length) {
+            final int oldLength = this.globalIds.length;
+            this.globalIds = Arrays.copyOf(this.globalIds, Math.max(oldLength << 1, id + 1));
+            Arrays.fill(this.globalIds, oldLength, this.globalIds.length, PrimitiveIdPalette.UNASSIGNED);
+        }
+        this.globalIds[id] = globalId;
+        this.paletteIds.put(globalId, id);
+        this.allocation.set(id);
+        if (this.maxId < id) {
+            this.maxId = id;
+        }
+    }
+
+    private void clear(final int id) {
+        this.globalIds[id] = PrimitiveIdPalette.UNASSIGNED;
+        this.allocation.clear(id);
+        if (id == this.maxId) {
+            this.maxId = Math.max(0, this.allocation.previousSetBit(this.maxId));
+        }
+    }
+
+    @Override
+    public Optional<PaletteReference<T, R>> get(final int id) {
+        final @Nullable T value = this.getValue(id);
+        if (value == null) {
+            return Optional.empty();
+        }
+        return Optional.of(MutableBimapPalette.createPaletteReference(value, this.paletteType, this.registry));
+    }
+
+    @Override
+    public Optional<T> get(final int id, final RegistryHolder holder) {
+        return Optional.ofNullable(this.getValue(id));
+    }
+
+    private @Nullable T getValue(final int id) {
+        if (id < 0 || id >= this.globalIds.length) {
+            return null;
+        }
+        final int globalId = this.globalIds[id];
+        if (globalId == PrimitiveIdPalette.UNASSIGNED) {
+            return null;
+        }
+        return this.globalValueLookup.apply(globalId);
+    }
+
+    @Override
+    public boolean remove(final T state) {
+        final int id = this.paletteIds.remove(this.globalIdLookup.applyAsInt(state));
+        if (id == PrimitiveIdPalette.UNASSIGNED) {
+            return false;
+        }
+        this.clear(id);
+        return true;
+    }
+
+    @Override
+    public Stream<T> stream() {
+        final int[] copy = Arrays.copyOf(this.globalIds, this.maxId + 1);
+        return IntStream.of(copy)
+            .filter(globalId -> globalId != PrimitiveIdPalette.UNASSIGNED)
+            .mapToObj(this.globalValueLookup);
+    }
+
+    @Override
+    public Stream<Map.Entry<T, Integer>> streamWithIds() {
+        final int[] copy = Arrays.copyOf(this.globalIds, this.maxId + 1);
+        return IntStream.range(0, copy.length)
+            .filter(id -> copy[id] != PrimitiveIdPalette.UNASSIGNED)
+            .mapToObj(id -> new AbstractMap.SimpleEntry<>(this.globalValueLookup.apply(copy[id]), id));
+    }
+
+    @Override
+    public Immutable<T, R> asImmutable() {
+        final BiMap<Integer, PaletteReference<T, R>> ids = HashBiMap.create(this.paletteIds.size());
+        for (int id = this.allocation.nextSetBit(0); id >= 0; id = this.allocation.nextSetBit(id + 1)) {
+            final T value = this.globalValueLookup.apply(this.globalIds[id]);
+            ids.put(id, MutableBimapPalette.createPaletteReference(value, this.paletteType, this.registry));
+        }
+        return new ImmutableBimapPalette<>(this.paletteType, this.registry, this.registryType, ids);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || this.getClass() != o.getClass()) {
+            return false;
+        }
+        final PrimitiveIdPalette<?, ?> that = (PrimitiveIdPalette<?, ?>) o;
+        if (this.maxId != that.maxId || !this.allocation.equals(that.allocation) || !this.paletteType.equals(that.paletteType)) {
+            return false;
+        }
+        for (int id = 0; id <= this.maxId; id++) {
+            if (this.globalIds[id] != that.globalIds[id]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(this.allocation, this.paletteType, this.maxId);
+        for (int id = 0; id <= this.maxId; id++) {
+            result = 31 * result + this.globalIds[id];
+        }
+        return result;
+    }
+}
@@ -37,18 +37,28 @@
 
     private final BiFunction<String, Registry<R>, Optional<T>> resolver;
     private final BiFunction<Registry<R>, T, String> stringifier;
+    private final Factory<T, R> factory;
 
     public SpongePaletteType(
         final BiFunction<String, Registry<R>, Optional<T>> resolver,
         final BiFunction<Registry<R>, T, String> stringifier
+    ) {
+        this(resolver, stringifier, MutableBimapPalette::new);
+    }
+
+    public SpongePaletteType(
+        final BiFunction<String, Registry<R>, Optional<T>> resolver,
+        final BiFunction<Registry<R>, T, String> stringifier,
+        final Factory<T, R> factory
     ) {
         this.resolver = resolver;
         this.stringifier = stringifier;
+        this.factory = factory;
     }
 
     @Override
     public Palette<T, R> create(final RegistryHolder holder, final RegistryType<R> registryType) {
-        return new MutableBimapPalette<>(this, holder.registry(registryType), registryType);
+        return this.factory.create(this, holder.registry(registryType), registryType);
     }
 
     @Override
@@ -61,4 +71,10 @@ public BiFunction<Registry<R>, T, String> getStringifier() {
         return this.stringifier;
     }
 
+    @FunctionalInterface
+    public interface Factory<T, R> {
+
+        Palette<T, R> create(PaletteType<T, R> type, Registry<R> registry, RegistryType<R> registryType);
+    }
+
 }
@@ -36,10 +36,12 @@
 import org.spongepowered.api.data.value.Value;
 import org.spongepowered.api.data.value.ValueContainer;
 import org.spongepowered.api.entity.EntityArchetype;
+import org.spongepowered.api.event.cause.entity.SpawnType;
 import org.spongepowered.api.fluid.FluidState;
 import org.spongepowered.api.world.biome.Biome;
 import org.spongepowered.api.world.schematic.Palette;
 import org.spongepowered.api.world.schematic.Schematic;
+import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.api.world.volume.archetype.ArchetypeVolume;
 import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeEntry;
 import org.spongepowered.api.world.volume.stream.StreamOptions;
@@ -72,6 +74,22 @@ public SpongeSchematic(final Vector3i start, final Vector3i size,
         this.metadata = metadata;
     }
 
+    public SpongeArchetypeVolume getArchetypeVolume() {
+        return this.volume;
+    }
+
+    /**
+     * Places this schematic into the world, see
+     * {@link SpongeArchetypeVolume#applyToWorld(ServerWorld, Vector3i, Supplier)}.
+     *
+     * @param target The world to place the schematic in
+     * @param placement The world position of the schematic origin
+     * @param spawnContext The spawn type of the placed entities
+     */
+    public void applyToWorld(final ServerWorld target, final Vector3i placement, final Supplier<SpawnType> spawnContext) {
+        this.volume.applyToWorld(target, placement, spawnContext);
+    }
+
     @Override
     public Palette<BlockState, BlockType> getBlockPalette() {
         return this.volume.getBlockPalette();
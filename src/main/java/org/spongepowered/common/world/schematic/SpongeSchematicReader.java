@@ -0,0 +1,611 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.Tag;
+import net.minecraft.nbt.TagTypes;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.block.entity.BlockEntityArchetype;
+import org.spongepowered.api.block.entity.BlockEntityType;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.api.entity.EntityArchetype;
+import org.spongepowered.api.entity.EntityType;
+import org.spongepowered.api.entity.EntityTypes;
+import org.spongepowered.api.registry.Registry;
+import org.spongepowered.api.registry.RegistryHolder;
+import org.spongepowered.api.registry.RegistryTypes;
+import org.spongepowered.api.world.schematic.PaletteType;
+import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeEntry;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.block.entity.SpongeBlockEntityArchetypeBuilder;
+import org.spongepowered.common.data.persistence.NBTTranslator;
+import org.spongepowered.common.entity.SpongeEntityArchetypeBuilder;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.volume.buffer.archetype.SpongeArchetypeVolume;
+import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
+import org.spongepowered.common.world.volume.buffer.block.BlockBackingData;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads Sponge Schematic files (versions 1 to 3) without going through a
+ * {@link DataContainer} for the whole file.
+ *
+ * <p>The block data is the only part of a schematic that scales with its
+ * volume, so it is never materialized as a tag: the varints are decoded
+ * directly from the decompressed stream into the {@link BlockBackingData}
+ * that ends up backing the {@link ArrayMutableBlockBuffer}. Palettes, block
+ * entities, entities and metadata are comparatively small and are read as
+ * regular NBT.</p>
+ */
+public final class SpongeSchematicReader {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int DEFAULT_PALETTE_SIZE = 64;
+
+    private static final String SCHEMATIC = "Schematic";
+    private static final String VERSION = "Version";
+    private static final String METADATA = "Metadata";
+    private static final String WIDTH = "Width";
+    private static final String HEIGHT = "Height";
+    private static final String LENGTH = "Length";
+    private static final String OFFSET = "Offset";
+    private static final String PALETTE = "Palette";
+    private static final String PALETTE_MAX = "PaletteMax";
+    private static final String BLOCK_DATA = "BlockData";
+    private static final String BLOCKS = "Blocks";
+    private static final String DATA = "Data";
+    private static final String BLOCK_ENTITIES = "BlockEntities";
+    private static final String TILE_ENTITIES = "TileEntities";
+    private static final String ENTITIES = "Entities";
+    private static final String ID = "Id";
+    private static final String POS = "Pos";
+
+    private SpongeSchematicReader() {
+    }
+
+    /**
+     * Reads the schematic at the given path. The file is memory mapped, so
+     * the compressed input never has to be copied onto the heap.
+     *
+     * @param path The path of the schematic file
+     * @return The read schematic
+     * @throws IOException If the file could not be read
+     * @throws InvalidDataException If the file is not a valid schematic
+     */
+    public static SpongeSchematic read(final Path path) throws IOException {
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                return SpongeSchematicReader.read(Files.newInputStream(path));
+            }
+            return SpongeSchematicReader.read(new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size)));
+        }
+    }
+
+    /**
+     * Reads a schematic from the given stream, which may or may not be gzip
+     * compressed. The stream is closed once the schematic has been read.
+     *
+     * @param input The input stream
+     * @return The read schematic
+     * @throws IOException If the stream could not be read
+     * @throws InvalidDataException If the stream is not a valid schematic
+     */
+    public static SpongeSchematic read(final InputStream input) throws IOException {
+        final InputStream marked = input.markSupported() ? input : new BufferedInputStream(input, SpongeSchematicReader.BUFFER_SIZE);
+        marked.mark(2);
+        final int magic = marked.read() | marked.read() << 8;
+        marked.reset();
+        final InputStream decompressed = magic == GZIPInputStream.GZIP_MAGIC
+            ? new BufferedInputStream(new GZIPInputStream(marked, SpongeSchematicReader.BUFFER_SIZE), SpongeSchematicReader.BUFFER_SIZE)
+            : marked;
+        try (final DataInputStream in = new DataInputStream(decompressed)) {
+            final byte rootType = in.readByte();
+            if (rootType != Constants.NBT.TAG_COMPOUND) {
+                throw new InvalidDataException("Schematic root tag is not a compound (found tag type " + rootType + ")");
+            }
+            in.readUTF();
+            final State state = new State();
+            SpongeSchematicReader.readCompound(in, state, false);
+            return SpongeSchematicReader.build(state);
+        }
+    }
+
+    private static void readCompound(final DataInput in, final State state, final boolean blockContainer) throws IOException {
+        byte type;
+        while ((type = in.readByte()) != Constants.NBT.TAG_END) {
+            final String name = in.readUTF();
+            switch (name) {
+                case SpongeSchematicReader.SCHEMATIC:
+                    // Version 3 wraps the schematic in an unnamed root compound
+                    SpongeSchematicReader.expect(type, Constants.NBT.TAG_COMPOUND, name);
+                    SpongeSchematicReader.readCompound(in, state, false);
+                    break;
+                case SpongeSchematicReader.BLOCKS:
+                    if (type == Constants.NBT.TAG_COMPOUND) {
+                        SpongeSchematicReader.readCompound(in, state, true);
+                    } else {
+                        SpongeSchematicReader.skip(in, type);
+                    }
+                    break;
+                case SpongeSchematicReader.VERSION:
+                    SpongeSchematicReader.expect(type, Constants.NBT.TAG_INT, name);
+                    state.version = in.readInt();
+                    if (state.version > Constants.Sponge.Schematic.Versions.V3) {
+                        throw new InvalidDataException(String.format("Unknown schematic version %d (latest supported version is %d)",
+                            state.version, Constants.Sponge.Schematic.Versions.V3));
+                    }
+                    break;
+                case SpongeSchematicReader.WIDTH:
+                    SpongeSchematicReader.expect(type, Constants.NBT.TAG_SHORT, name);
+                    state.width = in.readUnsignedShort();
+                    break;
+                case SpongeSchematicReader.HEIGHT:
+                    SpongeSchematicReader.expect(type, Constants.NBT.TAG_SHORT, name);
+                    state.height = in.readUnsignedShort();
+                    break;
+                case SpongeSchematicReader.LENGTH:
+                    SpongeSchematicReader.expect(type, Constants.NBT.TAG_SHORT, name);
+                    state.length = in.readUnsignedShort();
+                    break;
+                case SpongeSchematicReader.OFFSET:
+                    SpongeSchematicReader.expect(type, Constants.NBT.TAG_INT_ARRAY, name);
+                    if (in.readInt() != 3) {
+                        throw new InvalidDataException("Schematic offset was not of length 3");
+                    }
+                    state.offset[0] = in.readInt();
+                    state.offset[1] = in.readInt();
+                    state.offset[2] = in.readInt();
+                    break;
+                case SpongeSchematicReader.PALETTE_MAX:
+                    SpongeSchematicReader.expect(type, Constants.NBT.TAG_INT, name);
+                    state.paletteMax = in.readInt();
+                    break;
+                case SpongeSchematicReader.PALETTE:
+                    SpongeSchematicReader.expect(type, Constants.NBT.TAG_COMPOUND, name);
+                    SpongeSchematicReader.readPalette(in, state);
+                    break;
+                case SpongeSchematicReader.BLOCK_DATA:
+                case SpongeSchematicReader.DATA:
+                    if (SpongeSchematicReader.BLOCK_DATA.equals(name) || blockContainer) {
+                        SpongeSchematicReader.expect(type, Constants.NBT.TAG_BYTE_ARRAY, name);
+                        SpongeSchematicReader.readBlockData(in, state);
+                    } else {
+                        SpongeSchematicReader.skip(in, type);
+                    }
+                    break;
+                case SpongeSchematicReader.BLOCK_ENTITIES:
+                case SpongeSchematicReader.TILE_ENTITIES:
+                    // Version 1 names them tile entities, the layout is the same as in version 2
+                    SpongeSchematicReader.readCompoundList(in, type, name, state.blockEntities);
+                    break;
+                case SpongeSchematicReader.ENTITIES:
+                    SpongeSchematicReader.readCompoundList(in, type, name, state.entities);
+                    break;
+                case SpongeSchematicReader.METADATA:
+                    SpongeSchematicReader.expect(type, Constants.NBT.TAG_COMPOUND, name);
+                    state.metadata = (CompoundTag) SpongeSchematicReader.load(in, type);
+                    break;
+                default:
+                    // DataVersion, biomes, and anything else we don't use
+                    SpongeSchematicReader.skip(in, type);
+            }
+        }
+    }
+
+    private static void readPalette(final DataInput in, final State state) throws IOException {
+        final Registry<BlockType> registry = Sponge.getGame().registries().registry(RegistryTypes.BLOCK_TYPE);
+        final PaletteType<BlockState, BlockType> paletteType = SpongePaletteTypes.BLOCK_STATE_ID_PALETTE.get();
+        final PrimitiveIdPalette<BlockState, BlockType> palette = PrimitiveIdPalette.ofBlockStates(
+            paletteType,
+            registry,
+            state.paletteMax > 0 ? state.paletteMax : SpongeSchematicReader.DEFAULT_PALETTE_SIZE
+        );
+        byte type;
+        while ((type = in.readByte()) != Constants.NBT.TAG_END) {
+            final String serialized = in.readUTF();
+            SpongeSchematicReader.expect(type, Constants.NBT.TAG_INT, serialized);
+            final int id = in.readInt();
+            final BlockState blockState = paletteType.getResolver().apply(serialized, registry).orElseGet(() -> {
+                SpongeCommon.getLogger().warn("Unknown block state [{}] in schematic palette, replacing it with bedrock", serialized);
+                return BlockTypes.BEDROCK.get().getDefaultState();
+            });
+            // Several serialized states may resolve to the same state (unknown blocks, or
+            // states written by a newer version), the palette can only hold one id for it.
+            final OptionalInt existing = palette.get(blockState);
+            if (existing.isPresent()) {
+                state.remap.put(id, existing.getAsInt());
+            } else {
+                palette.assign(blockState, id);
+            }
+        }
+        state.palette = palette;
+    }
+
+    private static void readBlockData(final DataInput in, final State state) throws IOException {
+        final int byteCount = in.readInt();
+        if (state.width < 0 || state.height < 0 || state.length < 0) {
+            // The dimensions are written before the block data by every writer we know of,
+            // if they are not we have no choice but to hold on to the encoded data.
+            final byte[] encoded = new byte[byteCount];
+            in.readFully(encoded);
+            state.deferredBlockData = encoded;
+            return;
+        }
+        SpongeSchematicReader.decodeBlockData(in, byteCount, state);
+    }
+
+    private static void decodeBlockData(final DataInput in, final int byteCount, final State state) throws IOException {
+        final int width = state.width;
+        final int height = state.height;
+        final int length = state.length;
+        final int volume = width * height * length;
+        final int yzSlice = height * length;
+        BlockBackingData data = new BlockBackingData.PackedBackingData(volume, state.highestIdHint());
+
+        int read = 0;
+        int index = 0;
+        int x = 0;
+        int y = 0;
+        int z = 0;
+        while (read < byteCount) {
+            int value = 0;
+            int shift = 0;
+            byte next;
+            do {
+                if (shift >= 35) {
+                    throw new InvalidDataException("VarInt too big (probably corrupted data)");
+                }
+                next = in.readByte();
+                read++;
+                value |= (next & 0x7F) << shift;
+                shift += 7;
+            } while ((next & 0x80) != 0);
+
+            if (index >= volume) {
+                throw new InvalidDataException(String.format("Schematic block data has more entries than its size allows (%d)", volume));
+            }
+            if (value > data.getMax()) {
+                data = SpongeSchematicReader.widen(data, volume, value);
+            }
+            // Schematics are ordered y, z, x while the buffer is ordered x, z, y
+            data.set(x * yzSlice + z * height + y, value);
+            index++;
+            if (++x == width) {
+                x = 0;
+                if (++z == length) {
+                    z = 0;
+                    y++;
+                }
+            }
+        }
+        if (index != volume) {
+            throw new InvalidDataException(String.format("Schematic block data has %d entries, expected %d", index, volume));
+        }
+        state.blockData = data;
+    }
+
+    private static BlockBackingData widen(final BlockBackingData data, final int volume, final int value) {
+        final BlockBackingData wider = new BlockBackingData.PackedBackingData(volume, Math.max(value, data.getMax() << 1 | 1));
+        for (int i = 0; i < volume; i++) {
+            wider.set(i, data.get(i));
+        }
+        return wider;
+    }
+
+    private static SpongeSchematic build(final State state) throws IOException {
+        if (state.version < 0) {
+            throw new InvalidDataException("Missing Version for Schematic");
+        }
+        if (state.width < 0 || state.height < 0 || state.length < 0) {
+            throw new InvalidDataException("Missing dimensions for Schematic");
+        }
+        if (state.palette == null) {
+            throw new InvalidDataException("Missing Palette for Schematic");
+        }
+        if (state.deferredBlockData != null) {
+            final byte[] encoded = state.deferredBlockData;
+            SpongeSchematicReader.decodeBlockData(new DataInputStream(new ByteArrayInputStream(encoded)), encoded.length, state);
+        }
+        final BlockBackingData data = state.blockData;
+        if (data == null) {
+            throw new InvalidDataException("Missing BlockData for Schematic");
+        }
+        if (!state.remap.isEmpty()) {
+            final int volume = state.width * state.height * state.length;
+            for (int i = 0; i < volume; i++) {
+                final int remapped = state.remap.get(data.get(i));
+                if (remapped != -1) {
+                    data.set(i, remapped);
+                }
+            }
+        }
+
+        final RegistryHolder registries = Sponge.getGame().registries();
+        final Vector3i start = new Vector3i(-state.offset[0], -state.offset[1], -state.offset[2]);
+        final Vector3i size = new Vector3i(state.width, state.height, state.length);
+        final ArrayMutableBlockBuffer blocks = new ArrayMutableBlockBuffer(state.palette, data, start, size);
+        final SpongeArchetypeVolume volume = new SpongeArchetypeVolume(blocks, registries);
+
+        final Registry<BlockEntityType> blockEntityTypes = registries.registry(RegistryTypes.BLOCK_ENTITY_TYPE);
+        for (final CompoundTag tag : state.blockEntities) {
+            final int[] pos = tag.getIntArray(SpongeSchematicReader.POS);
+            final String id = tag.getString(SpongeSchematicReader.ID);
+            final Optional<BlockEntityType> type = blockEntityTypes.findValue(ResourceKey.resolve(id));
+            if (pos.length != 3 || !type.isPresent()) {
+                SpongeCommon.getLogger().warn("Skipping invalid block entity [{}] in schematic", id);
+                continue;
+            }
+            final CompoundTag blockEntityData;
+            if (state.version >= Constants.Sponge.Schematic.Versions.V3) {
+                blockEntityData = tag.getCompound(SpongeSchematicReader.DATA).copy();
+                blockEntityData.putString(Constants.Sponge.BlockEntityArchetype.TILE_ENTITY_ID, id);
+            } else {
+                blockEntityData = tag.copy();
+                blockEntityData.remove(SpongeSchematicReader.POS);
+            }
+            final int x = start.getX() + pos[0];
+            final int y = start.getY() + pos[1];
+            final int z = start.getZ() + pos[2];
+            final BlockEntityArchetype archetype = new SpongeBlockEntityArchetypeBuilder()
+                .state(blocks.getBlock(x, y, z))
+                .blockEntity(type.get())
+                .blockEntityData(NBTTranslator.INSTANCE.translate(blockEntityData))
+                .build();
+            volume.addBlockEntity(x, y, z, archetype);
+        }
+
+        final Registry<EntityType<?>> entityTypes = registries.registry(RegistryTypes.ENTITY_TYPE);
+        for (final CompoundTag tag : state.entities) {
+            final ListTag pos = tag.getList(SpongeSchematicReader.POS, Constants.NBT.TAG_DOUBLE);
+            final String id = tag.getString(SpongeSchematicReader.ID);
+            final Optional<EntityType<?>> type = entityTypes.findValue(ResourceKey.resolve(id));
+            if (pos.size() != 3 || !type.isPresent() || type.get() == EntityTypes.PLAYER.get()) {
+                SpongeCommon.getLogger().warn("Skipping invalid entity [{}] in schematic", id);
+                continue;
+            }
+            final CompoundTag entityData = state.version >= Constants.Sponge.Schematic.Versions.V3
+                ? tag.getCompound(SpongeSchematicReader.DATA)
+                : tag;
+            final EntityArchetype archetype = new SpongeEntityArchetypeBuilder()
+                .type(type.get())
+                .entityData(NBTTranslator.INSTANCE.translate(entityData))
+                .build();
+            final Vector3d position = new Vector3d(pos.getDouble(0), pos.getDouble(1), pos.getDouble(2)).add(start.toDouble());
+            volume.addEntity(EntityArchetypeEntry.of(archetype, position));
+        }
+
+        final DataContainer metadata = state.metadata == null
+            ? DataContainer.createNew()
+            : NBTTranslator.INSTANCE.translate(state.metadata);
+        return new SpongeSchematic(start, size, volume, metadata);
+    }
+
+    private static void readCompoundList(final DataInput in, final byte type, final String name, final List<CompoundTag> into)
+        throws IOException {
+        SpongeSchematicReader.expect(type, Constants.NBT.TAG_LIST, name);
+        final byte elementType = in.readByte();
+        final int count = in.readInt();
+        if (count > 0) {
+            SpongeSchematicReader.expect(elementType, Constants.NBT.TAG_COMPOUND, name);
+        }
+        for (int i = 0; i < count; i++) {
+            into.add((CompoundTag) SpongeSchematicReader.load(in, elementType));
+        }
+    }
+
+    private static Tag load(final DataInput in, final byte type) throws IOException {
+        return TagTypes.getType(type).load(in, 1, NbtAccounter.UNLIMITED);
+    }
+
+    private static void skip(final DataInput in, final byte type) throws IOException {
+        switch (type) {
+            case Constants.NBT.TAG_BYTE:
+                SpongeSchematicReader.skipFully(in, 1);
+                break;
+            case Constants.NBT.TAG_SHORT:
+                SpongeSchematicReader.skipFully(in, 2);
+                break;
+            case Constants.NBT.TAG_INT:
+            case Constants.NBT.TAG_FLOAT:
+                SpongeSchematicReader.skipFully(in, 4);
+                break;
+            case Constants.NBT.TAG_LONG:
+            case Constants.NBT.TAG_DOUBLE:
+                SpongeSchematicReader.skipFully(in, 8);
+                break;
+            case Constants.NBT.TAG_BYTE_ARRAY:
+                SpongeSchematicReader.skipFully(in, in.readInt());
+                break;
+            case Constants.NBT.TAG_INT_ARRAY:
+                SpongeSchematicReader.skipFully(in, in.readInt() * 4L);
+                break;
+            case Constants.NBT.TAG_LONG_ARRAY:
+                SpongeSchematicReader.skipFully(in, in.readInt() * 8L);
+                break;
+            case Constants.NBT.TAG_STRING:
+                SpongeSchematicReader.skipFully(in, in.readUnsignedShort());
+                break;
+            case Constants.NBT.TAG_LIST: {
+                final byte elementType = in.readByte();
+                final int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    SpongeSchematicReader.skip(in, elementType);
+                }
+                break;
+            }
+            case Constants.NBT.TAG_COMPOUND: {
+                byte entryType;
+                while ((entryType = in.readByte()) != Constants.NBT.TAG_END) {
+                    in.readUTF();
+                    SpongeSchematicReader.skip(in, entryType);
+                }
+                break;
+            }
+            case Constants.NBT.TAG_END:
+                break;
+            default:
+                throw new InvalidDataException("Unknown NBT tag type " + type);
+        }
+    }
+
+    private static void skipFully(final DataInput in, final long count) throws IOException {
+        long remaining = count;
+        while (remaining > 0) {
+            final int skipped = in.skipBytes((int) Math.min(remaining, Integer.MAX_VALUE));
+            if (skipped <= 0) {
+                // skipBytes may give up early, fall back to reading
+                in.readByte();
+                remaining--;
+            } else {
+                remaining -= skipped;
+            }
+        }
+    }
+
+    private static void expect(final byte type, final byte expected, final String name) {
+        if (type != expected) {
+            throw new InvalidDataException(String.format("Expected tag type %d for [%s] but found %d", expected, name, type));
+        }
+    }
+
+    private static final class State {
+
+        int version = -1;
+        int width = -1;
+        int height = -1;
+        int length = -1;
+        final int[] offset = new int[3];
+        int paletteMax = -1;
+        @Nullable PrimitiveIdPalette<BlockState, BlockType> palette;
+        final Int2IntOpenHashMap remap = new Int2IntOpenHashMap();
+        @Nullable BlockBackingData blockData;
+        byte @Nullable [] deferredBlockData;
+        final List<CompoundTag> blockEntities = new ArrayList<>();
+        final List<CompoundTag> entities = new ArrayList<>();
+        @Nullable CompoundTag metadata;
+
+        State() {
+            this.remap.defaultReturnValue(-1);
+        }
+
+        int highestIdHint() {
+            if (this.paletteMax > 0) {
+                return this.paletteMax;
+            }
+            if (this.palette != null) {
+                return this.palette.getHighestId();
+            }
+            return SpongeSchematicReader.DEFAULT_PALETTE_SIZE - 1;
+        }
+    }
+
+    /**
+     * A minimal stream over a (memory mapped) buffer, the gzip inflater
+     * pulls from this in large chunks so no additional buffering is needed.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+        private int mark;
+
+        ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!this.buffer.hasRemaining()) {
+                return -1;
+            }
+            final int count = Math.min(len, this.buffer.remaining());
+            this.buffer.get(bytes, off, count);
+            return count;
+        }
+
+        @Override
+        public long skip(final long count) {
+            final int skipped = (int) Math.max(0, Math.min(count, this.buffer.remaining()));
+            this.buffer.position(this.buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public synchronized void mark(final int readLimit) {
+            this.mark = this.buffer.position();
+        }
+
+        @Override
+        public synchronized void reset() {
+            this.buffer.position(this.mark);
+        }
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.DoubleTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.StringTag;
+import net.minecraft.nbt.Tag;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.ResourceKey;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.entity.BlockEntityArchetype;
+import org.spongepowered.api.block.entity.BlockEntityType;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.entity.EntityType;
+import org.spongepowered.api.registry.Registry;
+import org.spongepowered.api.registry.RegistryHolder;
+import org.spongepowered.api.registry.RegistryTypes;
+import org.spongepowered.api.world.schematic.Palette;
+import org.spongepowered.api.world.schematic.PaletteType;
+import org.spongepowered.api.world.schematic.PaletteTypes;
+import org.spongepowered.api.world.schematic.Schematic;
+import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeEntry;
+import org.spongepowered.common.data.persistence.NBTTranslator;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes Sponge Schematic files (versions 2 and 3) straight from a
+ * {@link Schematic}, the counterpart of {@link SpongeSchematicReader}.
+ *
+ * <p>The volume is walked once, assigning palette ids and encoding the
+ * block data as varints in the same pass, since NBT needs the encoded
+ * length ahead of the array. No {@link DataContainer} of the schematic is
+ * ever created.</p>
+ */
+public final class SpongeSchematicWriter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private static final String SCHEMATIC = "Schematic";
+    private static final String VERSION = "Version";
+    private static final String DATA_VERSION = "DataVersion";
+    private static final String METADATA = "Metadata";
+    private static final String WIDTH = "Width";
+    private static final String HEIGHT = "Height";
+    private static final String LENGTH = "Length";
+    private static final String OFFSET = "Offset";
+    private static final String PALETTE = "Palette";
+    private static final String PALETTE_MAX = "PaletteMax";
+    private static final String BLOCK_DATA = "BlockData";
+    private static final String BLOCKS = "Blocks";
+    private static final String DATA = "Data";
+    private static final String BLOCK_ENTITIES = "BlockEntities";
+    private static final String ENTITIES = "Entities";
+    private static final String ID = "Id";
+    private static final String POS = "Pos";
+
+    private SpongeSchematicWriter() {
+    }
+
+    /**
+     * Writes the schematic to the given path, replacing any existing file.
+     *
+     * @param schematic The schematic to write
+     * @param path The path to write to
+     * @param version The schematic version to write, either 2 or 3
+     * @throws IOException If the file could not be written
+     */
+    public static void write(final Schematic schematic, final Path path, final int version) throws IOException {
+        // Don't truncate an existing file for a schematic that can't be written
+        SpongeSchematicWriter.validate(schematic, version);
+        try (final OutputStream output = Files.newOutputStream(path)) {
+            SpongeSchematicWriter.writeValidated(schematic, output, version);
+        }
+    }
+
+    /**
+     * Writes the schematic as gzip compressed NBT to the given stream, which
+     * is closed afterwards.
+     *
+     * @param schematic The schematic to write
+     * @param output The output stream
+     * @param version The schematic version to write, either 2 or 3
+     * @throws IOException If the stream could not be written to
+     */
+    public static void write(final Schematic schematic, final OutputStream output, final int version) throws IOException {
+        try (final OutputStream out = output) {
+            SpongeSchematicWriter.validate(schematic, version);
+            SpongeSchematicWriter.writeValidated(schematic, out, version);
+        }
+    }
+
+    private static void validate(final Schematic schematic, final int version) {
+        if (version != Constants.Sponge.Schematic.Versions.V2 && version != Constants.Sponge.Schematic.Versions.V3) {
+            throw new IllegalArgumentException("Unsupported schematic version " + version);
+        }
+        final Vector3i size = schematic.getBlockSize();
+        if (size.getX() > Constants.Sponge.Schematic.MAX_SIZE || size.getY() > Constants.Sponge.Schematic.MAX_SIZE
+            || size.getZ() > Constants.Sponge.Schematic.MAX_SIZE) {
+            throw new IllegalArgumentException(String.format("Schematic is larger than maximum allowable size (found: (%d, %d, %d) max: (%d, %<d, %<d)",
+                size.getX(), size.getY(), size.getZ(), Constants.Sponge.Schematic.MAX_SIZE));
+        }
+    }
+
+    private static void writeValidated(final Schematic schematic, final OutputStream output, final int version) throws IOException {
+        final Vector3i min = schematic.getBlockMin();
+        final Vector3i size = schematic.getBlockSize();
+        final boolean v3 = version == Constants.Sponge.Schematic.Versions.V3;
+        final RegistryHolder registries = Sponge.getGame().registries();
+        final Set<String> requiredMods = new TreeSet<>();
+        final BlockIds blockIds = SpongeSchematicWriter.blockIds(schematic, registries, requiredMods);
+        final List<CompoundTag> blockEntities = SpongeSchematicWriter.blockEntities(schematic, registries, requiredMods, v3);
+        final List<CompoundTag> entities = SpongeSchematicWriter.entities(schematic, registries, requiredMods, v3);
+
+        try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(output,
+            SpongeSchematicWriter.BUFFER_SIZE), SpongeSchematicWriter.BUFFER_SIZE))) {
+            out.writeByte(Constants.NBT.TAG_COMPOUND);
+            if (v3) {
+                out.writeUTF("");
+                SpongeSchematicWriter.beginTag(out, Constants.NBT.TAG_COMPOUND, SpongeSchematicWriter.SCHEMATIC);
+            } else {
+                out.writeUTF(SpongeSchematicWriter.SCHEMATIC);
+            }
+            SpongeSchematicWriter.beginTag(out, Constants.NBT.TAG_INT, SpongeSchematicWriter.VERSION);
+            out.writeInt(version);
+            SpongeSchematicWriter.beginTag(out, Constants.NBT.TAG_INT, SpongeSchematicWriter.DATA_VERSION);
+            out.writeInt(Constants.MINECRAFT_DATA_VERSION);
+            SpongeSchematicWriter.writeMetadata(out, schematic, requiredMods);
+            SpongeSchematicWriter.beginTag(out, Constants.NBT.TAG_SHORT, SpongeSchematicWriter.WIDTH);
+            out.writeShort(size.getX());
+            SpongeSchematicWriter.beginTag(out, Constants.NBT.TAG_SHORT, SpongeSchematicWriter.HEIGHT);
+            out.writeShort(size.getY());
+            SpongeSchematicWriter.beginTag(out, Constants.NBT.TAG_SHORT, SpongeSchematicWriter.LENGTH);
+            out.writeShort(size.getZ());
+            SpongeSchematicWriter.beginTag(out, Constants.NBT.TAG_INT_ARRAY, SpongeSchematicWriter.OFFSET);
+            out.writeInt(3);
+            out.writeInt(-min.getX());
+            out.writeInt(-min.getY());
+            out.writeInt(-min.getZ());
+
+            if (v3) {
+                SpongeSchematicWriter.beginTag(out, Constants.NBT.TAG_COMPOUND, SpongeSchematicWriter.BLOCKS);
+            } else {
+                SpongeSchematicWriter.beginTag(out, Constants.NBT.TAG_INT, SpongeSchematicWriter.PALETTE_MAX);
+                // Readers size their palette from this, so it has to cover the highest id rather than count the used ones
+                out.writeInt(blockIds.palette.size());
+            }
+            SpongeSchematicWriter.beginTag(out, Constants.NBT.TAG_COMPOUND, SpongeSchematicWriter.PALETTE);
+            for (int id = 0; id < blockIds.palette.size(); id++) {
+                final String serialized = blockIds.palette.get(id);
+                if (serialized != null) {
+                    SpongeSchematicWriter.beginTag(out, Constants.NBT.TAG_INT, serialized);
+                    out.writeInt(id);
+                }
+            }
+            out.writeByte(Constants.NBT.TAG_END);
+            SpongeSchematicWriter.beginTag(out, Constants.NBT.TAG_BYTE_ARRAY, v3 ? SpongeSchematicWriter.DATA : SpongeSchematicWriter.BLOCK_DATA);
+            out.writeInt(blockIds.data.size());
+            blockIds.data.writeTo(out);
+            SpongeSchematicWriter.writeCompoundList(out, SpongeSchematicWriter.BLOCK_ENTITIES, blockEntities);
+            if (v3) {
+                out.writeByte(Constants.NBT.TAG_END);
+            }
+
+            SpongeSchematicWriter.writeCompoundList(out, SpongeSchematicWriter.ENTITIES, entities);
+            if (v3) {
+                out.writeByte(Constants.NBT.TAG_END);
+            }
+            out.writeByte(Constants.NBT.TAG_END);
+        }
+    }
+
+    private static ByteArrayOutputStream encodeBlockData(final Vector3i min, final Vector3i size, final BlockIdSource source) {
+        final int minX = min.getX();
+        final int minY = min.getY();
+        final int minZ = min.getZ();
+        final int maxX = minX + size.getX();
+        final int maxY = minY + size.getY();
+        final int maxZ = minZ + size.getZ();
+
+        // Every id takes at least one byte
+        final long volume = (long) size.getX() * size.getY() * size.getZ();
+        final ByteArrayOutputStream data = new ByteArrayOutputStream((int) Math.min(volume, Integer.MAX_VALUE - 8));
+        for (int y = minY; y < maxY; y++) {
+            for (int z = minZ; z < maxZ; z++) {
+                for (int x = minX; x < maxX; x++) {
+                    int id = source.get(x, y, z);
+                    while ((id & -128) != 0) {
+                        data.write(id & 127 | 128);
+                        id >>>= 7;
+                    }
+                    data.write(id);
+                }
+            }
+        }
+        return data;
+    }
+
+    private static BlockIds blockIds(final Schematic schematic, final RegistryHolder registries, final Set<String> requiredMods) {
+        final Registry<BlockType> registry = registries.registry(RegistryTypes.BLOCK_TYPE);
+        final PaletteType<BlockState, BlockType> paletteType = PaletteTypes.BLOCK_STATE_PALETTE.get();
+        final List<@Nullable String> serialized = new ArrayList<>();
+
+        if (schematic instanceof SpongeSchematic) {
+            // The buffer already holds palette ids, write those out as they are
+            final ArrayMutableBlockBuffer buffer = ((SpongeSchematic) schematic).getArchetypeVolume().getBlockBuffer();
+            final Palette<BlockState, BlockType> palette = buffer.getPalette();
+            palette.streamWithIds().forEach(entry -> {
+                while (serialized.size() <= entry.getValue()) {
+                    serialized.add(null);
+                }
+                serialized.set(entry.getValue(), paletteType.getStringifier().apply(registry, entry.getKey()));
+                SpongeSchematicWriter.addRequiredMod(requiredMods, registry.valueKey(entry.getKey().getType()));
+            });
+            return new BlockIds(serialized,
+                SpongeSchematicWriter.encodeBlockData(schematic.getBlockMin(), schematic.getBlockSize(), buffer::getBlockId));
+        }
+
+        // Palette ids are assigned in the same pass that encodes the blocks
+        final Reference2IntOpenHashMap<BlockState> ids = new Reference2IntOpenHashMap<>();
+        ids.defaultReturnValue(-1);
+        final ByteArrayOutputStream data = SpongeSchematicWriter.encodeBlockData(schematic.getBlockMin(), schematic.getBlockSize(), (x, y, z) -> {
+            final BlockState state = schematic.getBlock(x, y, z);
+            int id = ids.getInt(state);
+            if (id == -1) {
+                id = serialized.size();
+                ids.put(state, id);
+                serialized.add(paletteType.getStringifier().apply(registry, state));
+                SpongeSchematicWriter.addRequiredMod(requiredMods, registry.valueKey(state.getType()));
+            }
+            return id;
+        });
+        return new BlockIds(serialized, data);
+    }
+
+    private static List<CompoundTag> blockEntities(final Schematic schematic, final RegistryHolder registries, final Set<String> requiredMods,
+        final boolean v3
+    ) {
+        final Registry<BlockEntityType> registry = registries.registry(RegistryTypes.BLOCK_ENTITY_TYPE);
+        final Vector3i min = schematic.getBlockMin();
+        final List<CompoundTag> blockEntities = new ArrayList<>();
+        for (final Map.Entry<Vector3i, BlockEntityArchetype> entry : schematic.getBlockEntityArchetypes().entrySet()) {
+            final Vector3i pos = entry.getKey().sub(min);
+            final ResourceKey key = registry.valueKey(entry.getValue().getBlockEntityType());
+            SpongeSchematicWriter.addRequiredMod(requiredMods, key);
+            final CompoundTag data = NBTTranslator.INSTANCE.translate(entry.getValue().getBlockEntityData());
+            final CompoundTag tag;
+            if (v3) {
+                data.remove(Constants.Sponge.BlockEntityArchetype.TILE_ENTITY_ID);
+                tag = new CompoundTag();
+                tag.put(SpongeSchematicWriter.DATA, data);
+            } else {
+                tag = data;
+            }
+            tag.putIntArray(SpongeSchematicWriter.POS, new int[] {pos.getX(), pos.getY(), pos.getZ()});
+            tag.putString(SpongeSchematicWriter.ID, key.getFormatted());
+            blockEntities.add(tag);
+        }
+        return blockEntities;
+    }
+
+    private static List<CompoundTag> entities(final Schematic schematic, final RegistryHolder registries, final Set<String> requiredMods,
+        final boolean v3
+    ) {
+        final Registry<EntityType<?>> registry = registries.registry(RegistryTypes.ENTITY_TYPE);
+        final Vector3d min = schematic.getBlockMin().toDouble();
+        final List<CompoundTag> entities = new ArrayList<>();
+        schematic.getEntitiesByPosition().forEach(entry -> entities.add(SpongeSchematicWriter.entity(entry, registry, min, requiredMods, v3)));
+        return entities;
+    }
+
+    private static CompoundTag entity(final EntityArchetypeEntry entry, final Registry<EntityType<?>> registry, final Vector3d min,
+        final Set<String> requiredMods, final boolean v3
+    ) {
+        final Vector3d pos = entry.getPosition().sub(min);
+        final ResourceKey key = registry.valueKey(entry.getArchetype().getType());
+        SpongeSchematicWriter.addRequiredMod(requiredMods, key);
+        final CompoundTag data = NBTTranslator.INSTANCE.translate(entry.getArchetype().getEntityData());
+        final CompoundTag tag;
+        if (v3) {
+            tag = new CompoundTag();
+            tag.put(SpongeSchematicWriter.DATA, data);
+        } else {
+            tag = data;
+        }
+        final ListTag position = new ListTag();
+        position.add(DoubleTag.valueOf(pos.getX()));
+        position.add(DoubleTag.valueOf(pos.getY()));
+        position.add(DoubleTag.valueOf(pos.getZ()));
+        tag.put(SpongeSchematicWriter.POS, position);
+        tag.putString(SpongeSchematicWriter.ID, key.getFormatted());
+        return tag;
+    }
+
+    private static void writeMetadata(final DataOutput out, final Schematic schematic, final Set<String> requiredMods) throws IOException {
+        final CompoundTag metadata = NBTTranslator.INSTANCE.translate(schematic.getMetadata());
+        if (!requiredMods.isEmpty()) {
+            final ListTag mods = new ListTag();
+            for (final String mod : requiredMods) {
+                mods.add(StringTag.valueOf(mod));
+            }
+            metadata.put(Schematic.METADATA_REQUIRED_MODS, mods);
+        }
+        if (!metadata.isEmpty()) {
+            SpongeSchematicWriter.writeTag(out, SpongeSchematicWriter.METADATA, metadata);
+        }
+    }
+
+    private static void addRequiredMod(final Set<String> requiredMods, final ResourceKey key) {
+        if (!"minecraft".equals(key.getNamespace())) {
+            requiredMods.add(key.getNamespace());
+        }
+    }
+
+    private static void writeCompoundList(final DataOutput out, final String name, final List<CompoundTag> tags) throws IOException {
+        SpongeSchematicWriter.beginTag(out, Constants.NBT.TAG_LIST, name);
+        out.writeByte(Constants.NBT.TAG_COMPOUND);
+        out.writeInt(tags.size());
+        for (final CompoundTag tag : tags) {
+            tag.write(out);
+        }
+    }
+
+    private static void writeTag(final DataOutput out, final String name, final Tag tag) throws IOException {
+        SpongeSchematicWriter.beginTag(out, tag.getId(), name);
+        tag.write(out);
+    }
+
+    private static void beginTag(final DataOutput out, final byte type, final String name) throws IOException {
+        out.writeByte(type);
+        out.writeUTF(name);
+    }
+
+    @FunctionalInterface
+    private interface BlockIdSource {
+
+        int get(int x, int y, int z);
+    }
+
+    private static final class BlockIds {
+
+        /** The serialized states by palette id, with {@code null} for unused ids */
+        final List<@Nullable String> palette;
+        /** The varint encoded block data */
+        final ByteArrayOutputStream data;
+
+        BlockIds(final List<@Nullable String> palette, final ByteArrayOutputStream data) {
+            this.palette = palette;
+            this.data = data;
+        }
+    }
+}
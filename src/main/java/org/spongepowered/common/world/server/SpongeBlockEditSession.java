@@ -0,0 +1,368 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.server;
+
+import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.shorts.ShortIterator;
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.block.transaction.BlockTransactionReceipt;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.world.BlockChangeFlags;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.accessor.world.level.LevelAccessor;
+import org.spongepowered.common.accessor.world.level.chunk.LevelChunkAccessor;
+import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.bridge.TrackableBridge;
+import org.spongepowered.common.event.ShouldFire;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.TrackingUtil;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.BlockChange;
+
+import java.lang.ref.WeakReference;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.network.protocol.game.ClientboundLevelChunkPacket;
+import net.minecraft.network.protocol.game.ClientboundSectionBlocksUpdatePacket;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.level.ThreadedLevelLightEngine;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.EntityBlock;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.TickableBlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.Heightmap;
+
+/**
+ * An edit session for large block edits, such as pasting schematics or
+ * regenerating arenas, that bypasses the per-block transactions of the
+ * {@link PhaseTracker}.
+ *
+ * <p>Blocks are written straight into the palettes of the affected chunk
+ * sections, without physics, neighbor notifications or block drops. Light
+ * checks, heightmaps and client updates are deferred until the session is
+ * {@link #close() closed}, where they are performed once per changed block,
+ * chunk and section respectively. Optionally, a single summary
+ * {@link org.spongepowered.api.event.block.ChangeBlockEvent.Post} covering
+ * every changed position is thrown on close.</p>
+ *
+ * <p>Sessions may only be used from the server thread.</p>
+ */
+public final class SpongeBlockEditSession implements AutoCloseable {
+
+    // Above this many changed blocks, resending the whole chunk is cheaper
+    // than sending the changed positions of each of its sections
+    private static final int FULL_CHUNK_THRESHOLD = 4096;
+
+    /**
+     * Opens a new edit session on the given world.
+     *
+     * @param world The world to edit
+     * @param summaryEvent Whether to throw a single summary event of all
+     *     changes once the session is closed
+     * @return The new session
+     */
+    public static SpongeBlockEditSession open(final ServerWorld world, final boolean summaryEvent) {
+        final ServerLevel level = (ServerLevel) Objects.requireNonNull(world, "world");
+        if (!level.getServer().isSameThread()) {
+            throw new IllegalStateException("Block edit sessions can only be used on the server thread!");
+        }
+        return new SpongeBlockEditSession(level, summaryEvent);
+    }
+
+    private final ServerLevel level;
+    private final Supplier<ServerLevel> levelSupplier;
+    private final Long2ObjectMap<ChunkEdit> chunks = new Long2ObjectLinkedOpenHashMap<>();
+    private final LongArrayList lightChecks = new LongArrayList();
+    @Nullable private final Long2ObjectLinkedOpenHashMap<SpongeBlockSnapshot> originals;
+    @Nullable private ChunkEdit lastChunk;
+    private boolean closed;
+
+    private SpongeBlockEditSession(final ServerLevel level, final boolean summaryEvent) {
+        this.level = level;
+        final WeakReference<ServerLevel> levelRef = new WeakReference<>(level);
+        this.levelSupplier = () -> Objects.requireNonNull(levelRef.get(), "ServerWorld dereferenced");
+        this.originals = summaryEvent ? new Long2ObjectLinkedOpenHashMap<>() : null;
+    }
+
+    /**
+     * Sets the block at the given position.
+     *
+     * @param x The x position
+     * @param y The y position
+     * @param z The z position
+     * @param state The new block state
+     * @return True if the block at that position was changed
+     */
+    public boolean setBlock(final int x, final int y, final int z, final org.spongepowered.api.block.BlockState state) {
+        if (this.closed) {
+            throw new IllegalStateException("This edit session has already been closed!");
+        }
+        if (Level.isOutsideBuildHeight(y)) {
+            return false;
+        }
+        final BlockState newState = (BlockState) Objects.requireNonNull(state, "state");
+        final ChunkEdit edit = this.getChunkEdit(x >> 4, z >> 4);
+        final LevelChunkSection[] sections = edit.chunk.getSections();
+        final int sectionY = y >> 4;
+        LevelChunkSection section = sections[sectionY];
+        if (section == LevelChunk.EMPTY_SECTION) {
+            if (newState.isAir()) {
+                return false;
+            }
+            section = new LevelChunkSection(sectionY << 4);
+            sections[sectionY] = section;
+        }
+        final boolean wasEmpty = section.isEmpty();
+        final BlockState oldState = section.setBlockState(x & 15, y & 15, z & 15, newState, false);
+        if (oldState == newState) {
+            return false;
+        }
+        final BlockPos pos = new BlockPos(x, y, z);
+        final @Nullable BlockEntity oldBlockEntity = edit.chunk.getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
+        this.recordOriginal(pos, oldState, newState, oldBlockEntity);
+
+        if (oldBlockEntity != null && (oldState.getBlock() != newState.getBlock() || !(newState.getBlock() instanceof EntityBlock))) {
+            edit.chunk.removeBlockEntity(pos);
+        }
+        if (newState.getBlock() instanceof EntityBlock && edit.chunk.getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK) == null) {
+            final @Nullable BlockEntity blockEntity = ((EntityBlock) newState.getBlock()).newBlockEntity(this.level);
+            if (blockEntity != null) {
+                edit.chunk.setBlockEntity(pos, blockEntity);
+                this.addBlockEntityToLevel(blockEntity);
+            }
+        } else if (oldBlockEntity != null && oldState.getBlock() == newState.getBlock()) {
+            oldBlockEntity.clearCache();
+        }
+
+        if (wasEmpty != section.isEmpty()) {
+            this.level.getChunkSource().getLightEngine().updateSectionStatus(SectionPos.of(pos), section.isEmpty());
+        }
+        if (newState.getLightBlock(this.level, pos) != oldState.getLightBlock(this.level, pos)
+            || newState.getLightEmission() != oldState.getLightEmission()
+            || newState.useShapeForLightOcclusion() || oldState.useShapeForLightOcclusion()) {
+            this.lightChecks.add(pos.asLong());
+        }
+        this.level.onBlockStateChange(pos, oldState, newState);
+
+        edit.markChanged(sectionY, pos);
+        return true;
+    }
+
+    /**
+     * Replaces the block entity at the given position with a new one, as
+     * created by the block at that position. The data of the previous block
+     * entity is dropped, for example when a block is pasted over an equal
+     * block that has its block entity data.
+     *
+     * @param x The x position
+     * @param y The y position
+     * @param z The z position
+     */
+    public void resetBlockEntity(final int x, final int y, final int z) {
+        if (this.closed) {
+            throw new IllegalStateException("This edit session has already been closed!");
+        }
+        if (Level.isOutsideBuildHeight(y)) {
+            return;
+        }
+        final ChunkEdit edit = this.getChunkEdit(x >> 4, z >> 4);
+        final BlockPos pos = new BlockPos(x, y, z);
+        final BlockState state = edit.chunk.getBlockState(pos);
+        if (!(state.getBlock() instanceof EntityBlock)) {
+            return;
+        }
+        final @Nullable BlockEntity oldBlockEntity = edit.chunk.getBlockEntity(pos, LevelChunk.EntityCreationType.CHECK);
+        this.recordOriginal(pos, state, state, oldBlockEntity);
+        if (oldBlockEntity != null) {
+            edit.chunk.removeBlockEntity(pos);
+        }
+        final @Nullable BlockEntity blockEntity = ((EntityBlock) state.getBlock()).newBlockEntity(this.level);
+        if (blockEntity != null) {
+            edit.chunk.setBlockEntity(pos, blockEntity);
+            this.addBlockEntityToLevel(blockEntity);
+        }
+        edit.markChanged(y >> 4, pos);
+    }
+
+    private void recordOriginal(final BlockPos pos, final BlockState oldState, final BlockState newState,
+        final @Nullable BlockEntity oldBlockEntity
+    ) {
+        if (this.originals == null || this.originals.containsKey(pos.asLong())) {
+            return;
+        }
+        final SpongeBlockSnapshot original = TrackingUtil.createPooledSnapshot(oldState, pos, BlockChangeFlags.NONE,
+            Constants.World.DEFAULT_BLOCK_CHANGE_LIMIT, oldBlockEntity, this.levelSupplier, Optional::empty, Optional::empty);
+        if (newState.isAir()) {
+            original.blockChange = BlockChange.BREAK;
+        } else if (oldState.getBlock() != newState.getBlock()) {
+            original.blockChange = BlockChange.PLACE;
+        } else {
+            original.blockChange = BlockChange.MODIFY;
+        }
+        this.originals.put(pos.asLong(), original);
+    }
+
+    private ChunkEdit getChunkEdit(final int chunkX, final int chunkZ) {
+        final @Nullable ChunkEdit last = this.lastChunk;
+        if (last != null && last.chunk.getPos().x == chunkX && last.chunk.getPos().z == chunkZ) {
+            return last;
+        }
+        final ChunkEdit edit = this.chunks.computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ),
+            key -> new ChunkEdit(this.level.getChunk(chunkX, chunkZ)));
+        this.lastChunk = edit;
+        return edit;
+    }
+
+    private void addBlockEntityToLevel(final BlockEntity blockEntity) {
+        if (((LevelAccessor) this.level).accessor$updatingBlockEntities()) {
+            ((LevelAccessor) this.level).accessor$pendingBlockEntities().add(blockEntity);
+            return;
+        }
+        this.level.blockEntityList.add(blockEntity);
+        if (blockEntity instanceof TickableBlockEntity && ((TrackableBridge) blockEntity).bridge$shouldTick()) {
+            this.level.tickableBlockEntities.add(blockEntity);
+        }
+    }
+
+    /**
+     * Completes this session, performing the deferred light checks,
+     * heightmap updates and client updates of all changes, and throws the
+     * summary event if it was requested.
+     */
+    @Override
+    public void close() {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+
+        final ThreadedLevelLightEngine lightEngine = this.level.getChunkSource().getLightEngine();
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int i = 0; i < this.lightChecks.size(); i++) {
+            lightEngine.checkBlock(pos.set(this.lightChecks.getLong(i)));
+        }
+
+        for (final ChunkEdit edit : this.chunks.values()) {
+            final EnumSet<Heightmap.Types> types = EnumSet.noneOf(Heightmap.Types.class);
+            types.addAll(((LevelChunkAccessor) edit.chunk).accessor$heightmaps().keySet());
+            Heightmap.primeHeightmaps(edit.chunk, types);
+            edit.chunk.setUnsaved(true);
+            this.sendChanges(edit);
+        }
+
+        if (this.originals != null && ShouldFire.CHANGE_BLOCK_EVENT_POST) {
+            this.throwSummaryEvent(this.originals);
+        }
+        this.chunks.clear();
+        this.lastChunk = null;
+    }
+
+    private void sendChanges(final ChunkEdit edit) {
+        final ChunkPos chunkPos = edit.chunk.getPos();
+        final List<ServerPlayer> players = this.level.getChunkSource().chunkMap.getPlayers(chunkPos, false)
+            .collect(Collectors.toList());
+        if (players.isEmpty()) {
+            return;
+        }
+        if (edit.changes >= SpongeBlockEditSession.FULL_CHUNK_THRESHOLD) {
+            // The chunk packet carries the block entities along with it
+            final ClientboundLevelChunkPacket packet = new ClientboundLevelChunkPacket(edit.chunk, 65535);
+            players.forEach(player -> player.connection.send(packet));
+            return;
+        }
+        final LevelChunkSection[] sections = edit.chunk.getSections();
+        for (int sectionY = 0; sectionY < edit.changedBlocks.length; sectionY++) {
+            final @Nullable ShortOpenHashSet changed = edit.changedBlocks[sectionY];
+            if (changed == null) {
+                continue;
+            }
+            final SectionPos sectionPos = SectionPos.of(chunkPos, sectionY);
+            final ClientboundSectionBlocksUpdatePacket packet = new ClientboundSectionBlocksUpdatePacket(sectionPos, changed, sections[sectionY], false);
+            players.forEach(player -> player.connection.send(packet));
+            for (final ShortIterator iterator = changed.iterator(); iterator.hasNext(); ) {
+                final @Nullable BlockEntity blockEntity = edit.chunk.getBlockEntity(sectionPos.relativeToBlockPos(iterator.nextShort()),
+                    LevelChunk.EntityCreationType.CHECK);
+                if (blockEntity != null) {
+                    final @Nullable ClientboundBlockEntityDataPacket update = blockEntity.getUpdatePacket();
+                    if (update != null) {
+                        players.forEach(player -> player.connection.send(update));
+                    }
+                }
+            }
+        }
+    }
+
+    private void throwSummaryEvent(final Long2ObjectLinkedOpenHashMap<SpongeBlockSnapshot> originals) {
+        final ImmutableList.Builder<BlockTransactionReceipt> receipts = ImmutableList.builder();
+        for (final SpongeBlockSnapshot original : originals.values()) {
+            final BlockPos pos = original.getBlockPos();
+            final SpongeBlockSnapshot result = TrackingUtil.createPooledSnapshot(this.level.getBlockState(pos), pos, BlockChangeFlags.NONE,
+                Constants.World.DEFAULT_BLOCK_CHANGE_LIMIT, this.level.getBlockEntity(pos), this.levelSupplier, Optional::empty, Optional::empty);
+            receipts.add(new BlockTransactionReceipt(original, result, original.blockChange.toOperation()));
+        }
+        originals.clear();
+        SpongeCommon.postEvent(SpongeEventFactory.createChangeBlockEventPost(PhaseTracker.getCauseStackManager().getCurrentCause(),
+            receipts.build(), (ServerWorld) this.level));
+    }
+
+    static final class ChunkEdit {
+
+        final LevelChunk chunk;
+        final @Nullable ShortOpenHashSet[] changedBlocks = new ShortOpenHashSet[16];
+        int changes;
+
+        ChunkEdit(final LevelChunk chunk) {
+            this.chunk = chunk;
+        }
+
+        void markChanged(final int sectionY, final BlockPos pos) {
+            @Nullable ShortOpenHashSet changed = this.changedBlocks[sectionY];
+            if (changed == null) {
+                changed = new ShortOpenHashSet();
+                this.changedBlocks[sectionY] = changed;
+            }
+            if (changed.add(SectionPos.sectionRelativePos(pos))) {
+                this.changes++;
+            }
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.Util;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtUtils;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.BitStorage;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.GlobalPalette;
+import net.minecraft.world.level.chunk.Palette;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.chunk.storage.ChunkSerializer;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.accessor.world.level.chunk.PalettedContainerAccessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Serializes chunks in two stages. On the main thread everything but the
+ * block states of the sections is written by the {@link ChunkSerializer}, the
+ * block states are only copied. The block state palettes are then built and
+ * encoded on a worker thread, after which the chunk can be written to its
+ * region file.
+ */
+public final class AsyncChunkSerializer {
+
+    private static final int SECTION_SIZE = 16 * 16 * 16;
+
+    // The sections captured by the serializer on the current thread, if capturing
+    private static final ThreadLocal<List<SectionSnapshot>> CAPTURED_SECTIONS = new ThreadLocal<>();
+
+    /**
+     * Writes the chunk, deferring the encoding of its block states.
+     *
+     * @param level The level of the chunk
+     * @param chunk The chunk
+     * @return The chunk data, to be completed by {@link #complete(PartialChunk)}
+     */
+    public static PartialChunk write(final ServerLevel level, final ChunkAccess chunk) {
+        final List<SectionSnapshot> sections = new ArrayList<>();
+        AsyncChunkSerializer.CAPTURED_SECTIONS.set(sections);
+        try {
+            return new PartialChunk(ChunkSerializer.write(level, chunk), sections);
+        } finally {
+            AsyncChunkSerializer.CAPTURED_SECTIONS.remove();
+        }
+    }
+
+    /**
+     * Captures the block states of a section instead of writing them, if the
+     * current thread is serializing a chunk through {@link #write}.
+     *
+     * @param states The block states of the section
+     * @param sectionTag The tag of the section to write the states to later
+     * @param paletteKey The key of the palette
+     * @param statesKey The key of the packed states
+     * @return True if the states were captured
+     */
+    public static boolean captureSection(final PalettedContainer<BlockState> states, final CompoundTag sectionTag, final String paletteKey,
+            final String statesKey) {
+        final List<SectionSnapshot> sections = AsyncChunkSerializer.CAPTURED_SECTIONS.get();
+        if (sections == null) {
+            return false;
+        }
+        sections.add(new SectionSnapshot(states, sectionTag, paletteKey, statesKey));
+        return true;
+    }
+
+    /**
+     * Encodes the captured block states into the chunk data on a worker
+     * thread.
+     *
+     * @param chunk The partially written chunk
+     * @return The future of the completed chunk data
+     */
+    public static CompletableFuture<CompoundTag> complete(final PartialChunk chunk) {
+        if (chunk.sections.isEmpty()) {
+            return CompletableFuture.completedFuture(chunk.tag);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            for (final SectionSnapshot section : chunk.sections) {
+                section.write();
+            }
+            return chunk.tag;
+        }, Util.backgroundExecutor());
+    }
+
+    public static final class PartialChunk {
+
+        final CompoundTag tag;
+        final List<SectionSnapshot> sections;
+
+        PartialChunk(final CompoundTag tag, final List<SectionSnapshot> sections) {
+            this.tag = tag;
+            this.sections = sections;
+        }
+
+        public CompoundTag getTag() {
+            return this.tag;
+        }
+
+        public boolean isComplete() {
+            return this.sections.isEmpty();
+        }
+    }
+
+    /**
+     * A copy of the packed block states of a section, taken on the main
+     * thread. Only the storage array and palette entries are copied, which
+     * is far cheaper than building the palette that gets written.
+     */
+    static final class SectionSnapshot {
+
+        private final CompoundTag tag;
+        private final String paletteKey;
+        private final String statesKey;
+        private final BitStorage storage;
+        // Null if the section uses the global palette
+        private final BlockState @Nullable [] palette;
+
+        @SuppressWarnings("unchecked")
+        SectionSnapshot(final PalettedContainer<BlockState> states, final CompoundTag tag, final String paletteKey, final String statesKey) {
+            this.tag = tag;
+            this.paletteKey = paletteKey;
+            this.statesKey = statesKey;
+            final PalettedContainerAccessor<BlockState> accessor = (PalettedContainerAccessor<BlockState>) states;
+            states.acquire();
+            try {
+                final BitStorage storage = accessor.accessor$storage();
+                this.storage = new BitStorage(storage.getBits(), AsyncChunkSerializer.SECTION_SIZE, storage.getRaw().clone());
+                final Palette<BlockState> palette = accessor.accessor$palette();
+                if (palette instanceof GlobalPalette) {
+                    this.palette = null;
+                } else {
+                    this.palette = new BlockState[1 << accessor.accessor$bits()];
+                    for (int id = 0; id < this.palette.length; id++) {
+                        this.palette[id] = palette.valueFor(id);
+                    }
+                }
+            } finally {
+                states.release();
+            }
+        }
+
+        private BlockState get(final int index) {
+            final int id = this.storage.get(index);
+            final BlockState state = this.palette == null ? Block.BLOCK_STATE_REGISTRY.byId(id) : this.palette[id];
+            return state == null ? Blocks.AIR.defaultBlockState() : state;
+        }
+
+        /**
+         * Writes the states in the same format as
+         * {@link PalettedContainer#write(CompoundTag, String, String)}.
+         */
+        void write() {
+            final Reference2IntMap<BlockState> ids = new Reference2IntOpenHashMap<>();
+            ids.defaultReturnValue(-1);
+            final ListTag palette = new ListTag();
+            final int[] values = new int[AsyncChunkSerializer.SECTION_SIZE];
+            // The default value is always the first palette entry
+            BlockState last = Blocks.AIR.defaultBlockState();
+            ids.put(last, 0);
+            palette.add(NbtUtils.writeBlockState(last));
+            int lastId = 0;
+            for (int i = 0; i < values.length; i++) {
+                final BlockState state = this.get(i);
+                if (state != last) {
+                    last = state;
+                    lastId = ids.getInt(state);
+                    if (lastId == -1) {
+                        lastId = palette.size();
+                        ids.put(state, lastId);
+                        palette.add(NbtUtils.writeBlockState(state));
+                    }
+                }
+                values[i] = lastId;
+            }
+            this.tag.put(this.paletteKey, palette);
+            final BitStorage storage = new BitStorage(Math.max(4, Mth.ceillog2(palette.size())), AsyncChunkSerializer.SECTION_SIZE);
+            for (int i = 0; i < values.length; i++) {
+                storage.set(i, values[i]);
+            }
+            this.tag.putLongArray(this.statesKey, storage.getRaw());
+        }
+    }
+
+    private AsyncChunkSerializer() {
+    }
+}
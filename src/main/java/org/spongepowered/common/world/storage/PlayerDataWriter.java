@@ -0,0 +1,238 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.Util;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.SpongeCommon;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Writes player data files, either on the calling thread or on a background
+ * thread. Compounds are copied when they are submitted, and written files are
+ * read back from the pending compound until it is written. Submitting a file
+ * again before its previous compound is written only writes the latest one.
+ */
+public final class PlayerDataWriter {
+
+    private final Map<Path, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+    // Notified whenever the pending writes may have run empty
+    private final Object idle = new Object();
+    @Nullable private final ExecutorService executor;
+    // The file the background thread is currently writing, set before its pending write is taken
+    @Nullable private volatile Path writing;
+
+    public PlayerDataWriter(final boolean async) {
+        this.executor = async ? Executors.newSingleThreadExecutor(
+                new ThreadFactoryBuilder().setDaemon(true).setNameFormat("Sponge-PlayerDataWriter-%d").build()) : null;
+    }
+
+    /**
+     * Gets whether files are written on a background thread.
+     *
+     * @return True if asynchronous
+     */
+    public boolean isAsync() {
+        return this.executor != null;
+    }
+
+    /**
+     * Writes the compound to the file.
+     *
+     * @param file The file to write to
+     * @param compound The compound to write
+     */
+    public void write(final Path file, final CompoundTag compound) {
+        this.write(file, compound, null);
+    }
+
+    /**
+     * Writes the compound to the file, keeping the previous file as backup.
+     *
+     * @param file The file to write to
+     * @param compound The compound to write
+     * @param backup The file to move the previous file to, if any
+     */
+    public void write(final Path file, final CompoundTag compound, @Nullable final Path backup) {
+        final PendingWrite write = new PendingWrite(compound.copy(), backup);
+        if (this.executor == null) {
+            PlayerDataWriter.writeFile(file, write);
+            return;
+        }
+        // Only schedule a write if there isn't one already, it will pick up the latest compound
+        if (this.pendingWrites.put(file, write) == null) {
+            this.executor.execute(() -> this.writePending(file));
+        }
+    }
+
+    private void writePending(final Path file) {
+        this.writing = file;
+        try {
+            final PendingWrite write = this.pendingWrites.get(file);
+            if (write == null) {
+                // Discarded in the meantime
+                return;
+            }
+            PlayerDataWriter.writeFile(file, write);
+            // A newer compound was submitted while writing, write that one as well
+            if (!this.pendingWrites.remove(file, write)) {
+                this.executor.execute(() -> this.writePending(file));
+                return;
+            }
+        } finally {
+            this.writing = null;
+        }
+        this.notifyIfIdle();
+    }
+
+    private void notifyIfIdle() {
+        synchronized (this.idle) {
+            if (this.pendingWrites.isEmpty()) {
+                this.idle.notifyAll();
+            }
+        }
+    }
+
+    private static void writeFile(final Path file, final PendingWrite write) {
+        try {
+            // Ensure that where we want to put this at ALWAYS exists
+            Files.createDirectories(file.getParent());
+
+            final Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+            try (final OutputStream stream = Files.newOutputStream(tempFile)) {
+                NbtIo.writeCompressed(write.compound, stream);
+            }
+            if (write.backup == null) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Util.safeReplaceFile(file.toFile(), tempFile.toFile(), write.backup.toFile());
+            }
+        } catch (final Exception e) {
+            SpongeCommon.getLogger().error("Failed to save player data to [{}]!", file, e);
+        }
+    }
+
+    /**
+     * Reads the compound of the file, or the compound still waiting to be
+     * written to it.
+     *
+     * @param file The file to read
+     * @return The compound, or null if the file doesn't exist
+     * @throws IOException If the file could not be read
+     */
+    @Nullable
+    public CompoundTag read(final Path file) throws IOException {
+        final PendingWrite write = this.pendingWrites.get(file);
+        if (write != null) {
+            return write.compound.copy();
+        }
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (final InputStream stream = Files.newInputStream(file)) {
+            return NbtIo.readCompressed(stream);
+        }
+    }
+
+    /**
+     * Gets whether the file exists or is waiting to be written.
+     *
+     * @param file The file
+     * @return True if the file exists
+     */
+    public boolean exists(final Path file) {
+        return this.pendingWrites.containsKey(file) || Files.exists(file);
+    }
+
+    /**
+     * Drops the compound waiting to be written to the file, if any, for
+     * example because the file is deleted. If the file is being written at
+     * the moment, this waits until the write is done, so that it can't
+     * restore the file afterwards.
+     *
+     * @param file The file
+     */
+    public void discard(final Path file) {
+        if (this.pendingWrites.remove(file) != null) {
+            this.notifyIfIdle();
+        }
+        if (this.executor == null || !file.equals(this.writing)) {
+            return;
+        }
+        try {
+            // The writer is single threaded, once this runs the write is done
+            this.executor.submit(() -> {}).get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+            SpongeCommon.getLogger().error("Failed to wait for player data to be saved!", e);
+        }
+    }
+
+    /**
+     * Waits until every pending compound is written.
+     */
+    public void flush() {
+        if (this.executor == null) {
+            return;
+        }
+        synchronized (this.idle) {
+            // Writes stay pending until they are written, including those resubmitted while writing
+            while (!this.pendingWrites.isEmpty()) {
+                try {
+                    this.idle.wait();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class PendingWrite {
+
+        final CompoundTag compound;
+        @Nullable final Path backup;
+
+        PendingWrite(final CompoundTag compound, @Nullable final Path backup) {
+            this.compound = compound;
+            this.backup = backup;
+        }
+    }
+}
@@ -29,18 +29,15 @@
 import org.spongepowered.api.data.persistence.DataContainer;
 import org.spongepowered.api.data.persistence.DataQuery;
 import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.data.persistence.NBTTranslator;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.world.server.SpongeWorldManager;
 
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.file.DirectoryIteratorException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
-import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -51,18 +48,29 @@
 
 import javax.annotation.Nullable;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.NbtIo;
 
 public final class SpongePlayerDataManager {
 
     private static final String SPONGE_DATA = "sponge";
     private final Server server;
     private final Map<UUID, SpongePlayerData> playerDataByUniqueId;
+    private final PlayerDataWriter writer;
     @org.checkerframework.checker.nullness.qual.Nullable private Path playersDirectory = null;
 
     public SpongePlayerDataManager(final Server server) {
         this.server = server;
         this.playerDataByUniqueId = new ConcurrentHashMap<>();
+        this.writer = new PlayerDataWriter(SpongeConfigs.getCommon().get().optimizations.asyncPlayerDataSaves);
+    }
+
+    /**
+     * Gets the writer all player data files, vanilla and our own, are
+     * written and read through.
+     *
+     * @return The player data writer
+     */
+    public PlayerDataWriter getWriter() {
+        return this.writer;
     }
 
     public void load() {
@@ -83,17 +91,17 @@ public void load() {
                 if (Files.isReadable(playerFile)) {
                     final CompoundTag compound;
 
-                    try (final InputStream stream = Files.newInputStream(playerFile)) {
-                        compound = NbtIo.readCompressed(stream);
+                    try {
+                        compound = this.writer.read(playerFile);
                     } catch (final Exception e) {
                         throw new RuntimeException("Failed to decompress playerdata for playerfile " + playerFile, e);
                     }
 
-                    if (compound.isEmpty()) {
+                    if (compound == null || compound.isEmpty()) {
                         throw new RuntimeException("Failed to decompress player data within [" + playerFile + "]!");
                     }
 
-                    final DataContainer container = NBTTranslator.INSTANCE.translateFrom(compound);
+                    final DataContainer container = NBTTranslator.INSTANCE.wrap(compound);
                     final SpongePlayerData data = container.getSerializable(DataQuery.of(), SpongePlayerData.class).get();
                     this.playerDataByUniqueId.put(data.getUniqueId(), data);
                 }
@@ -158,19 +166,7 @@ private CompoundTag createCompoundFor(final SpongePlayerData data) {
     }
 
     private void saveFile(final String id, final CompoundTag compound) {
-        try {
-            // Ensure that where we want to put this at ALWAYS exists
-            Files.createDirectories(this.playersDirectory);
-
-            final Path finalDatPath = this.playersDirectory.resolve(id + ".dat");
-            final Path newDatPath = this.playersDirectory.resolve(id + ".dat.tmp");
-            try (final OutputStream stream = Files.newOutputStream(newDatPath, StandardOpenOption.CREATE)) {
-                NbtIo.writeCompressed(compound, stream);
-            }
-            Files.move(newDatPath, finalDatPath, StandardCopyOption.REPLACE_EXISTING);
-        } catch (Exception e) {
-            SpongeCommon.getLogger().error("Failed to save player data for [{}]!", id, e);
-        }
+        this.writer.write(this.playersDirectory.resolve(id + ".dat"), compound);
     }
 
     public void setPlayerInfo(final UUID playerUniqueId, final Instant join, final Instant last) {
@@ -0,0 +1,237 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.EntityBlock;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ChunkStatus;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.phys.AABB;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.block.entity.BlockEntityArchetype;
+import org.spongepowered.api.world.server.ServerLocation;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeEntry;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.world.server.SpongeBlockEditSession;
+import org.spongepowered.common.world.volume.buffer.archetype.SpongeArchetypeVolume;
+import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Copies whole regions between a {@link Level} and a
+ * {@link SpongeArchetypeVolume} section by section.
+ *
+ * <p>Copying out walks the packed storage of each {@link LevelChunkSection}
+ * and translates its global state ids to the volume's palette ids through a
+ * remapping table, so each distinct state is only looked up in the palette
+ * once per copy. Pasting resolves the volume's palette once and writes
+ * through a {@link SpongeBlockEditSession}, skipping the per block neighbor
+ * updates, events and physics of a regular {@code setBlock}. Block entities
+ * and entities are moved once the blocks are in place.</p>
+ */
+public final class BulkVolumeCopier {
+
+    private static final int UNMAPPED = -1;
+
+    /**
+     * Copies the blocks, block entities and entities between {@code min} and
+     * {@code max} (inclusive) into the volume, where the world position
+     * {@code origin} maps to the volume position {@code 0, 0, 0}. Chunks
+     * that are not loaded are copied as air rather than being loaded or
+     * generated.
+     *
+     * @param level The level to copy from
+     * @param min The minimum world position
+     * @param max The maximum world position
+     * @param origin The world position of the volume origin
+     * @param volume The volume to copy into
+     */
+    public static void copyToVolume(final Level level, final Vector3i min, final Vector3i max, final Vector3i origin,
+        final SpongeArchetypeVolume volume
+    ) {
+        final ArrayMutableBlockBuffer blocks = volume.getBlockBuffer();
+        final int originX = origin.getX();
+        final int originY = origin.getY();
+        final int originZ = origin.getZ();
+        final int[] remap = new int[Block.BLOCK_STATE_REGISTRY.size()];
+        Arrays.fill(remap, BulkVolumeCopier.UNMAPPED);
+        final ChunkSectionWalker.BlockVisitor visitor = (x, y, z, stateId) -> {
+            int id = remap[stateId];
+            if (id == BulkVolumeCopier.UNMAPPED) {
+                id = blocks.getOrAssignId((org.spongepowered.api.block.BlockState) Block.stateById(stateId));
+                remap[stateId] = id;
+            }
+            blocks.setBlockId(x - originX, y - originY, z - originZ, id);
+        };
+        final int airStateId = Block.getId(Blocks.AIR.defaultBlockState());
+
+        final int minSection = Math.max(min.getY() >> 4, 0);
+        final int maxSection = Math.min(max.getY() >> 4, 15);
+        for (int chunkX = min.getX() >> 4; chunkX <= max.getX() >> 4; chunkX++) {
+            for (int chunkZ = min.getZ() >> 4; chunkZ <= max.getZ() >> 4; chunkZ++) {
+                final @Nullable ChunkAccess chunkAccess = level.getChunk(chunkX, chunkZ, ChunkStatus.FULL, false);
+                if (!(chunkAccess instanceof LevelChunk)) {
+                    for (int sectionY = minSection; sectionY <= maxSection; sectionY++) {
+                        BulkVolumeCopier.visitEmptySection(chunkX, sectionY, chunkZ, min, max, airStateId, visitor);
+                    }
+                    continue;
+                }
+                final LevelChunk chunk = (LevelChunk) chunkAccess;
+                final LevelChunkSection[] sections = chunk.getSections();
+                for (int sectionY = minSection; sectionY <= maxSection; sectionY++) {
+                    final @Nullable LevelChunkSection section = sections[sectionY];
+                    if (LevelChunkSection.isEmpty(section)) {
+                        BulkVolumeCopier.visitEmptySection(chunkX, sectionY, chunkZ, min, max, airStateId, visitor);
+                    } else {
+                        ChunkSectionWalker.walkSection(section, chunkX, chunkZ, min, max, visitor);
+                    }
+                }
+
+                for (final BlockEntity blockEntity : chunk.getBlockEntities().values()) {
+                    final BlockPos pos = blockEntity.getBlockPos();
+                    if (BulkVolumeCopier.contains(min, max, pos.getX(), pos.getY(), pos.getZ())) {
+                        final BlockEntityArchetype archetype = ((org.spongepowered.api.block.entity.BlockEntity) blockEntity).createArchetype();
+                        volume.addBlockEntity(pos.getX() - originX, pos.getY() - originY, pos.getZ() - originZ, archetype);
+                    }
+                }
+            }
+        }
+
+        final AABB bounds = new AABB(min.getX(), min.getY(), min.getZ(), max.getX() + 1, max.getY() + 1, max.getZ() + 1);
+        final Vector3d offset = origin.toDouble();
+        for (final Entity entity : level.getEntities((Entity) null, bounds, entity -> !(entity instanceof Player))) {
+            final org.spongepowered.api.entity.Entity spongeEntity = (org.spongepowered.api.entity.Entity) entity;
+            volume.addEntity(EntityArchetypeEntry.of(spongeEntity.createArchetype(), spongeEntity.getPosition().sub(offset)));
+        }
+    }
+
+    /**
+     * Pastes the volume into the level, where the volume position
+     * {@code 0, 0, 0} maps to the world position {@code origin}. The blocks
+     * are written through a {@link SpongeBlockEditSession}. Pasted blocks
+     * that need a block entity get the one of the volume, or a new one if
+     * the volume has none.
+     *
+     * @param volume The volume to paste
+     * @param level The level to paste into
+     * @param origin The world position of the volume origin
+     */
+    public static void pasteFromVolume(final SpongeArchetypeVolume volume, final ServerLevel level, final Vector3i origin) {
+        final ArrayMutableBlockBuffer blocks = volume.getBlockBuffer();
+        final Vector3i min = volume.getBlockMin().add(origin);
+        final Vector3i max = volume.getBlockMax().add(origin);
+        final int originX = origin.getX();
+        final int originY = origin.getY();
+        final int originZ = origin.getZ();
+
+        // Palette id -> state, resolved once for the whole paste
+        final BlockState[] states = new BlockState[blocks.getPalette().getHighestId() + 1];
+        Arrays.fill(states, Blocks.AIR.defaultBlockState());
+        blocks.getPalette().streamWithIds().forEach(entry -> states[entry.getValue()] = (BlockState) entry.getKey());
+
+        final Map<Vector3i, BlockEntityArchetype> archetypes = volume.getBlockEntityArchetypes();
+        final int minY = Math.max(min.getY(), 0);
+        final int maxY = Math.min(max.getY(), level.getMaxBuildHeight() - 1);
+        final ServerWorld world = (ServerWorld) level;
+
+        try (final PhaseContext<@NonNull ?> context = PluginPhase.State.BLOCK_WORKER.createPhaseContext(PhaseTracker.SERVER)) {
+            context.buildAndSwitch();
+            try (final SpongeBlockEditSession session = SpongeBlockEditSession.open(world, false)) {
+                // Chunk by chunk, so the session keeps working on the same chunk
+                for (int chunkX = min.getX() >> 4; chunkX <= max.getX() >> 4; chunkX++) {
+                    for (int chunkZ = min.getZ() >> 4; chunkZ <= max.getZ() >> 4; chunkZ++) {
+                        final int xStart = Math.max(min.getX(), chunkX << 4);
+                        final int xEnd = Math.min(max.getX(), (chunkX << 4) + 15);
+                        final int zStart = Math.max(min.getZ(), chunkZ << 4);
+                        final int zEnd = Math.min(max.getZ(), (chunkZ << 4) + 15);
+                        for (int y = minY; y <= maxY; y++) {
+                            for (int z = zStart; z <= zEnd; z++) {
+                                for (int x = xStart; x <= xEnd; x++) {
+                                    final BlockState state = states[blocks.getBlockId(x - originX, y - originY, z - originZ)];
+                                    session.setBlock(x, y, z, (org.spongepowered.api.block.BlockState) state);
+                                    // Block entities already in the world don't belong to the pasted blocks
+                                    if (state.getBlock() instanceof EntityBlock
+                                        && !archetypes.containsKey(new Vector3i(x - originX, y - originY, z - originZ))) {
+                                        session.resetBlockEntity(x, y, z);
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+
+            for (final Map.Entry<Vector3i, BlockEntityArchetype> entry : archetypes.entrySet()) {
+                entry.getValue().apply(ServerLocation.of(world, entry.getKey().add(origin)));
+            }
+            final Vector3d offset = origin.toDouble();
+            volume.getEntitiesByPosition()
+                .forEach(entry -> entry.getArchetype().apply(ServerLocation.of(world, entry.getPosition().add(offset))));
+        }
+    }
+
+    private static void visitEmptySection(final int chunkX, final int sectionY, final int chunkZ, final Vector3i min, final Vector3i max,
+        final int airStateId, final ChunkSectionWalker.BlockVisitor visitor
+    ) {
+        final int xStart = Math.max(min.getX(), chunkX << 4);
+        final int xEnd = Math.min(max.getX(), (chunkX << 4) + 15);
+        final int yStart = Math.max(min.getY(), sectionY << 4);
+        final int yEnd = Math.min(max.getY(), (sectionY << 4) + 15);
+        final int zStart = Math.max(min.getZ(), chunkZ << 4);
+        final int zEnd = Math.min(max.getZ(), (chunkZ << 4) + 15);
+        for (int y = yStart; y <= yEnd; y++) {
+            for (int z = zStart; z <= zEnd; z++) {
+                for (int x = xStart; x <= xEnd; x++) {
+                    visitor.visit(x, y, z, airStateId);
+                }
+            }
+        }
+    }
+
+    private static boolean contains(final Vector3i min, final Vector3i max, final int x, final int y, final int z) {
+        return x >= min.getX() && x <= max.getX() && y >= min.getY() && y <= max.getY() && z >= min.getZ() && z <= max.getZ();
+    }
+
+    private BulkVolumeCopier() {
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import net.minecraft.util.BitStorage;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.GlobalPalette;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.Palette;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.common.accessor.world.level.chunk.PalettedContainerAccessor;
+import org.spongepowered.math.vector.Vector3i;
+
+/**
+ * Walks the block states of a region one {@link LevelChunkSection} at a time,
+ * reading the packed storage and palette of each section directly instead of
+ * looking every position up through the chunk.
+ *
+ * <p>Positions are handed to a {@link BlockVisitor} as primitives along with
+ * the global id of the state (see {@link Block#getId(BlockState)}), so a walk
+ * does not allocate anything per position. Each section is resolved before it
+ * is visited, changes a visitor makes to the section being walked are not seen
+ * by the remainder of that walk.</p>
+ */
+public final class ChunkSectionWalker {
+
+    @FunctionalInterface
+    public interface BlockVisitor {
+
+        /**
+         * Visits a single position.
+         *
+         * @param x The world x coordinate
+         * @param y The world y coordinate
+         * @param z The world z coordinate
+         * @param stateId The global id of the block state at the position
+         */
+        void visit(int x, int y, int z, int stateId);
+    }
+
+    /**
+     * Visits every position of the given chunk within the given bounds, both
+     * inclusive. Sections that were never allocated are skipped.
+     *
+     * @param chunk The chunk
+     * @param min The minimum world position
+     * @param max The maximum world position
+     * @param visitor The visitor
+     */
+    public static void walkChunk(final ChunkAccess chunk, final Vector3i min, final Vector3i max, final BlockVisitor visitor) {
+        final int chunkX = chunk.getPos().x;
+        final int chunkZ = chunk.getPos().z;
+        for (final @Nullable LevelChunkSection section : chunk.getSections()) {
+            if (section == null) {
+                continue;
+            }
+            final int bottomY = section.bottomBlockY();
+            if (bottomY + 15 < min.getY() || bottomY > max.getY()) {
+                continue;
+            }
+            ChunkSectionWalker.walkSection(section, chunkX, chunkZ, min, max, visitor);
+        }
+    }
+
+    /**
+     * Visits every position of the given section within the given bounds,
+     * both inclusive.
+     *
+     * @param section The section
+     * @param chunkX The x coordinate of the chunk the section belongs to
+     * @param chunkZ The z coordinate of the chunk the section belongs to
+     * @param min The minimum world position
+     * @param max The maximum world position
+     * @param visitor The visitor
+     */
+    @SuppressWarnings("unchecked")
+    public static void walkSection(final LevelChunkSection section, final int chunkX, final int chunkZ, final Vector3i min,
+        final Vector3i max, final BlockVisitor visitor
+    ) {
+        final int originX = chunkX << 4;
+        final int originY = section.bottomBlockY();
+        final int originZ = chunkZ << 4;
+        final int xStart = Math.max(min.getX() - originX, 0);
+        final int xEnd = Math.min(max.getX() - originX, 15);
+        final int yStart = Math.max(min.getY() - originY, 0);
+        final int yEnd = Math.min(max.getY() - originY, 15);
+        final int zStart = Math.max(min.getZ() - originZ, 0);
+        final int zEnd = Math.min(max.getZ() - originZ, 15);
+        if (xStart > xEnd || yStart > yEnd || zStart > zEnd) {
+            return;
+        }
+
+        final PalettedContainerAccessor<BlockState> states = (PalettedContainerAccessor<BlockState>) section.getStates();
+        final BitStorage storage = states.accessor$storage();
+        final int @Nullable [] ids = ChunkSectionWalker.resolvePalette(states);
+        if (xStart == 0 && yStart == 0 && zStart == 0 && xEnd == 15 && yEnd == 15 && zEnd == 15) {
+            // Fully covered, the storage order is y, z, x
+            final int[] index = new int[1];
+            storage.getAll(value -> {
+                final int i = index[0]++;
+                visitor.visit(originX + (i & 15), originY + (i >> 8), originZ + (i >> 4 & 15), ids == null ? value : ids[value]);
+            });
+            return;
+        }
+        for (int y = yStart; y <= yEnd; y++) {
+            for (int z = zStart; z <= zEnd; z++) {
+                final int row = y << 8 | z << 4;
+                for (int x = xStart; x <= xEnd; x++) {
+                    final int value = storage.get(row | x);
+                    visitor.visit(originX + x, originY + y, originZ + z, ids == null ? value : ids[value]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Maps the local ids of the given container to global state ids.
+     *
+     * @return The global ids indexed by local id, or null if the container
+     *     already stores global ids
+     */
+    private static int @Nullable [] resolvePalette(final PalettedContainerAccessor<BlockState> states) {
+        final Palette<BlockState> palette = states.accessor$palette();
+        if (palette instanceof GlobalPalette) {
+            return null;
+        }
+        final int[] ids = new int[1 << states.accessor$bits()];
+        for (int id = 0; id < ids.length; id++) {
+            final @Nullable BlockState state = palette.valueFor(id);
+            ids[id] = Block.getId(state == null ? Blocks.AIR.defaultBlockState() : state);
+        }
+        return ids;
+    }
+
+    private ChunkSectionWalker() {
+    }
+}
@@ -25,6 +25,7 @@
 package org.spongepowered.common.world.volume;
 
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.world.volume.MutableVolume;
 import org.spongepowered.api.world.volume.Volume;
 import org.spongepowered.api.world.volume.stream.VolumeCollector;
@@ -34,12 +35,16 @@
 import org.spongepowered.api.world.volume.stream.VolumeMapper;
 import org.spongepowered.api.world.volume.stream.VolumePredicate;
 import org.spongepowered.api.world.volume.stream.VolumeStream;
+import org.spongepowered.api.world.volume.stream.StreamOptions;
+import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.world.volume.stream.SpongeStreamOptions;
 
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -50,12 +55,50 @@
 
     private final Supplier<? extends V> volumeSupplier;
     private final Stream<VolumeElement<V, T>> stream;
+    private final boolean parallel;
+    private final long asyncApplyBudget;
 
     public SpongeVolumeStream(final Stream<VolumeElement<V, T>> elementStream,
         final Supplier<? extends V> volumeSupplier
+    ) {
+        this(elementStream, volumeSupplier, false, 0);
+    }
+
+    /**
+     * Creates a stream honoring the execution modes of the given options.
+     *
+     * @param elementStream The backing stream
+     * @param volumeSupplier The volume supplier
+     * @param options The options the stream was requested with
+     * @param threadSafeReads Whether the elements of the backing stream can be
+     *     produced and read off the main thread, parallel reads are ignored
+     *     otherwise
+     */
+    public SpongeVolumeStream(final Stream<VolumeElement<V, T>> elementStream,
+        final Supplier<? extends V> volumeSupplier, final StreamOptions options, final boolean threadSafeReads
+    ) {
+        this(elementStream, volumeSupplier, threadSafeReads && SpongeStreamOptions.parallelReads(options),
+            SpongeStreamOptions.asyncApplyBudget(options));
+    }
+
+    private SpongeVolumeStream(final Stream<VolumeElement<V, T>> elementStream,
+        final Supplier<? extends V> volumeSupplier, final boolean parallel, final long asyncApplyBudget
     ) {
         this.stream = elementStream;
         this.volumeSupplier = volumeSupplier;
+        this.parallel = parallel;
+        this.asyncApplyBudget = asyncApplyBudget;
+    }
+
+    private <Out> SpongeVolumeStream<V, Out> derive(final Stream<VolumeElement<V, Out>> elementStream) {
+        return new SpongeVolumeStream<>(elementStream, this.volumeSupplier, this.parallel, this.asyncApplyBudget);
+    }
+
+    private <R> R read(final Function<Stream<VolumeElement<V, T>>, R> operation) {
+        if (!this.parallel) {
+            return operation.apply(this.stream);
+        }
+        return VolumeStreamExecutor.read(() -> operation.apply(this.stream.parallel()));
     }
 
     @Override
@@ -65,7 +108,7 @@ public V getVolume() {
 
     @Override
     public VolumeStream<V, T> filter(final VolumePredicate<V, T> predicate) {
-        return new SpongeVolumeStream<>(this.stream
+        return this.derive(this.stream
             .filter(element ->
                 predicate.test(
                     this.volumeSupplier.get(),
@@ -74,17 +117,17 @@ public VolumeStream<V, T> filter(final VolumePredicate<V, T> predicate) {
                     element.getPosition().getY(),
                     element.getPosition().getZ()
                 )
-            ), this.volumeSupplier);
+            ));
     }
 
     @Override
     public VolumeStream<V, T> filter(final Predicate<VolumeElement<V, ? super T>> predicate) {
-        return new SpongeVolumeStream<>(this.stream.filter(predicate), this.volumeSupplier);
+        return this.derive(this.stream.filter(predicate));
     }
 
     @Override
     public <Out> VolumeStream<V, Out> map(final VolumeMapper<V, T, Out> mapper) {
-        return new SpongeVolumeStream<>(this.stream.map(element ->
+        return this.derive(this.stream.map(element ->
             VolumeElement.of(this.volumeSupplier.get(), mapper.map(
                 this.volumeSupplier.get(),
                 element::getType,
@@ -92,12 +135,12 @@ public <Out> VolumeStream<V, Out> map(final VolumeMapper<V, T, Out> mapper) {
                 element.getPosition().getY(),
                 element.getPosition().getZ()
             ), element.getPosition())
-        ), this.volumeSupplier);
+        ));
     }
 
     @Override
     public VolumeStream<V, Optional<? extends T>> flatMap(final VolumeFlatMapper<V, T> mapper) {
-        return new SpongeVolumeStream<>(
+        return this.derive(
             this.stream.map(element ->
                 VolumeElement.of(
                     this.volumeSupplier.get(),
@@ -110,82 +153,81 @@ public VolumeStream<V, Optional<? extends T>> flatMap(final VolumeFlatMapper<V,
                     ),
                     element.getPosition()
                 )
-            ),
-            this.volumeSupplier
+            )
         );
     }
 
     @Override
     public <Out> VolumeStream<V, Out> map(final Function<VolumeElement<V, T>, ? extends Out> mapper) {
-        return new SpongeVolumeStream<>(this.stream.map(element -> VolumeElement.of(
+        return this.derive(this.stream.map(element -> VolumeElement.of(
             this.getVolume(),
             mapper.apply(element),
             element.getPosition()
-        )), this.volumeSupplier);
+        )));
     }
 
     @Override
     public long count() {
-        return this.stream.count();
+        return this.read(Stream::count);
     }
 
     @Override
     public boolean allMatch(final VolumePredicate<V, ? super T> predicate) {
-        return this.stream
+        return this.read(stream -> stream
             .allMatch(element -> predicate.test(
                 this.getVolume(),
                 element::getType,
                 element.getPosition().getX(),
                 element.getPosition().getY(),
                 element.getPosition().getZ()
-            ));
+            )));
     }
 
     @Override
     public boolean allMatch(final Predicate<VolumeElement<V, ? super T>> predicate) {
-        return this.stream.allMatch(predicate);
+        return this.read(stream -> stream.allMatch(predicate));
     }
 
     @Override
     public boolean noneMatch(final VolumePredicate<V, ? super T> predicate) {
-        return this.stream.noneMatch(element -> predicate.test(
+        return this.read(stream -> stream.noneMatch(element -> predicate.test(
             this.getVolume(),
             element::getType,
             element.getPosition().getX(),
             element.getPosition().getY(),
             element.getPosition().getZ()
-        ));
+        )));
     }
 
     @Override
     public boolean noneMatch(final Predicate<VolumeElement<V, ? super T>> predicate) {
-        return this.stream.noneMatch(predicate);
+        return this.read(stream -> stream.noneMatch(predicate));
     }
 
     @Override
     public boolean anyMatch(final VolumePredicate<V, ? super T> predicate) {
-        return this.stream.anyMatch(element -> predicate.test(
+        return this.read(stream -> stream.anyMatch(element -> predicate.test(
             this.getVolume(),
             element::getType,
             element.getPosition().getX(),
             element.getPosition().getY(),
             element.getPosition().getZ()
-        ));
+        )));
     }
 
     @Override
     public boolean anyMatch(final Predicate<VolumeElement<V, ? super T>> predicate) {
-        return this.stream.anyMatch(predicate);
+        return this.read(stream -> stream.anyMatch(predicate));
     }
 
     @Override
     public Optional<VolumeElement<V, T>> findFirst() {
-        return this.stream.findFirst();
+        return this.read(Stream::findFirst);
     }
 
     @Override
     public Optional<VolumeElement<V, T>> findAny() {
-        return this.stream.findAny();
+        return this.read(Stream::findAny);
     }
 
     @Override
@@ -195,6 +237,19 @@ public Stream<VolumeElement<V, T>> toStream() {
 
     @Override
     public <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> collector) {
+        if (this.asyncApplyBudget > 0) {
+            // Nobody waits on the future here, so failures would otherwise go unnoticed
+            this.applyAsync(collector).whenComplete((ignored, throwable) -> {
+                if (throwable != null) {
+                    SpongeCommon.getLogger().error("Failed to apply a volume stream, dropped its remaining writes", throwable);
+                }
+            });
+            return;
+        }
+        this.applyNow(collector);
+    }
+
+    private <W extends MutableVolume> void applyNow(final VolumeCollector<W, T, ?> collector) {
         try (final PhaseContext<@NonNull ?> context = PluginPhase.State.BLOCK_WORKER.createPhaseContext(PhaseTracker.SERVER)) {
             context.buildAndSwitch();
             this.stream.forEach(element -> {
@@ -210,6 +265,51 @@ public <W extends MutableVolume> void apply(final VolumeCollector<W, T, ?> colle
         }
     }
 
+    /**
+     * Applies the stream over the following ticks, within the budget of the
+     * options this stream was requested with. Without a budget the stream
+     * is applied immediately.
+     *
+     * @param collector The collector
+     * @param <W> The type of target volume
+     * @return A future completed once every element has been applied, or
+     *     failed with the exception that stopped the apply
+     */
+    public <W extends MutableVolume> CompletableFuture<Void> applyAsync(final VolumeCollector<W, T, ?> collector) {
+        if (this.asyncApplyBudget <= 0) {
+            this.applyNow(collector);
+            return CompletableFuture.completedFuture(null);
+        }
+        // The type is resolved while staging, so that the write does not read the source volume again
+        final Function<VolumeElement<V, T>, Runnable> stage = element -> {
+            final T type = element.getType();
+            final VolumeElement<W, T> transformed = collector.positionTransform().apply(VolumeElement.of(
+                collector.target(),
+                () -> type,
+                element.getPosition()
+            ));
+            return () -> collector.applicator().apply(collector.target().get(), transformed);
+        };
+        final long budget = this.asyncApplyBudget;
+        final Iterator<VolumeElement<V, T>> elements = this.stream.iterator();
+        if (this.parallel) {
+            // Stage section sized batches on the pool, the main thread only commits them
+            return VolumeStreamExecutor.commit(VolumeStreamExecutor.stageAsync(elements, stage), budget);
+        }
+        // The source can only be read on the main thread, so elements are staged as they are committed
+        return VolumeStreamExecutor.commit(new VolumeStreamExecutor.StagedWrites() {
+            @Override
+            public @Nullable Runnable poll() {
+                return elements.hasNext() ? stage.apply(elements.next()) : null;
+            }
+
+            @Override
+            public boolean isExhausted() {
+                return !elements.hasNext();
+            }
+        }, budget);
+    }
+
     @Override
     public <W extends MutableVolume, R> void applyUntil(final VolumeCollector<W, T, R> collector, final Predicate<R> predicate) {
         boolean doWork = true;
@@ -229,18 +329,24 @@ public <W extends MutableVolume, R> void applyUntil(final VolumeCollector<W, T,
 
     @Override
     public void forEach(final VolumeConsumer<V, T> visitor) {
-        this.stream.forEach(element -> visitor.consume(
-            element.getVolume(),
-            element.getType(),
-            element.getPosition().getX(),
-            element.getPosition().getY(),
-            element.getPosition().getZ()
-        ));
+        this.read(stream -> {
+            stream.forEach(element -> visitor.consume(
+                element.getVolume(),
+                element.getType(),
+                element.getPosition().getX(),
+                element.getPosition().getY(),
+                element.getPosition().getZ()
+            ));
+            return null;
+        });
     }
 
     @Override
     public void forEach(final Consumer<VolumeElement<V, T>> consumer) {
-        this.stream.forEach(consumer);
+        this.read(stream -> {
+            stream.forEach(consumer);
+            return null;
+        });
     }
 
 }
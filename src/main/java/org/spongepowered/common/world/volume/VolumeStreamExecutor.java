@@ -0,0 +1,271 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.volume;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Ticks;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
+import org.spongepowered.common.launch.Launch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the parallel and asynchronous parts of {@link SpongeVolumeStream}s.
+ *
+ * <p>Parallel reads run on a dedicated {@link ForkJoinPool}, so that large
+ * volume jobs do not compete with everything else using the common pool.
+ * Staged writes are committed on the main thread by a task that runs every
+ * tick, until it runs out of writes or out of its budget for that tick.
+ * Writes are staged in bounded batches, so a large stream never holds more
+ * than a few sections worth of writes in memory.</p>
+ */
+final class VolumeStreamExecutor {
+
+    private static final class PoolHolder {
+
+        private static final AtomicInteger THREAD_ID = new AtomicInteger();
+
+        static final ForkJoinPool POOL = new ForkJoinPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+            pool -> {
+                final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("Sponge-VolumeStream-" + PoolHolder.THREAD_ID.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            },
+            null,
+            false
+        );
+    }
+
+    /**
+     * Runs a read on the volume stream pool and waits for it. Parallel
+     * streams evaluated within the read are split across the pool.
+     *
+     * @param read The read
+     * @param <R> The type of result
+     * @return The result of the read
+     */
+    static <R> R read(final Supplier<R> read) {
+        if (ForkJoinTask.getPool() == PoolHolder.POOL) {
+            // Already running on the pool, splitting happens within it anyway
+            return read.get();
+        }
+        return PoolHolder.POOL.submit(read::get).join();
+    }
+
+    /**
+     * Runs a read on the volume stream pool without waiting for it.
+     *
+     * @param read The read
+     * @param <R> The type of result
+     * @return The future result of the read
+     */
+    static <R> CompletableFuture<R> readAsync(final Supplier<R> read) {
+        return CompletableFuture.supplyAsync(read, PoolHolder.POOL);
+    }
+
+    /**
+     * Commits the writes on the main thread, starting with the next tick.
+     *
+     * @param writes The writes, polled on the main thread
+     * @param budget The time in nanoseconds writes may take per tick, at
+     *     least one write is committed each tick
+     * @return A future completed once all writes are committed, or failed
+     *     if the writes had to be dropped
+     */
+    static CompletableFuture<Void> commit(final StagedWrites writes, final long budget) {
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+        SpongeCommon.getServerScheduler().submit(Task.builder()
+            .name("Sponge Volume Stream Apply")
+            .plugin(Launch.getInstance().getCommonPlugin())
+            .interval(Ticks.single())
+            .execute(task -> {
+                try (final PhaseContext<@NonNull ?> context = PluginPhase.State.BLOCK_WORKER.createPhaseContext(PhaseTracker.SERVER)) {
+                    context.buildAndSwitch();
+                    final long deadline = System.nanoTime() + budget;
+                    @Nullable Runnable write;
+                    while ((write = writes.poll()) != null) {
+                        write.run();
+                        if (System.nanoTime() - deadline >= 0) {
+                            break;
+                        }
+                    }
+                    if (writes.isExhausted()) {
+                        task.cancel();
+                        future.complete(null);
+                    }
+                } catch (final RuntimeException e) {
+                    // Reported by whoever holds the future
+                    writes.discard();
+                    task.cancel();
+                    future.completeExceptionally(e);
+                }
+            })
+            .build());
+        return future;
+    }
+
+    /**
+     * Stages the writes in batches on the volume stream pool. At most
+     * {@link BatchedWrites#MAX_QUEUED_BATCHES} batches wait for the main
+     * thread at once, the staging pauses until they are committed.
+     *
+     * @param elements The elements to stage, iterated on the pool
+     * @param stage Stages the write of an element
+     * @param <E> The type of element
+     * @return The staged writes
+     */
+    static <E> StagedWrites stageAsync(final Iterator<E> elements, final Function<E, Runnable> stage) {
+        final BatchedWrites writes = new BatchedWrites();
+        PoolHolder.POOL.execute(() -> {
+            try {
+                final List<E> batch = new ArrayList<>(BatchedWrites.BATCH_SIZE);
+                while (!writes.discarded && elements.hasNext()) {
+                    batch.add(elements.next());
+                    if (batch.size() == BatchedWrites.BATCH_SIZE || !elements.hasNext()) {
+                        // Resolving the types is the expensive part, split it across the pool
+                        writes.offer(batch.parallelStream().map(stage).collect(Collectors.toList()));
+                        batch.clear();
+                    }
+                }
+            } catch (final Throwable t) {
+                writes.failure = t;
+            } finally {
+                writes.staged = true;
+            }
+        });
+        return writes;
+    }
+
+    /**
+     * The writes of a volume stream, produced while they are committed.
+     */
+    interface StagedWrites {
+
+        /**
+         * Gets the next write, if one is ready.
+         *
+         * @return The next write, or {@code null} if none is ready yet
+         */
+        @Nullable Runnable poll();
+
+        /**
+         * Gets whether all writes have been handed out by {@link #poll()}.
+         *
+         * @return Whether there are no writes left
+         */
+        boolean isExhausted();
+
+        /**
+         * Drops the remaining writes, once they won't be committed anymore.
+         */
+        default void discard() {
+        }
+    }
+
+    private static final class BatchedWrites implements StagedWrites {
+
+        // A chunk section worth of positions
+        static final int BATCH_SIZE = 16 * 16 * 16;
+        static final int MAX_QUEUED_BATCHES = 4;
+
+        private final BlockingQueue<List<Runnable>> batches = new ArrayBlockingQueue<>(BatchedWrites.MAX_QUEUED_BATCHES);
+        private Iterator<Runnable> current = Collections.emptyIterator();
+        volatile boolean staged;
+        volatile boolean discarded;
+        @Nullable volatile Throwable failure;
+
+        void offer(final List<Runnable> batch) throws InterruptedException {
+            ForkJoinPool.managedBlock(new ForkJoinPool.ManagedBlocker() {
+                @Override
+                public boolean block() throws InterruptedException {
+                    // Wake up now and then, nothing takes the batches once they are discarded
+                    while (!BatchedWrites.this.discarded) {
+                        if (BatchedWrites.this.batches.offer(batch, 50, TimeUnit.MILLISECONDS)) {
+                            break;
+                        }
+                    }
+                    return true;
+                }
+
+                @Override
+                public boolean isReleasable() {
+                    return BatchedWrites.this.discarded;
+                }
+            });
+        }
+
+        @Override
+        public void discard() {
+            this.discarded = true;
+            this.batches.clear();
+        }
+
+        @Override
+        public @Nullable Runnable poll() {
+            final @Nullable Throwable failure = this.failure;
+            if (failure != null) {
+                throw new IllegalStateException("Failed to stage the writes of a volume stream", failure);
+            }
+            while (!this.current.hasNext()) {
+                final @Nullable List<Runnable> batch = this.batches.poll();
+                if (batch == null) {
+                    return null;
+                }
+                this.current = batch.iterator();
+            }
+            return this.current.next();
+        }
+
+        @Override
+        public boolean isExhausted() {
+            // Read the flag first, the last batch is queued before it is set
+            return this.staged && this.batches.isEmpty() && !this.current.hasNext() && this.failure == null;
+        }
+    }
+
+    private VolumeStreamExecutor() {
+    }
+}
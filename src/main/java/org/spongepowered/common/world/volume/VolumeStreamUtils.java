@@ -24,6 +24,8 @@
  */
 package org.spongepowered.common.world.volume;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.util.Tuple;
@@ -31,6 +33,7 @@
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
@@ -60,9 +63,11 @@
 
 import java.lang.ref.WeakReference;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -72,7 +77,7 @@
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.IntStream;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public final class VolumeStreamUtils {
@@ -141,13 +146,6 @@ public static Function<ChunkAccess, Stream<Map.Entry<BlockPos, Biome>>> getBiome
         return VolumeStreamUtils.getElementByPosition(VolumeStreamUtils.chunkSectionBiomeGetter().asTri(reader), min, max);
     }
 
-    public static Function<ChunkAccess, Stream<Map.Entry<BlockPos, BlockState>>> getBlockStatesForSections(
-        final Vector3i min,
-        final Vector3i max
-    ) {
-        return VolumeStreamUtils.getElementByPosition(VolumeStreamUtils.chunkSectionBlockStateGetter(), min, max);
-    }
-
     public static void validateStreamArgs(final Vector3i min, final Vector3i max, final StreamOptions options) {
         Objects.requireNonNull(min, "Minimum coordinates cannot be null");
         Objects.requireNonNull(max, "Maximum coordinates cannot be null");
@@ -259,13 +257,6 @@ private static QuadFunction<ChunkAccess, LevelChunkSection, BlockPos, LevelReade
         );
     }
 
-    private static TriFunction<ChunkAccess, LevelChunkSection, BlockPos, BlockState> chunkSectionBlockStateGetter() {
-        return ((chunk, chunkSection, pos) -> chunkSection.getBlockState(
-            pos.getX() - (chunk.getPos().x << 4),
-            pos.getY() & 15,
-            pos.getZ() - (chunk.getPos().z << 4)));
-    }
-
     private static <T> Function<ChunkAccess, Stream<Map.Entry<BlockPos, T>>> getElementByPosition(
         final TriFunction<ChunkAccess, LevelChunkSection, BlockPos, T> elementAccessor, final Vector3i min,
         final Vector3i max
@@ -290,40 +281,163 @@ private static <T> Function<ChunkAccess, Stream<Map.Entry<BlockPos, T>>> getElem
             final ChunkPos pos = chunk.getPos();
 
             final int xStart = pos.x == minChunkX ? minXOffset : 0;
-            final int xEnd = pos.x == maxChunkX ? maxXOffset + 1 : 16; // 16 because IntStream.range is upper range exclusive
+            final int xEnd = pos.x == maxChunkX ? maxXOffset : 15;
             final int zStart = pos.z == minChunkZ ? minZOffset : 0;
-            final int zEnd = pos.z == maxChunkZ ? maxZOffset + 1 : 16; // 16 because IntStream.range is upper range exclusive
+            final int zEnd = pos.z == maxChunkZ ? maxZOffset : 15;
 
             final int chunkMinX = pos.x << 4;
             final int chunkMinZ = pos.z << 4;
 
-            return Arrays.stream(chunk.getSections())
-                .filter(Objects::nonNull)
-                .filter(chunkSection -> chunkSection.bottomBlockY() >= minYSection && chunkSection.bottomBlockY() <= maxYSection)
-                .flatMap(
-                chunkSection -> IntStream.range(zStart, zEnd)
-                    .mapToObj(z -> IntStream.range(xStart, xEnd)
-                        .mapToObj(x -> {
-                            final int sectionY = chunkSection.bottomBlockY();
-                            final int yStart = sectionY == minYSection ? minYOffset : 0;
-                            final int yEnd = sectionY == maxYSection ? maxYOffset + 1 : 16; // plus 1 because of IntStream range exclusive
-                            return IntStream.range(yStart, yEnd)
-                                .mapToObj(y ->
-                                    {
-                                        final int adjustedX = x + chunkMinX;
-                                        final int adjustedY = y + sectionY;
-                                        final int adjustedZ = z + chunkMinZ;
-
-                                        final BlockPos blockPos = new BlockPos(adjustedX, adjustedY, adjustedZ);
-                                        final T apply = Objects.requireNonNull(elementAccessor.apply(chunk, chunkSection, blockPos), "Element cannot be null");
-                                        return new AbstractMap.SimpleEntry<>(blockPos, apply);
-                                    }
-                                );
-                        }))
-                    .flatMap(Function.identity())
-                    .flatMap(Function.identity())
-            );
+            final List<Map.Entry<BlockPos, T>> elements = new ArrayList<>();
+            for (final @Nullable LevelChunkSection chunkSection : chunk.getSections()) {
+                if (chunkSection == null) {
+                    continue;
+                }
+                final int sectionY = chunkSection.bottomBlockY();
+                if (sectionY < minYSection || sectionY > maxYSection) {
+                    continue;
+                }
+                final int yStart = sectionY == minYSection ? minYOffset : 0;
+                final int yEnd = sectionY == maxYSection ? maxYOffset : 15;
+                for (int z = zStart; z <= zEnd; z++) {
+                    for (int x = xStart; x <= xEnd; x++) {
+                        for (int y = yStart; y <= yEnd; y++) {
+                            final BlockPos blockPos = new BlockPos(x + chunkMinX, y + sectionY, z + chunkMinZ);
+                            final T apply = Objects.requireNonNull(elementAccessor.apply(chunk, chunkSection, blockPos), "Element cannot be null");
+                            elements.add(new AbstractMap.SimpleEntry<>(blockPos, apply));
+                        }
+                    }
+                }
+            }
+            return elements.stream();
+        };
+    }
+
+    private static Stream<ChunkPos> getChunkPositions(final Vector3i min, final Vector3i max) {
+        // Backed by a list so that parallel streams split evenly on chunks
+        final List<ChunkPos> positions = new ArrayList<>();
+        for (int x = min.getX() >> 4; x <= max.getX() >> 4; x++) {
+            for (int z = min.getZ() >> 4; z <= max.getZ() >> 4; z++) {
+                positions.add(new ChunkPos(x, z));
+            }
+        }
+        return positions.stream();
+    }
+
+    /**
+     * Streams the positions within the bounds, both inclusive, grouped by
+     * the chunk column they are in. Parallel streams split on chunk columns,
+     * so that all positions of a column are visited by the same worker.
+     *
+     * @param min The minimum position
+     * @param max The maximum position
+     * @param function Creates the element for a position
+     * @param <T> The type of element
+     * @return The stream of elements
+     */
+    public static <T> Stream<T> streamPositionsByChunk(final Vector3i min, final Vector3i max, final PositionFunction<T> function) {
+        return VolumeStreamUtils.getChunkPositions(min, max).flatMap(chunk -> {
+            final int xStart = Math.max(min.getX(), chunk.x << 4);
+            final int xEnd = Math.min(max.getX(), (chunk.x << 4) + 15);
+            final int zStart = Math.max(min.getZ(), chunk.z << 4);
+            final int zEnd = Math.min(max.getZ(), (chunk.z << 4) + 15);
+            final List<T> elements = new ArrayList<>((xEnd - xStart + 1) * (zEnd - zStart + 1) * (max.getY() - min.getY() + 1));
+            for (int x = xStart; x <= xEnd; x++) {
+                for (int z = zStart; z <= zEnd; z++) {
+                    for (int y = min.getY(); y <= max.getY(); y++) {
+                        elements.add(function.apply(x, y, z));
+                    }
+                }
+            }
+            return elements.stream();
+        });
+    }
+
+    @FunctionalInterface
+    public interface PositionFunction<T> {
+
+        T apply(int x, int y, int z);
+    }
+
+    /**
+     * Generates a block state stream backed by {@link ChunkSectionWalker},
+     * visiting the chunks covering the region section by section.
+     *
+     * @param min The minimum position
+     * @param max The maximum position
+     * @param options The stream options
+     * @param ref The volume being streamed
+     * @param chunkAccessor Gets the chunk at a chunk position, may return null
+     *     for chunks that are not available
+     * @param identityFunction Called for every visited position, before the
+     *     element is created, used to carbon copy the states
+     * @param <R> The type of volume
+     * @return The stream
+     */
+    public static <R extends Volume> VolumeStream<R, org.spongepowered.api.block.BlockState> generateBlockStateStream(
+        final Vector3i min,
+        final Vector3i max,
+        final StreamOptions options,
+        final R ref,
+        final BiFunction<R, ChunkPos, @Nullable ChunkAccess> chunkAccessor,
+        final ChunkSectionWalker.BlockVisitor identityFunction
+    ) {
+        final Stream<@Nullable ChunkAccess> chunkStream = VolumeStreamUtils.getChunkPositions(min, max)
+            .map(pos -> chunkAccessor.apply(ref, pos));
+        return VolumeStreamUtils.generateBlockStateStreamInternal(min, max, options, ref, identityFunction, chunkStream);
+    }
+
+    public static <R extends Volume> VolumeStream<R, org.spongepowered.api.block.BlockState> generateBlockStateStream(
+        final Vector3i min,
+        final Vector3i max,
+        final StreamOptions options,
+        final R ref,
+        final ChunkAccess chunk,
+        final ChunkSectionWalker.BlockVisitor identityFunction
+    ) {
+        return VolumeStreamUtils.generateBlockStateStreamInternal(min, max, options, ref, identityFunction, Stream.of(chunk));
+    }
+
+    private static <R extends Volume> VolumeStream<R, org.spongepowered.api.block.BlockState> generateBlockStateStreamInternal(
+        final Vector3i min,
+        final Vector3i max,
+        final StreamOptions options,
+        final R ref,
+        final ChunkSectionWalker.BlockVisitor identityFunction,
+        final Stream<@Nullable ChunkAccess> chunkStream
+    ) {
+        final Supplier<R> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier(ref, "World");
+        // Block states live as long as the registry does, so rather than weakly referencing
+        // every element, all elements of the same state share a single supplier.
+        final Int2ObjectMap<Supplier<org.spongepowered.api.block.BlockState>> stateSuppliers = new Int2ObjectOpenHashMap<>();
+        final Function<@Nullable ChunkAccess, Stream<VolumeElement<R, org.spongepowered.api.block.BlockState>>> chunkElements = chunk -> {
+            if (chunk == null) {
+                return Stream.empty();
+            }
+            final List<VolumeElement<R, org.spongepowered.api.block.BlockState>> elements = new ArrayList<>();
+            ChunkSectionWalker.walkChunk(chunk, min, max, (x, y, z, stateId) -> {
+                identityFunction.visit(x, y, z, stateId);
+                @Nullable Supplier<org.spongepowered.api.block.BlockState> state = stateSuppliers.get(stateId);
+                if (state == null) {
+                    final org.spongepowered.api.block.BlockState apiState = (org.spongepowered.api.block.BlockState) Block.stateById(stateId);
+                    state = () -> apiState;
+                    stateSuppliers.put(stateId, state);
+                }
+                elements.add(VolumeElement.of(worldSupplier, state, new Vector3i(x, y, z)));
+            });
+            return elements.stream();
         };
+        final Stream<VolumeElement<R, org.spongepowered.api.block.BlockState>> volumeStreamBacker;
+        if (options.loadingStyle().immediateLoading()) {
+            final List<VolumeElement<R, org.spongepowered.api.block.BlockState>> elements = chunkStream.flatMap(chunkElements)
+                .collect(Collectors.toList());
+            volumeStreamBacker = elements.stream();
+        } else {
+            // Lazily walks each chunk as the stream reaches it
+            volumeStreamBacker = chunkStream.flatMap(chunkElements);
+        }
+        // Once loaded immediately, the elements no longer read the world and can be read off thread
+        return new SpongeVolumeStream<>(volumeStreamBacker, worldSupplier, options, options.loadingStyle().immediateLoading());
     }
 
     public static <R extends Volume, API, MC, Section, KeyReference> VolumeStream<R, API> generateStream(
@@ -338,14 +452,9 @@ public static <R extends Volume, API, MC, Section, KeyReference> VolumeStream<R,
         final BiFunction<KeyReference, R, Tuple<BlockPos, MC>> filteredPositionEntityAccessor
     ) {
         final Supplier<R> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier(ref, "World");
-        final BlockPos chunkMin = new BlockPos(min.getX() >> 4, 0, min.getZ() >> 4);
-        final BlockPos chunkMax = new BlockPos(max.getX() >> 4, 0, max.getZ() >> 4);
-
         // Generate the chunk position stream to iterate on, whether they're accessed immediately
         // or lazily is up to the stream options.
-        final Stream<Section> sectionStream = IntStream.range(chunkMin.getX(), chunkMax.getX() + 1)
-            .mapToObj(x -> IntStream.range(chunkMin.getZ(), chunkMax.getZ() + 1).mapToObj(z -> new ChunkPos(x, z)))
-            .flatMap(Function.identity())
+        final Stream<Section> sectionStream = VolumeStreamUtils.getChunkPositions(min, max)
             .map(pos -> chunkAccessor.apply(ref, pos));
 
         return VolumeStreamUtils.generateStreamInternal(
@@ -437,7 +546,7 @@ private static <R extends Volume, API, MC, Section, KeyReference> SpongeVolumeSt
             .map(pos -> filteredPositionEntityAccessor.apply(pos, ref))
             .filter(tuple -> Objects.nonNull(tuple.getB()))
             .map(elementGenerator);
-        return new SpongeVolumeStream<>(volumeStreamBacker, worldSupplier);
+        return new SpongeVolumeStream<>(volumeStreamBacker, worldSupplier, options, false);
     }
 
 }
@@ -24,23 +24,31 @@
  */
 package org.spongepowered.common.world.volume.buffer.archetype;
 
+import net.minecraft.server.level.ServerLevel;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.block.entity.BlockEntityArchetype;
 import org.spongepowered.api.entity.EntityArchetype;
+import org.spongepowered.api.event.CauseStackManager;
+import org.spongepowered.api.event.EventContextKeys;
+import org.spongepowered.api.event.cause.entity.SpawnType;
 import org.spongepowered.api.fluid.FluidState;
 import org.spongepowered.api.registry.RegistryHolder;
 import org.spongepowered.api.registry.RegistryTypes;
 import org.spongepowered.api.world.biome.Biome;
 import org.spongepowered.api.world.schematic.Palette;
 import org.spongepowered.api.world.schematic.PaletteTypes;
+import org.spongepowered.api.world.volume.block.BlockVolume;
+import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.api.world.volume.archetype.ArchetypeVolume;
 import org.spongepowered.api.world.volume.archetype.block.entity.BlockEntityArchetypeVolume;
 import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeEntry;
 import org.spongepowered.api.world.volume.stream.StreamOptions;
 import org.spongepowered.api.world.volume.stream.VolumeElement;
 import org.spongepowered.api.world.volume.stream.VolumeStream;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+import org.spongepowered.common.world.volume.BulkVolumeCopier;
 import org.spongepowered.common.world.volume.SpongeVolumeStream;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.common.world.volume.buffer.AbstractVolumeBuffer;
@@ -48,14 +56,14 @@
 import org.spongepowered.common.world.volume.buffer.archetype.entity.ObjectArrayMutableEntityArchetypeBuffer;
 import org.spongepowered.common.world.volume.buffer.biome.ByteArrayMutableBiomeBuffer;
 import org.spongepowered.common.world.volume.buffer.block.ArrayMutableBlockBuffer;
+import org.spongepowered.common.world.volume.stream.SpongeStreamOptions;
 import org.spongepowered.math.vector.Vector3i;
 
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.IntStream;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 public class SpongeArchetypeVolume extends AbstractVolumeBuffer implements ArchetypeVolume {
@@ -78,6 +86,18 @@ public SpongeArchetypeVolume(final Vector3i start, final Vector3i size, final Re
         this.entities = new ObjectArrayMutableEntityArchetypeBuffer(start, size);
     }
 
+    public SpongeArchetypeVolume(final ArrayMutableBlockBuffer blocks, final RegistryHolder registries) {
+        super(blocks.getBlockMin(), blocks.getBlockSize());
+        this.blocks = blocks;
+        this.blockEntities = new MutableMapBlockEntityArchetypeBuffer(blocks);
+        this.biomes = new ByteArrayMutableBiomeBuffer(
+            PaletteTypes.BIOME_PALETTE.get().create(registries, RegistryTypes.BIOME),
+            this.start,
+            this.size
+        );
+        this.entities = new ObjectArrayMutableEntityArchetypeBuffer(this.start, this.size);
+    }
+
     @Override
     public Optional<BlockEntityArchetype> getBlockEntityArchetype(final int x, final int y, final int z) {
         return Optional.empty();
@@ -96,10 +116,13 @@ public VolumeStream<ArchetypeVolume, BlockEntityArchetype> getBlockEntityArchety
         final Vector3i blockMin = this.getBlockMin();
         final Vector3i blockMax = this.getBlockMax();
         VolumeStreamUtils.validateStreamArgs(min, max, blockMin, blockMax, options);
-        final Stream<VolumeElement<ArchetypeVolume, BlockEntityArchetype>> stateStream = this.blockEntities.getBlockEntityArchetypeStream(min, max, options)
+        // Parallel reads go over a copy of the archetypes, which nothing else modifies
+        final boolean parallelReads = SpongeStreamOptions.parallelReads(options);
+        final StreamOptions sourceOptions = parallelReads ? SpongeStreamOptions.copied(options) : options;
+        final Stream<VolumeElement<ArchetypeVolume, BlockEntityArchetype>> stateStream = this.blockEntities.getBlockEntityArchetypeStream(min, max, sourceOptions)
             .toStream()
             .map(element -> VolumeElement.of(this, element::getType, element.getPosition()));
-        return new SpongeVolumeStream<>(stateStream, () -> this);
+        return new SpongeVolumeStream<>(stateStream, () -> this, options, parallelReads);
     }
 
     @Override
@@ -119,9 +142,11 @@ public VolumeStream<ArchetypeVolume, EntityArchetype> getEntityArchetypeStream(
         final Vector3i blockMin = this.getBlockMin();
         final Vector3i blockMax = this.getBlockMax();
         VolumeStreamUtils.validateStreamArgs(min, max, blockMin, blockMax, options);
-        final Stream<VolumeElement<ArchetypeVolume, EntityArchetype>> stateStream = this.entities.getEntityArchetypeStream(min, max, options).toStream()
+        final boolean parallelReads = SpongeStreamOptions.parallelReads(options);
+        final StreamOptions sourceOptions = parallelReads ? SpongeStreamOptions.copied(options) : options;
+        final Stream<VolumeElement<ArchetypeVolume, EntityArchetype>> stateStream = this.entities.getEntityArchetypeStream(min, max, sourceOptions).toStream()
             .map(element -> VolumeElement.of(this, element::getType, element.getPosition()));
-        return new SpongeVolumeStream<>(stateStream, () -> this);
+        return new SpongeVolumeStream<>(stateStream, () -> this, options, parallelReads);
     }
 
     @Override
@@ -160,19 +185,18 @@ public VolumeStream<ArchetypeVolume, BlockState> getBlockStateStream(final Vecto
         final Vector3i blockMin = this.getBlockMin();
         final Vector3i blockMax = this.getBlockMax();
         VolumeStreamUtils.validateStreamArgs(min, max, blockMin, blockMax, options);
-        final ArrayMutableBlockBuffer buffer;
-        if (options.carbonCopy()) {
+        final boolean parallelReads = SpongeStreamOptions.parallelReads(options);
+        final BlockVolume buffer;
+        if (parallelReads) {
+            buffer = this.blocks.snapshot();
+        } else if (options.carbonCopy()) {
             buffer = this.blocks.copy();
         } else {
             buffer = this.blocks;
         }
-        final Stream<VolumeElement<ArchetypeVolume, BlockState>> stateStream = IntStream.range(blockMin.getX(), blockMax.getX() + 1)
-            .mapToObj(x -> IntStream.range(blockMin.getZ(), blockMax.getZ() + 1)
-                .mapToObj(z -> IntStream.range(blockMin.getY(), blockMax.getY() + 1)
-                    .mapToObj(y -> VolumeElement.of((ArchetypeVolume) this, () -> buffer.getBlock(x, y, z), new Vector3i(x, y, z)))
-                ).flatMap(Function.identity())
-            ).flatMap(Function.identity());
-        return new SpongeVolumeStream<>(stateStream, () -> this);
+        final Stream<VolumeElement<ArchetypeVolume, BlockState>> stateStream = VolumeStreamUtils.streamPositionsByChunk(blockMin, blockMax,
+            (x, y, z) -> VolumeElement.of((ArchetypeVolume) this, () -> buffer.getBlock(x, y, z), new Vector3i(x, y, z)));
+        return new SpongeVolumeStream<>(stateStream, () -> this, options, parallelReads);
     }
 
     @Override
@@ -185,6 +209,32 @@ public void removeBlockEntity(final int x, final int y, final int z) {
         this.blockEntities.removeBlockEntity(x, y, z);
     }
 
+    public ArrayMutableBlockBuffer getBlockBuffer() {
+        return this.blocks;
+    }
+
+    /**
+     * Places this volume into the world, with the volume position
+     * {@code 0, 0, 0} at {@code placement}. Blocks are written section by
+     * section through {@link BulkVolumeCopier#pasteFromVolume}, entities are
+     * spawned with the given spawn type.
+     *
+     * @param target The world to place the volume in
+     * @param placement The world position of the volume origin
+     * @param spawnContext The spawn type of the placed entities
+     */
+    public void applyToWorld(final ServerWorld target, final Vector3i placement, final Supplier<SpawnType> spawnContext) {
+        try (final CauseStackManager.StackFrame frame = PhaseTracker.getCauseStackManager().pushCauseFrame()) {
+            frame.addContext(EventContextKeys.SPAWN_TYPE, spawnContext.get());
+            BulkVolumeCopier.pasteFromVolume(this, (ServerLevel) target, placement);
+        }
+        final int offsetX = placement.getX();
+        final int offsetY = placement.getY();
+        final int offsetZ = placement.getZ();
+        this.getBiomeStream(this.getBlockMin(), this.getBlockMax(), StreamOptions.lazily())
+            .forEach((volume, biome, x, y, z) -> target.setBiome(x + offsetX, y + offsetY, z + offsetZ, biome));
+    }
+
     public Palette<BlockState, BlockType> getBlockPalette() {
         return this.blocks.getPalette();
     }
@@ -212,10 +262,16 @@ public VolumeStream<ArchetypeVolume, Biome> getBiomeStream(
         final Vector3i blockMin = this.getBlockMin();
         final Vector3i blockMax = this.getBlockMax();
         VolumeStreamUtils.validateStreamArgs(min, max, blockMin, blockMax, options);
-        final Stream<VolumeElement<ArchetypeVolume, Biome>> stateStream = this.biomes.getBiomeStream(min, max, options)
-            .toStream()
+        final boolean parallelReads = SpongeStreamOptions.parallelReads(options);
+        final Stream<? extends VolumeElement<?, Biome>> biomeStream;
+        if (parallelReads) {
+            biomeStream = this.biomes.snapshot().getBiomeStream(min, max, options).toStream();
+        } else {
+            biomeStream = this.biomes.getBiomeStream(min, max, options).toStream();
+        }
+        final Stream<VolumeElement<ArchetypeVolume, Biome>> stateStream = biomeStream
             .map(element -> VolumeElement.of(this, element::getType, element.getPosition()));
-        return new SpongeVolumeStream<>(stateStream, () -> this);
+        return new SpongeVolumeStream<>(stateStream, () -> this, options, parallelReads);
     }
 
     @Override
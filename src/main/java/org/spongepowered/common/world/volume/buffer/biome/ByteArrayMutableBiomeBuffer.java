@@ -136,6 +136,16 @@ public VolumeStream<ByteArrayMutableBiomeBuffer, Biome> getBiomeStream(
         return new SpongeVolumeStream<>(stateStream, () -> this);
     }
 
+    /**
+     * Creates an immutable copy of this buffer, which can safely be read
+     * from other threads while this buffer is modified.
+     *
+     * @return The immutable copy
+     */
+    public ByteArrayImmutableBiomeBuffer snapshot() {
+        return new ByteArrayImmutableBiomeBuffer(this.palette.asImmutable(), this.biomes, this.start, this.size);
+    }
+
     public Palette.Mutable<Biome, Biome> getPalette() {
         return this.palette;
     }
@@ -40,8 +40,6 @@
 import org.spongepowered.math.vector.Vector3i;
 
 import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 public class ArrayImmutableBlockBuffer extends AbstractBlockBuffer implements BlockVolume.Immutable {
@@ -137,12 +135,8 @@ public VolumeStream<Immutable, BlockState> getBlockStateStream(final Vector3i mi
     ) {
         VolumeStreamUtils.validateStreamArgs(min, max, this.getBlockMin(), this.getBlockMax(), options);
         // We don't need to copy since this is immutable.
-        final Stream<VolumeElement<Immutable, BlockState>> stateStream = IntStream.range(this.getBlockMin().getX(), this.getBlockMax().getX() + 1)
-            .mapToObj(x -> IntStream.range(this.getBlockMin().getZ(), this.getBlockMax().getZ() + 1)
-                .mapToObj(z -> IntStream.range(this.getBlockMin().getY(), this.getBlockMax().getY() + 1)
-                    .mapToObj(y -> VolumeElement.<Immutable, BlockState>of(this, () -> this.getBlock(x, y, z), new Vector3i(x, y, z)))
-                ).flatMap(Function.identity())
-            ).flatMap(Function.identity());
-        return new SpongeVolumeStream<>(stateStream, () -> this);
+        final Stream<VolumeElement<Immutable, BlockState>> stateStream = VolumeStreamUtils.streamPositionsByChunk(this.getBlockMin(), this.getBlockMax(),
+            (x, y, z) -> VolumeElement.<Immutable, BlockState>of(this, () -> this.getBlock(x, y, z), new Vector3i(x, y, z)));
+        return new SpongeVolumeStream<>(stateStream, () -> this, options, true);
     }
 }
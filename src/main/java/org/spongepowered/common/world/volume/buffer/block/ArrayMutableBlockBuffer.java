@@ -34,19 +34,17 @@
 import org.spongepowered.api.registry.RegistryReference;
 import org.spongepowered.api.registry.RegistryTypes;
 import org.spongepowered.api.world.schematic.Palette;
-import org.spongepowered.api.world.schematic.PaletteTypes;
 import org.spongepowered.api.world.volume.block.BlockVolume;
 import org.spongepowered.api.world.volume.stream.StreamOptions;
 import org.spongepowered.api.world.volume.stream.VolumeElement;
 import org.spongepowered.api.world.volume.stream.VolumeStream;
-import org.spongepowered.common.world.schematic.MutableBimapPalette;
+import org.spongepowered.common.world.schematic.SpongePaletteTypes;
 import org.spongepowered.common.world.volume.SpongeVolumeStream;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
+import org.spongepowered.common.world.volume.stream.SpongeStreamOptions;
 import org.spongepowered.math.vector.Vector3i;
 
 import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import net.minecraft.core.BlockPos;
 
@@ -60,11 +58,7 @@ public class ArrayMutableBlockBuffer extends AbstractBlockBuffer implements Bloc
 
     public ArrayMutableBlockBuffer(final Vector3i start, final Vector3i size) {
         this(
-            new MutableBimapPalette<>(
-                PaletteTypes.BLOCK_STATE_PALETTE.get(),
-                Sponge.getGame().registries().registry(RegistryTypes.BLOCK_TYPE),
-                RegistryTypes.BLOCK_TYPE
-            ),
+            SpongePaletteTypes.BLOCK_STATE_ID_PALETTE.get().create(Sponge.getGame().registries(), RegistryTypes.BLOCK_TYPE),
             BlockTypes.AIR,
             start,
             size
@@ -106,7 +100,7 @@ public ArrayMutableBlockBuffer(final Palette<BlockState, BlockType> palette, fin
      * @param start The start block position
      * @param size The block size
      */
-    ArrayMutableBlockBuffer(final Palette<BlockState, BlockType> palette, final BlockBackingData blocks, final Vector3i start, final Vector3i size) {
+    public ArrayMutableBlockBuffer(final Palette<BlockState, BlockType> palette, final BlockBackingData blocks, final Vector3i start, final Vector3i size) {
         super(start, size);
         this.palette = palette.asMutable(Sponge.getGame().registries());
         this.data = blocks;
@@ -121,10 +115,39 @@ public Palette<BlockState, BlockType> getPalette() {
     @Override
     public boolean setBlock(final int x, final int y, final int z, final BlockState block) {
         this.checkRange(x, y, z);
-        final int id = this.palette.getOrAssign(block);
+        this.setId(this.getIndex(x, y, z), this.palette.getOrAssign(block));
+        return true;
+    }
+
+    /**
+     * Gets the palette id for the state, assigning one if the state is not
+     * in the palette yet.
+     *
+     * @param block The block state
+     * @return The palette id
+     */
+    public int getOrAssignId(final BlockState block) {
+        return this.palette.getOrAssign(block);
+    }
+
+    /**
+     * Sets a raw palette id at the position, the id must have been obtained
+     * from this buffer's palette.
+     *
+     * @param x The x position
+     * @param y The y position
+     * @param z The z position
+     * @param id The palette id
+     */
+    public void setBlockId(final int x, final int y, final int z, final int id) {
+        this.checkRange(x, y, z);
+        this.setId(this.getIndex(x, y, z), id);
+    }
+
+    private void setId(final int index, final int id) {
         if (id > this.data.getMax()) {
 
-            final int highId = this.palette.getHighestId();
+            final int highId = Math.max(this.palette.getHighestId(), id);
             final int dataSize = this.area();
             final BlockBackingData newdata = new BlockBackingData.PackedBackingData(dataSize, highId);
             for (int i = 0; i < dataSize; i++) {
@@ -132,8 +155,7 @@ public boolean setBlock(final int x, final int y, final int z, final BlockState
             }
             this.data = newdata;
         }
-        this.data.set(this.getIndex(x, y, z), id);
-        return true;
+        this.data.set(index, id);
     }
 
     @Override
@@ -150,6 +172,20 @@ public BlockState getBlock(final int x, final int y, final int z) {
             .orElseGet(() -> this.defaultState.get(registries).getDefaultState());
     }
 
+    /**
+     * Gets the raw palette id stored at the position, without resolving it
+     * against the palette.
+     *
+     * @param x The x position
+     * @param y The y position
+     * @param z The z position
+     * @return The palette id
+     */
+    public int getBlockId(final int x, final int y, final int z) {
+        this.checkRange(x, y, z);
+        return this.data.get(this.getIndex(x, y, z));
+    }
+
     @Override
     public FluidState getFluid(final int x, final int y, final int z) {
         return this.getBlock(x, y, z).getFluidState();
@@ -190,19 +226,19 @@ public VolumeStream<ArrayMutableBlockBuffer, BlockState> getBlockStateStream(fin
         final Vector3i blockMin = this.getBlockMin();
         final Vector3i blockMax = this.getBlockMax();
         VolumeStreamUtils.validateStreamArgs(min, max, blockMin, blockMax, options);
-        final ArrayMutableBlockBuffer buffer;
-        if (options.carbonCopy()) {
+        final boolean parallelReads = SpongeStreamOptions.parallelReads(options);
+        final BlockVolume buffer;
+        if (parallelReads) {
+            // The palette and data may change while the pool reads them, read a snapshot instead
+            buffer = this.snapshot();
+        } else if (options.carbonCopy()) {
             buffer = new ArrayMutableBlockBuffer(this.palette, this.data.copyOf(), this.start, this.size);
         } else {
             buffer = this;
         }
-        final Stream<VolumeElement<ArrayMutableBlockBuffer, BlockState>> stateStream = IntStream.range(blockMin.getX(), blockMax.getX() + 1)
-            .mapToObj(x -> IntStream.range(blockMin.getZ(), blockMax.getZ() + 1)
-                .mapToObj(z -> IntStream.range(blockMin.getY(), blockMax.getY() + 1)
-                    .mapToObj(y -> VolumeElement.of(this, () -> buffer.getBlock(x, y, z), new Vector3i(x, y, z)))
-                ).flatMap(Function.identity())
-            ).flatMap(Function.identity());
-        return new SpongeVolumeStream<>(stateStream, () -> this);
+        final Stream<VolumeElement<ArrayMutableBlockBuffer, BlockState>> stateStream = VolumeStreamUtils.streamPositionsByChunk(blockMin, blockMax,
+            (x, y, z) -> VolumeElement.of(this, () -> buffer.getBlock(x, y, z), new Vector3i(x, y, z)));
+        return new SpongeVolumeStream<>(stateStream, () -> this, options, parallelReads);
     }
 
     public void setBlock(final BlockPos pos, final net.minecraft.world.level.block.state.BlockState blockState) {
@@ -217,6 +253,16 @@ public ArrayMutableBlockBuffer copy() {
         return  new ArrayMutableBlockBuffer(this.palette, this.data.copyOf(), this.start, this.size);
     }
 
+    /**
+     * Creates an immutable copy of this buffer, which can safely be read
+     * from other threads while this buffer is modified.
+     *
+     * @return The immutable copy
+     */
+    public ArrayImmutableBlockBuffer snapshot() {
+        return new ArrayImmutableBlockBuffer(this.palette.asImmutable(), this.start, this.size, this.data.copyOf());
+    }
+
     public BlockBackingData getCopiedBackingData() {
         return this.data.copyOf();
     }
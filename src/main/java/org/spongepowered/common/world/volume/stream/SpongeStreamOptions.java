@@ -29,16 +29,60 @@
 
 import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
 
 public class SpongeStreamOptions implements StreamOptions {
 
     private final boolean copies;
     private final LoadingStyle loadingStyle;
+    private final boolean parallelReads;
+    private final long asyncApplyBudget;
 
     SpongeStreamOptions(final SpongeStreamOptionsBuilder builder) {
         Objects.requireNonNull(builder, "Builder cannot be null!");
         this.loadingStyle = builder.loadingStyle;
         this.copies = builder.copies;
+        this.parallelReads = builder.parallelReads;
+        this.asyncApplyBudget = builder.asyncApplyBudget;
+    }
+
+    /**
+     * Gets whether the given options request parallel reads.
+     *
+     * @param options The options
+     * @return True if reads may be split across the volume stream pool
+     * @see SpongeStreamOptionsBuilder#setParallelReads(boolean)
+     */
+    public static boolean parallelReads(final StreamOptions options) {
+        return options instanceof SpongeStreamOptions && ((SpongeStreamOptions) options).parallelReads;
+    }
+
+    /**
+     * Gets the time in nanoseconds that applying the stream may spend per
+     * tick, if the given options request asynchronous application.
+     *
+     * @param options The options
+     * @return The budget, or {@code 0} if the stream is applied immediately
+     * @see SpongeStreamOptionsBuilder#setAsyncApply(long, TimeUnit)
+     */
+    public static long asyncApplyBudget(final StreamOptions options) {
+        return options instanceof SpongeStreamOptions ? ((SpongeStreamOptions) options).asyncApplyBudget : 0;
+    }
+
+    /**
+     * Gets options equal to the given ones, except that they always request
+     * a carbon copy.
+     *
+     * @param options The options
+     * @return The copying options
+     */
+    public static StreamOptions copied(final StreamOptions options) {
+        final SpongeStreamOptionsBuilder builder = new SpongeStreamOptionsBuilder();
+        builder.copies = true;
+        builder.loadingStyle = options.loadingStyle();
+        builder.parallelReads = SpongeStreamOptions.parallelReads(options);
+        builder.asyncApplyBudget = SpongeStreamOptions.asyncApplyBudget(options);
+        return builder.build();
     }
 
     @Override
@@ -60,12 +104,15 @@ public boolean equals(final @Nullable Object o) {
             return false;
         }
         final SpongeStreamOptions that = (SpongeStreamOptions) o;
-        return this.copies == that.copies && this.loadingStyle == that.loadingStyle;
+        return this.copies == that.copies
+            && this.loadingStyle == that.loadingStyle
+            && this.parallelReads == that.parallelReads
+            && this.asyncApplyBudget == that.asyncApplyBudget;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.copies, this.loadingStyle);
+        return Objects.hash(this.copies, this.loadingStyle, this.parallelReads, this.asyncApplyBudget);
     }
 
     @Override
@@ -77,6 +124,8 @@ public String toString() {
         )
             .add("copies=" + this.copies)
             .add("loadingStyle=" + this.loadingStyle)
+            .add("parallelReads=" + this.parallelReads)
+            .add("asyncApplyBudget=" + this.asyncApplyBudget)
             .toString();
     }
 }
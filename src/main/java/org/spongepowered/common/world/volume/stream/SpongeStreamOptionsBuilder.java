@@ -27,11 +27,14 @@
 import org.spongepowered.api.world.volume.stream.StreamOptions;
 
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 public class SpongeStreamOptionsBuilder implements StreamOptions.Builder {
 
     boolean copies = false;
     StreamOptions.LoadingStyle loadingStyle = StreamOptions.LoadingStyle.LAZILY_UNGENERATED;
+    boolean parallelReads = false;
+    long asyncApplyBudget = 0;
 
     @Override
     public StreamOptions.Builder setCarbonCopy(final boolean copies) {
@@ -45,10 +48,45 @@ public StreamOptions.Builder setLoadingStyle(final StreamOptions.LoadingStyle st
         return this;
     }
 
+    /**
+     * Sets whether the terminal operations of the stream may be split across
+     * the volume stream pool, one chunk column at a time. Buffers, archetype
+     * volumes and schematics are read from a copy taken when the stream is
+     * requested, world block states only when they are loaded immediately.
+     * Other streams ignore this. Consumers passed to such a stream must be
+     * thread safe.
+     *
+     * @param parallelReads Whether reads may run in parallel
+     * @return This builder, for chaining
+     */
+    public SpongeStreamOptionsBuilder setParallelReads(final boolean parallelReads) {
+        this.parallelReads = parallelReads;
+        return this;
+    }
+
+    /**
+     * Makes applying the stream asynchronous: writes are staged and then
+     * committed on the main thread, spending at most the given time per tick.
+     * A budget of {@code 0} applies the stream immediately.
+     *
+     * @param budget The time writes may take per tick
+     * @param unit The unit of the budget
+     * @return This builder, for chaining
+     */
+    public SpongeStreamOptionsBuilder setAsyncApply(final long budget, final TimeUnit unit) {
+        if (budget < 0) {
+            throw new IllegalArgumentException("Budget cannot be negative!");
+        }
+        this.asyncApplyBudget = Objects.requireNonNull(unit, "TimeUnit cannot be null!").toNanos(budget);
+        return this;
+    }
+
     @Override
     public StreamOptions.Builder reset() {
         this.copies = false;
         this.loadingStyle = StreamOptions.LoadingStyle.LAZILY_UNGENERATED;
+        this.parallelReads = false;
+        this.asyncApplyBudget = 0;
         return this;
     }
 
@@ -80,6 +80,7 @@
 import org.spongepowered.common.util.MissingImplementationException;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
+import org.spongepowered.common.world.volume.BulkVolumeCopier;
 import org.spongepowered.common.world.volume.VolumeStreamUtils;
 import org.spongepowered.common.world.volume.buffer.archetype.SpongeArchetypeVolume;
 import org.spongepowered.common.world.volume.buffer.entity.ObjectArrayMutableEntityBuffer;
@@ -296,25 +297,13 @@ public Optional<org.spongepowered.api.entity.Entity> createEntity(final DataCont
 
     @Override
     public ArchetypeVolume createArchetypeVolume(final Vector3i min, final Vector3i max, final Vector3i origin) {
-        final Vector3i rawVolMin = Objects.requireNonNull(Objects.requireNonNull(max, "max"), "min").min(max);
+        final Vector3i rawVolMin = Objects.requireNonNull(min, "min").min(Objects.requireNonNull(max, "max"));
         final Vector3i adjustedVolMin = rawVolMin.sub(Objects.requireNonNull(origin, "origin"));
         final Vector3i volMax = max.max(min);
         final SpongeArchetypeVolume volume = new SpongeArchetypeVolume(adjustedVolMin, volMax.sub(rawVolMin).add(1, 1, 1), this.registries());
 
-        this.getBlockStateStream(min, max, StreamOptions.lazily())
-            .apply(VolumeCollectors.of(
-                volume,
-                VolumePositionTranslators.offset(origin),
-                VolumeApplicators.applyBlocks()
-            ));
-
-        this.getBlockEntityStream(min, max, StreamOptions.lazily())
-            .map((world, blockEntity, x, y, z) -> blockEntity.get().createArchetype())
-            .apply(VolumeCollectors.of(
-                volume,
-                VolumePositionTranslators.offset(origin),
-                VolumeApplicators.applyBlockEntityArchetypes()
-            ));
+        // Blocks, block entities and entities are copied section by section
+        BulkVolumeCopier.copyToVolume((Level) (Object) this, rawVolMin, volMax, origin, volume);
 
         this.getBiomeStream(min, max, StreamOptions.lazily())
             .apply(VolumeCollectors.of(
@@ -322,14 +311,6 @@ public ArchetypeVolume createArchetypeVolume(final Vector3i min, final Vector3i
                 VolumePositionTranslators.offset(origin),
                 VolumeApplicators.applyBiomes()
             ));
-
-        this.getEntityStream(min, max, StreamOptions.lazily())
-            .map((world, entity, x, y, z) -> entity.get().createArchetype())
-            .apply(VolumeCollectors.of(
-                volume,
-                VolumePositionTranslators.offset(origin),
-                VolumeApplicators.applyEntityArchetypes()
-            ));
         return volume;
     }
 
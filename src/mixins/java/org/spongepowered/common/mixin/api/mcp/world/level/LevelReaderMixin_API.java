@@ -30,6 +30,7 @@
 import net.minecraft.world.level.CollisionGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.ChunkStatus;
 import net.minecraft.world.level.chunk.LevelChunk;
@@ -233,30 +234,19 @@ default VolumeStream<R, BlockState> getBlockStateStream(final Vector3i min, fina
         } else {
             backingVolume = null;
         }
-        return VolumeStreamUtils.<R, BlockState, net.minecraft.world.level.block.state.BlockState, ChunkAccess, BlockPos>generateStream(
+        return VolumeStreamUtils.generateBlockStateStream(
             min,
             max,
             options,
             // Ref
             (R) this,
+            // ChunkAccessor
+            VolumeStreamUtils.getChunkAccessorByStatus((LevelReader) (Object) this, options.loadingStyle().generateArea()),
             // IdentityFunction
-            (pos, blockState) -> {
+            (x, y, z, stateId) -> {
                 if (shouldCarbonCopy) {
-                    backingVolume.setBlock(pos, blockState);
+                    backingVolume.setBlock(x, y, z, (BlockState) Block.stateById(stateId));
                 }
-            },
-            // ChunkAccessor
-            VolumeStreamUtils.getChunkAccessorByStatus((LevelReader) (Object) this, options.loadingStyle().generateArea()),
-            // Biome by block position
-            (key, biome) -> key,
-            // Entity Accessor
-            VolumeStreamUtils.getBlockStatesForSections(min, max),
-            // Filtered Position Entity Accessor
-            (blockPos, world) -> {
-                final net.minecraft.world.level.block.state.BlockState tileEntity = shouldCarbonCopy
-                    ? backingVolume.getBlock(blockPos)
-                    : ((LevelReader) world).getBlockState(blockPos);
-                return new Tuple<>(blockPos, tileEntity);
             }
         );
     }
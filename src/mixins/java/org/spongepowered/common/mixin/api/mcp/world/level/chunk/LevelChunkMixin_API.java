@@ -31,6 +31,7 @@
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.ChunkBiomeContainer;
 import net.minecraft.world.level.chunk.LevelChunk;
@@ -171,27 +172,18 @@ public VolumeStream<Chunk, BlockState> getBlockStateStream(
             backingVolume = null;
         }
 
-        return VolumeStreamUtils.<Chunk, BlockState, net.minecraft.world.level.block.state.BlockState, ChunkAccess, BlockPos>generateStream(
+        return VolumeStreamUtils.generateBlockStateStream(
+            min,
+            max,
             options,
             // Ref
             (Chunk) this,
             (LevelChunk) (Object) this,
-            // Entity Accessor
-            VolumeStreamUtils.getBlockStatesForSections(min, max),
             // IdentityFunction
-            (pos, blockState) -> {
+            (x, y, z, stateId) -> {
                 if (shouldCarbonCopy) {
-                    backingVolume.setBlock(pos, blockState);
+                    backingVolume.setBlock(x, y, z, (BlockState) Block.stateById(stateId));
                 }
-            },
-            // Biome by block position
-            (key, biome) -> key,
-            // Filtered Position Entity Accessor
-            (blockPos, world) -> {
-                final net.minecraft.world.level.block.state.BlockState tileEntity = shouldCarbonCopy
-                    ? backingVolume.getBlock(blockPos)
-                    : ((LevelReader) world).getBlockState(blockPos);
-                return new Tuple<>(blockPos, tileEntity);
             }
         );
     }
@@ -31,6 +31,7 @@
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.server.packs.repository.PackRepository;
 import net.minecraft.server.players.GameProfileCache;
 import net.minecraft.server.players.PlayerList;
@@ -64,6 +65,7 @@
 import org.spongepowered.common.SpongeBootstrap;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.SpongeServer;
+import org.spongepowered.common.accessor.server.players.PlayerListAccessor;
 import org.spongepowered.common.adventure.NativeComponentRenderer;
 import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
 import org.spongepowered.common.bridge.command.CommandSourceProviderBridge;
@@ -89,6 +91,7 @@
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
@@ -200,6 +203,11 @@ public String getServerModName() {
         TimingsManager.FULL_SERVER_TICK.stopTiming();
     }
 
+    @Inject(method = "stopServer", at = @At(value = "TAIL"))
+    private void impl$flushPlayerData(final CallbackInfo ci) {
+        this.getPlayerDataManager().getWriter().flush();
+    }
+
     @Inject(method = "stopServer", at = @At(value = "TAIL"))
     private void impl$closeLevelSaveForOtherWorlds(final CallbackInfo ci) {
         for (final Map.Entry<ResourceKey<Level>, ServerLevel> entry : this.levels.entrySet()) {
@@ -226,18 +234,46 @@ private int getSaveTickInterval(final int tickInterval) {
         }
 
         final int autoPlayerSaveInterval = SpongeConfigs.getCommon().get().world.playerAutoSaveInterval;
-        if (autoPlayerSaveInterval > 0 && (this.tickCount % autoPlayerSaveInterval == 0)) {
-            this.shadow$getPlayerList().saveAll();
+        if (autoPlayerSaveInterval > 0) {
+            if (SpongeConfigs.getCommon().get().world.playerAutoSaveIncremental) {
+                this.impl$savePlayersIncrementally(autoPlayerSaveInterval);
+            } else if (this.tickCount % autoPlayerSaveInterval == 0) {
+                this.shadow$getPlayerList().saveAll();
+            }
         }
 
         try (Timing timing = SpongeTimings.worldSaveTimer.startTiming()) {
             this.saveAllChunks(true, false, false);
+            this.impl$continueIncrementalSaves();
         }
 
         // force check to fail as we handle everything above
         return this.tickCount + 1;
     }
 
+    private void impl$savePlayersIncrementally(final int autoPlayerSaveInterval) {
+        final PlayerList playerList = this.shadow$getPlayerList();
+        final List<ServerPlayer> players = playerList.getPlayers();
+        final long size = players.size();
+        // Player i is saved on the tick where i * interval / size == tick % interval, so each player
+        // is saved exactly once per interval and fewer players than ticks leaves some ticks empty
+        final long slot = this.tickCount % autoPlayerSaveInterval;
+        final int start = (int) ((slot * size + autoPlayerSaveInterval - 1) / autoPlayerSaveInterval);
+        final int end = (int) (((slot + 1) * size + autoPlayerSaveInterval - 1) / autoPlayerSaveInterval);
+        for (int i = start; i < end; i++) {
+            ((PlayerListAccessor) playerList).invoker$save(players.get(i));
+        }
+    }
+
+    private void impl$continueIncrementalSaves() {
+        for (final ServerLevel world : this.shadow$getAllLevels()) {
+            final int autoSaveBudget = ((ServerWorldInfoBridge) world.getLevelData()).bridge$configAdapter().get().world.autoSaveBudget;
+            if (autoSaveBudget > 0) {
+                ((ServerWorldBridge) world).bridge$continueIncrementalSave(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(autoSaveBudget));
+            }
+        }
+    }
+
     /**
      * @author Zidane - November, 24th 2020 - Minecraft 1.15
      * @reason To allow per-world auto-save tick intervals or disable auto-saving entirely
@@ -286,7 +322,12 @@ public boolean saveAllChunks(final boolean suppressLog, final boolean flush, fin
                     }
                 }
 
-                world.save(null, false, world.noSave);
+                // Spread the chunk saving of auto-saves across the ticks until the next one if the world has a budget for it
+                if (this.bridge$performAutosaveChecks() && adapter.get().world.autoSaveBudget > 0) {
+                    ((ServerWorldBridge) world).bridge$startIncrementalSave();
+                } else {
+                    world.save(null, false, world.noSave);
+                }
 
                 if (log) {
                     if (this.bridge$performAutosaveChecks()) {
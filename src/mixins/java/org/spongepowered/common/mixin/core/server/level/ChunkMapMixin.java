@@ -24,28 +24,136 @@
  */
 package org.spongepowered.common.mixin.core.server.level;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ChunkHolder;
 import net.minecraft.server.level.ChunkMap;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.ai.village.poi.PoiManager;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.ImposterProtoChunk;
+import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.chunk.storage.ChunkSerializer;
 import org.spongepowered.api.world.SerializationBehavior;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.bridge.world.chunk.ChunkMapBridge;
 import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
+import org.spongepowered.common.world.storage.AsyncChunkSerializer;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+
+import javax.annotation.Nullable;
 
 @Mixin(ChunkMap.class)
-public abstract class ChunkMapMixin {
+public abstract class ChunkMapMixin implements ChunkMapBridge {
 
     // @formatter:off
     @Shadow @Final private ServerLevel level;
+    @Shadow private volatile Long2ObjectLinkedOpenHashMap<ChunkHolder> visibleChunkMap;
+
+    @Shadow protected abstract boolean shadow$save(ChunkAccess chunk);
     // @formatter:on
 
+    private final ArrayDeque<ChunkHolder> impl$saveQueue = new ArrayDeque<>();
+    // Chunks whose block states are being encoded by a worker, in the order they were saved
+    private final Long2ObjectLinkedOpenHashMap<CompletableFuture<CompoundTag>> impl$pendingWrites = new Long2ObjectLinkedOpenHashMap<>();
+    @Nullable private AsyncChunkSerializer.PartialChunk impl$partialChunk;
+    private boolean impl$flushing;
+
+    @Override
+    public void bridge$queueUnsavedChunks() {
+        this.impl$saveQueue.clear();
+        for (final ChunkHolder holder : this.visibleChunkMap.values()) {
+            if (holder.wasAccessibleSinceLastSave()) {
+                this.impl$saveQueue.add(holder);
+            }
+        }
+    }
+
+    @Override
+    public boolean bridge$saveQueuedChunks(final long deadline) {
+        if (this.impl$saveQueue.isEmpty()) {
+            return true;
+        }
+        do {
+            final ChunkHolder holder = this.impl$saveQueue.poll();
+            // Same as a non flushing saveAllChunks, the chunk may have been saved by unloading it in the meantime
+            final ChunkAccess chunk = holder.getChunkToSave().getNow(null);
+            if (chunk instanceof ImposterProtoChunk || chunk instanceof LevelChunk) {
+                this.shadow$save(chunk);
+                holder.refreshAccessibility();
+            }
+        } while (!this.impl$saveQueue.isEmpty() && System.nanoTime() < deadline);
+        return this.impl$saveQueue.isEmpty();
+    }
+
+    @Inject(method = "saveAllChunks", at = @At("HEAD"))
+    private void impl$clearSaveQueue(final boolean flush, final CallbackInfo ci) {
+        // Everything is saved now, no need to continue an incremental save
+        this.impl$saveQueue.clear();
+        if (flush) {
+            // The region files are flushed right after, so everything has to be written synchronously
+            this.impl$flushing = true;
+            this.impl$writePendingChunks(true);
+        }
+    }
+
+    @Inject(method = "saveAllChunks", at = @At("RETURN"))
+    private void impl$endFlush(final boolean flush, final CallbackInfo ci) {
+        this.impl$flushing = false;
+    }
+
+    @Inject(method = "tick", at = @At("HEAD"))
+    private void impl$writeEncodedChunks(final BooleanSupplier hasMoreTime, final CallbackInfo ci) {
+        this.impl$writePendingChunks(false);
+    }
+
+    @Inject(method = "readChunk", at = @At("HEAD"))
+    private void impl$writePendingChunkBeforeRead(final ChunkPos pos, final CallbackInfoReturnable<CompoundTag> cir) {
+        // Reading a chunk still being encoded would read its previous save
+        final CompletableFuture<CompoundTag> pending = this.impl$pendingWrites.remove(pos.toLong());
+        if (pending != null) {
+            ((ChunkMap) (Object) this).write(pos, pending.join());
+        }
+    }
+
+    @Inject(method = "close", at = @At("HEAD"))
+    private void impl$writePendingChunksOnClose(final CallbackInfo ci) {
+        this.impl$writePendingChunks(true);
+    }
+
+    /**
+     * Hands the chunks whose block states are encoded over to the region
+     * storage, in the order they were saved.
+     *
+     * @param all Whether to wait for every pending chunk to be encoded
+     */
+    private void impl$writePendingChunks(final boolean all) {
+        final ObjectIterator<Long2ObjectMap.Entry<CompletableFuture<CompoundTag>>> iterator =
+                this.impl$pendingWrites.long2ObjectEntrySet().fastIterator();
+        while (iterator.hasNext()) {
+            final Long2ObjectMap.Entry<CompletableFuture<CompoundTag>> entry = iterator.next();
+            if (!all && !entry.getValue().isDone()) {
+                continue;
+            }
+            iterator.remove();
+            ((ChunkMap) (Object) this).write(new ChunkPos(entry.getLongKey()), entry.getValue().join());
+        }
+    }
+
     @Redirect(method = "save", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/ai/village/poi/PoiManager;flush(Lnet/minecraft/world/level/ChunkPos;)V"))
     private void impl$useSerializationBehaviorForPOI(PoiManager pointOfInterestManager, ChunkPos p_219112_1_) {
         final ServerWorldInfoBridge infoBridge = (ServerWorldInfoBridge) this.level.getLevelData();
@@ -60,7 +168,11 @@ public abstract class ChunkMapMixin {
         final ServerWorldInfoBridge infoBridge = (ServerWorldInfoBridge) this.level.getLevelData();
         final SerializationBehavior serializationBehavior = infoBridge.bridge$serializationBehavior().orElse(SerializationBehavior.AUTOMATIC);
         if (serializationBehavior == SerializationBehavior.AUTOMATIC || serializationBehavior == SerializationBehavior.MANUAL) {
-            return ChunkSerializer.write(worldIn, chunkIn);
+            if (this.impl$flushing || !SpongeConfigs.getCommon().get().optimizations.asyncChunkSerialization) {
+                return ChunkSerializer.write(worldIn, chunkIn);
+            }
+            this.impl$partialChunk = AsyncChunkSerializer.write(worldIn, chunkIn);
+            return this.impl$partialChunk.getTag();
         }
 
         return null;
@@ -72,6 +184,14 @@ public abstract class ChunkMapMixin {
             return;
         }
 
-        chunkManager.write(pos, compound);
+        final AsyncChunkSerializer.PartialChunk partialChunk = this.impl$partialChunk;
+        this.impl$partialChunk = null;
+        // A newer save supersedes one still being encoded
+        this.impl$pendingWrites.remove(pos.toLong());
+        if (partialChunk == null || partialChunk.isComplete()) {
+            chunkManager.write(pos, compound);
+        } else {
+            this.impl$pendingWrites.put(pos.toLong(), AsyncChunkSerializer.complete(partialChunk));
+        }
     }
 }
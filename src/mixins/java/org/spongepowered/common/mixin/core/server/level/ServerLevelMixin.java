@@ -72,6 +72,7 @@
 import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkMapBridge;
 import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.PhaseContext;
@@ -109,6 +110,7 @@ public abstract class ServerLevelMixin extends LevelMixin implements ServerWorld
     private Map<Entity, Vector3d> impl$rotationUpdates;
 
     private boolean impl$isManualSave = false;
+    private boolean impl$isIncrementalSave = false;
     protected WorldTimingsHandler impl$timings = new WorldTimingsHandler((ServerLevel) (Object) this);
 
     @Inject(method = "<init>", at = @At("TAIL"))
@@ -232,6 +234,21 @@ public abstract class ServerLevelMixin extends LevelMixin implements ServerWorld
         this.impl$isManualSave = state;
     }
 
+    @Override
+    public void bridge$startIncrementalSave() {
+        this.impl$isIncrementalSave = true;
+        try {
+            ((ServerLevel) (Object) this).save(null, false, ((ServerLevel) (Object) this).noSave);
+        } finally {
+            this.impl$isIncrementalSave = false;
+        }
+    }
+
+    @Override
+    public void bridge$continueIncrementalSave(final long deadline) {
+        ((ChunkMapBridge) ((ServerLevel) (Object) this).getChunkSource().chunkMap).bridge$saveQueuedChunks(deadline);
+    }
+
     @Override
     public RegistryHolder bridge$registries() {
         return this.impl$registerHolder;
@@ -324,7 +341,9 @@ public void save(@Nullable final ProgressListener progress, final boolean flush,
             final boolean canAutomaticallySave = !this.impl$isManualSave && behavior == SerializationBehavior.AUTOMATIC;
             final boolean canManuallySave = this.impl$isManualSave && behavior == SerializationBehavior.MANUAL;
 
-            if (canAutomaticallySave || canManuallySave) {
+            if (canAutomaticallySave && this.impl$isIncrementalSave) {
+                ((ChunkMapBridge) chunkProvider.chunkMap).bridge$queueUnsavedChunks();
+            } else if (canAutomaticallySave || canManuallySave) {
                 chunkProvider.save(flush);
             }
         }
@@ -0,0 +1,89 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.level.block;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.RedStoneWireBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.applaunch.config.common.EigenRedstoneCategory;
+import org.spongepowered.common.applaunch.config.core.SpongeConfigs;
+import org.spongepowered.common.mixin.core.block.BlockMixin;
+import org.spongepowered.common.mixin.plugin.RedstoneWireTurbo;
+
+@Mixin(RedStoneWireBlock.class)
+public abstract class RedStoneWireBlockMixin extends BlockMixin {
+
+    // @formatter:off
+    @Shadow private void shadow$updatePowerStrength(final Level level, final BlockPos pos, final BlockState state) { }
+    // @formatter:on
+
+    // The bulk of the eigen redstone implementation is found in RedstoneWireTurbo, this only
+    // routes power updates into it. The turbo keeps per search state, which is fine as long as
+    // wire updates only happen on the server thread.
+    private final @Nullable RedstoneWireTurbo impl$turbo = RedStoneWireBlockMixin.impl$createTurbo((RedStoneWireBlock) (Object) this);
+
+    private static @Nullable RedstoneWireTurbo impl$createTurbo(final RedStoneWireBlock wire) {
+        final EigenRedstoneCategory eigen = SpongeConfigs.getCommon().get().optimizations.eigenRedstone;
+        if (!eigen.enabled || eigen.vanillaSearch) {
+            return null;
+        }
+        return new RedstoneWireTurbo(wire);
+    }
+
+    @Inject(method = "updatePowerStrength", at = @At("HEAD"), cancellable = true)
+    private void impl$updatePowerStrengthWithTurbo(final Level level, final BlockPos pos, final BlockState state, final CallbackInfo ci) {
+        if (this.impl$turbo != null && !level.isClientSide) {
+            this.impl$turbo.updateSurroundingRedstone(level, pos, state, null);
+            ci.cancel();
+        }
+    }
+
+    /**
+     * Passes the position of the block that caused the update on to the turbo,
+     * which uses it to determine the direction the signal is flowing in.
+     */
+    @Redirect(method = "neighborChanged",
+        at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/world/level/block/RedStoneWireBlock;updatePowerStrength(Lnet/minecraft/world/level/Level;Lnet/minecraft/core/BlockPos;Lnet/minecraft/world/level/block/state/BlockState;)V"))
+    private void impl$updatePowerStrengthFromSource(final RedStoneWireBlock self, final Level level, final BlockPos pos, final BlockState state,
+        final BlockState originalState, final Level originalLevel, final BlockPos originalPos, final Block block, final BlockPos fromPos,
+        final boolean isMoving) {
+        if (this.impl$turbo == null) {
+            this.shadow$updatePowerStrength(level, pos, state);
+            return;
+        }
+        this.impl$turbo.updateSurroundingRedstone(level, pos, state, fromPos);
+    }
+
+}
@@ -78,6 +78,9 @@ public abstract class LevelChunkMixin implements ChunkBridge, CacheKeyBridge {
     @Shadow public abstract BlockState getBlockState(BlockPos pos);
     // @formatter:on
 
+    // north, south, east, west - matching SpongeCommon#directionToIndex
+    private static final int[][] impl$NEIGHBOR_OFFSETS = {{0, -1}, {0, 1}, {1, 0}, {-1, 0}};
+
     private long impl$scheduledForUnload = -1; // delay chunk unloads
     private boolean impl$persistedChunk = false;
     private boolean impl$isSpawning = false;
@@ -92,6 +95,24 @@ public abstract class LevelChunkMixin implements ChunkBridge, CacheKeyBridge {
         this.impl$cacheKey = ChunkPos.asLong(p_i225781_2_.x, p_i225781_2_.z);
     }
 
+    @Inject(method = "setLoaded", at = @At("RETURN"))
+    private void impl$updateNeighborsOnLoadChange(final boolean loaded, final CallbackInfo ci) {
+        for (int i = 0; i < this.impl$neighbors.length; i++) {
+            final net.minecraft.world.level.chunk.LevelChunk neighbor;
+            if (loaded) {
+                neighbor = this.level.getChunkSource().getChunkNow(this.chunkPos.x + LevelChunkMixin.impl$NEIGHBOR_OFFSETS[i][0],
+                    this.chunkPos.z + LevelChunkMixin.impl$NEIGHBOR_OFFSETS[i][1]);
+            } else {
+                neighbor = this.impl$neighbors[i];
+            }
+            if (neighbor != null && neighbor != (Object) this) {
+                // opposite of i: north <-> south, east <-> west
+                ((ChunkBridge) neighbor).bridge$setNeighborChunk(i ^ 1, loaded ? (net.minecraft.world.level.chunk.LevelChunk) (Object) this : null);
+            }
+            this.impl$neighbors[i] = loaded ? neighbor : null;
+        }
+    }
+
     @Override
     public net.minecraft.world.level.chunk.LevelChunk[] bridge$getNeighborArray() {
         return Arrays.copyOf(this.impl$neighbors, this.impl$neighbors.length);
@@ -104,7 +125,8 @@ public abstract class LevelChunkMixin implements ChunkBridge, CacheKeyBridge {
 
     @Override
     public boolean bridge$isQueuedForUnload() {
-        throw new UnsupportedOperationException("implement me");
+        // The chunk map marks chunks as unloaded as it drops them
+        return !this.loaded;
     }
 
     @Override
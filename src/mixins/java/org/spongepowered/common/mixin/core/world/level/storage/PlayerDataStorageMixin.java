@@ -37,6 +37,7 @@
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.SpongeCommon;
 import org.spongepowered.common.SpongeServer;
+import org.spongepowered.common.world.storage.SpongePlayerDataManager;
 
 import java.io.File;
 import java.io.IOException;
@@ -52,11 +53,28 @@
 public abstract class PlayerDataStorageMixin {
 
     // @formatter:off
+    @Shadow @Final private static Logger LOGGER;
     @Shadow @Final private File playerDir;
     // @formatter:on
 
     @Nullable private Exception impl$capturedException;
 
+    @Redirect(method = "load", at = @At(value = "INVOKE", target = "Ljava/io/File;exists()Z", remap = false))
+    private boolean impl$includePendingSaveInExists(final File file) {
+        return ((SpongeServer) Sponge.getServer()).getPlayerDataManager().getWriter().exists(file.toPath());
+    }
+
+    @Redirect(method = "load", at = @At(value = "INVOKE", target = "Ljava/io/File;isFile()Z", remap = false))
+    private boolean impl$includePendingSaveInIsFile(final File file) {
+        // A pending save which isn't written yet is a file as well
+        return !file.exists() || file.isFile();
+    }
+
+    @Redirect(method = "load", at = @At(value = "INVOKE", target = "Lnet/minecraft/nbt/NbtIo;readCompressed(Ljava/io/File;)Lnet/minecraft/nbt/CompoundTag;"))
+    private CompoundTag impl$readThroughPlayerDataWriter(final File file) throws IOException {
+        return ((SpongeServer) Sponge.getServer()).getPlayerDataManager().getWriter().read(file.toPath());
+    }
+
     @Redirect(method = "load", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/player/Player;load(Lnet/minecraft/nbt/CompoundTag;)V"))
     private void impl$readSpongePlayerData(final Player playerEntity, final CompoundTag compound) throws IOException {
         playerEntity.load(compound);
@@ -65,6 +83,24 @@ public abstract class PlayerDataStorageMixin {
         ((SpongeServer) SpongeCommon.getServer()).getPlayerDataManager().readPlayerData(compound, null, creationTime);
     }
 
+    @Inject(method = "save", at = @At("HEAD"), cancellable = true)
+    private void impl$saveThroughPlayerDataWriter(final Player player, final CallbackInfo ci) {
+        final SpongePlayerDataManager playerDataManager = ((SpongeServer) Sponge.getServer()).getPlayerDataManager();
+        if (!playerDataManager.getWriter().isAsync()) {
+            return;
+        }
+        ci.cancel();
+        try {
+            final CompoundTag compound = player.saveWithoutId(new CompoundTag());
+            final Path directory = this.playerDir.toPath();
+            playerDataManager.getWriter().write(directory.resolve(player.getStringUUID() + ".dat"), compound,
+                directory.resolve(player.getStringUUID() + ".dat_old"));
+            playerDataManager.saveSpongePlayerData(player.getUUID());
+        } catch (final Exception e) {
+            PlayerDataStorageMixin.LOGGER.warn("Failed to save player data for {}", player.getName().getString(), e);
+        }
+    }
+
     @Inject(method = "save",
         at = @At(value = "INVOKE",
             target = "Lnet/minecraft/nbt/NbtIo;writeCompressed(Lnet/minecraft/nbt/CompoundTag;Ljava/io/File;)V",
@@ -0,0 +1,422 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entityactivation;
+
+import com.google.common.collect.ImmutableMap;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.ClassInstanceMultiMap;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LightningBolt;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.MobCategory;
+import net.minecraft.world.entity.animal.Animal;
+import net.minecraft.world.entity.animal.Sheep;
+import net.minecraft.world.entity.boss.EnderDragonPart;
+import net.minecraft.world.entity.boss.enderdragon.EndCrystal;
+import net.minecraft.world.entity.boss.enderdragon.EnderDragon;
+import net.minecraft.world.entity.boss.wither.WitherBoss;
+import net.minecraft.world.entity.item.FallingBlockEntity;
+import net.minecraft.world.entity.item.PrimedTnt;
+import net.minecraft.world.entity.monster.Creeper;
+import net.minecraft.world.entity.monster.Enemy;
+import net.minecraft.world.entity.monster.RangedAttackMob;
+import net.minecraft.world.entity.npc.AbstractVillager;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.entity.projectile.AbstractHurtingProjectile;
+import net.minecraft.world.entity.projectile.FireworkRocketEntity;
+import net.minecraft.world.entity.projectile.Projectile;
+import net.minecraft.world.entity.projectile.ThrowableProjectile;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.phys.AABB;
+import org.spongepowered.common.SpongeCommon;
+import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
+import org.spongepowered.common.bridge.world.WorldBridge;
+import org.spongepowered.common.bridge.world.chunk.ActiveChunkReferantBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.bridge.world.storage.ServerWorldInfoBridge;
+import org.spongepowered.common.config.inheritable.EntityActivationRangeCategory;
+import org.spongepowered.common.config.inheritable.InheritableConfigHandle;
+import org.spongepowered.common.config.inheritable.WorldConfig;
+import org.spongepowered.common.server.BootstrapProperties;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class EntityActivationRange {
+
+    private static final ImmutableMap<Byte, String> activationTypeMappings = new ImmutableMap.Builder<Byte, String>()
+            .put((byte) 1, "monster")
+            .put((byte) 2, "creature")
+            .put((byte) 3, "aquatic")
+            .put((byte) 4, "ambient")
+            .put((byte) 5, "misc")
+            .build();
+
+    private static final int DEFAULT_ACTIVATION_RANGE = 32;
+
+    // Ranges are tracked per world config, entities may be constructed on world generation threads
+    private static final Map<InheritableConfigHandle<WorldConfig>, WorldActivationRanges> worldActivationRanges =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Initializes an entities type on construction to specify what group this
+     * entity is in for activation ranges.
+     *
+     * @param entity Entity to get type for
+     * @return group id
+     */
+    public static byte initializeEntityActivationType(final Entity entity) {
+        final MobCategory category = entity.getType().getCategory();
+        // account for entities that are hostile but not registered under the monster category
+        if (entity instanceof Enemy || entity instanceof RangedAttackMob || category == MobCategory.MONSTER) {
+            return 1; // Monster
+        } else if (category == MobCategory.CREATURE) {
+            return 2; // Creature
+        } else if (category == MobCategory.WATER_CREATURE || category == MobCategory.WATER_AMBIENT) {
+            return 3; // Aquatic
+        } else if (category == MobCategory.AMBIENT) {
+            return 4; // Ambient
+        } else {
+            return 5; // Misc
+        }
+    }
+
+    /**
+     * Initialize entity activation state.
+     *
+     * @param entity Entity to check
+     */
+    public static void initializeEntityActivationState(final Entity entity) {
+        final ActivationCapabilityBridge spongeEntity = (ActivationCapabilityBridge) entity;
+        if (((WorldBridge) entity.level).bridge$isFake()) {
+            return;
+        }
+
+        // types that should always be active
+        if (entity instanceof Player
+            || entity instanceof ThrowableProjectile
+            || entity instanceof EnderDragon
+            || entity instanceof EnderDragonPart
+            || entity instanceof WitherBoss
+            || entity instanceof AbstractHurtingProjectile
+            || entity instanceof LightningBolt
+            || entity instanceof PrimedTnt
+            || entity instanceof EndCrystal
+            || entity instanceof FireworkRocketEntity
+            || entity instanceof FallingBlockEntity) // Always tick falling blocks
+        {
+            return;
+        }
+
+        final InheritableConfigHandle<WorldConfig> configAdapter = ((ServerWorldInfoBridge) entity.level.getLevelData()).bridge$configAdapter();
+        final ResourceLocation key = Registry.ENTITY_TYPE.getKey(entity.getType());
+        final byte activationType = spongeEntity.activation$getActivationType();
+        if (EntityActivationRange.ranges(configAdapter).initializedTypes.add(entity.getType())) {
+            EntityActivationRange.addEntityToConfig(configAdapter, key, activationType);
+        }
+
+        final EntityActivationRangeCategory config = configAdapter.get().entityActivationRange;
+        final String activationTypeName = EntityActivationRange.activationTypeMappings.get(activationType);
+        final EntityActivationRangeCategory.ModSubCategory entityMod = config.mods.get(key.getNamespace());
+        final int defaultActivationRange = config.globalRanges.getOrDefault(activationTypeName, EntityActivationRange.DEFAULT_ACTIVATION_RANGE);
+        if (entityMod == null) {
+            // use default activation range
+            spongeEntity.activation$setActivationRange(defaultActivationRange);
+            if (defaultActivationRange > 0) {
+                spongeEntity.activation$setDefaultActivationState(false);
+            }
+        } else {
+            if (!entityMod.enabled) {
+                spongeEntity.activation$setDefaultActivationState(true);
+                return;
+            }
+
+            final Integer defaultModActivationRange = entityMod.defaultRanges.get(activationTypeName);
+            final Integer entityActivationRange = entityMod.entities.get(key.getPath());
+            if (defaultModActivationRange != null && entityActivationRange == null) {
+                spongeEntity.activation$setActivationRange(defaultModActivationRange);
+                if (defaultModActivationRange > 0) {
+                    spongeEntity.activation$setDefaultActivationState(false);
+                }
+            } else if (entityActivationRange != null) {
+                spongeEntity.activation$setActivationRange(entityActivationRange);
+                if (entityActivationRange > 0) {
+                    spongeEntity.activation$setDefaultActivationState(false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Find what entities are in range of the players in the world and set
+     * active if in range.
+     *
+     * @param world The world to perform activation checks in
+     */
+    public static void activateEntities(final ServerLevel world) {
+        if (((WorldBridge) world).bridge$isFake()) {
+            return;
+        }
+
+        final InheritableConfigHandle<WorldConfig> configAdapter = ((ServerWorldInfoBridge) world.getLevelData()).bridge$configAdapter();
+        int maxRange = 0;
+        for (final Integer range : EntityActivationRange.ranges(configAdapter).maxActivationRanges.values()) {
+            if (range > maxRange) {
+                maxRange = range;
+            }
+        }
+        final int viewDistance = ((ServerWorldInfoBridge) world.getLevelData()).bridge$viewDistance().orElse(BootstrapProperties.viewDistance);
+        maxRange = Math.min((viewDistance << 4) - 8, maxRange);
+
+        final long currentTick = SpongeCommon.getServer().getTickCount();
+        for (final ServerPlayer player : world.players()) {
+            ((ActivationCapabilityBridge) player).activation$setActivatedTick(currentTick);
+            final AABB playerBB = player.getBoundingBox();
+
+            final int minChunkX = Mth.floor((playerBB.minX - maxRange) / 16.0D);
+            final int maxChunkX = Mth.floor((playerBB.maxX + maxRange) / 16.0D);
+            final int minChunkZ = Mth.floor((playerBB.minZ - maxRange) / 16.0D);
+            final int maxChunkZ = Mth.floor((playerBB.maxZ + maxRange) / 16.0D);
+
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; ++chunkX) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; ++chunkZ) {
+                    final LevelChunk chunk = world.getChunkSource().getChunkNow(chunkX, chunkZ);
+                    if (chunk != null) {
+                        EntityActivationRange.activateChunkEntities(playerBB, chunk, currentTick);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks for the activation state of all entities in this chunk.
+     *
+     * @param playerBB The bounding box of the player activating entities
+     * @param chunk Chunk to check for activation
+     * @param currentTick The current server tick
+     */
+    private static void activateChunkEntities(final AABB playerBB, final LevelChunk chunk, final long currentTick) {
+        for (final ClassInstanceMultiMap<Entity> section : chunk.getEntitySections()) {
+            for (final Entity entity : section) {
+                final ActivationCapabilityBridge spongeEntity = (ActivationCapabilityBridge) entity;
+                if (currentTick <= spongeEntity.activation$getActivatedTick()) {
+                    continue;
+                }
+                if (spongeEntity.activation$getDefaultActivationState()) {
+                    spongeEntity.activation$setActivatedTick(currentTick);
+                    continue;
+                }
+
+                // check if activation cache needs to be updated
+                if (spongeEntity.activation$requiresActivationCacheRefresh()) {
+                    EntityActivationRange.initializeEntityActivationState(entity);
+                    spongeEntity.activation$requiresActivationCacheRefresh(false);
+                }
+                final int range = spongeEntity.activation$getActivationRange();
+                if (EntityActivationRange.intersectsGrown(playerBB, range, entity.getBoundingBox())) {
+                    spongeEntity.activation$setActivatedTick(currentTick);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether the given box intersects the source box grown
+     * horizontally by the given range, without allocating a new AABB.
+     *
+     * @param source The AABB to grow
+     * @param range The horizontal range to grow by
+     * @param target The AABB to test against
+     * @return Whether the boxes intersect
+     */
+    private static boolean intersectsGrown(final AABB source, final int range, final AABB target) {
+        return target.minX < source.maxX + range && target.maxX > source.minX - range
+            && target.minY < source.maxY + 256 && target.maxY > source.minY - 256
+            && target.minZ < source.maxZ + range && target.maxZ > source.minZ - range;
+    }
+
+    /**
+     * If an entity is not in range, do some more checks to see if we should
+     * give it a shot.
+     *
+     * @param entity Entity to check
+     * @return Whether entity should still be maintained active
+     */
+    public static boolean checkEntityImmunities(final Entity entity) {
+        // quick checks.
+        if (entity.getRemainingFireTicks() > 0) {
+            return true;
+        }
+        if (!(entity instanceof Projectile)) {
+            if (!entity.getPassengers().isEmpty() || entity.getVehicle() != null) {
+                return true;
+            }
+        } else if (!entity.isOnGround()) {
+            return true;
+        }
+        // special cases.
+        if (entity instanceof LivingEntity) {
+            final LivingEntity living = (LivingEntity) entity;
+            if (living.hurtTime > 0 || !living.getActiveEffectsMap().isEmpty()) {
+                return true;
+            }
+            if (entity instanceof Mob && (living.getLastHurtByMob() != null || ((Mob) entity).getTarget() != null)) {
+                return true;
+            }
+            if (entity instanceof AbstractVillager && ((AbstractVillager) entity).isTrading()) {
+                return true;
+            }
+            if (entity instanceof Animal) {
+                final Animal animal = (Animal) entity;
+                if (animal.isBaby() || animal.isInLove()) {
+                    return true;
+                }
+                if (entity instanceof Sheep && ((Sheep) entity).isSheared()) {
+                    return true;
+                }
+            }
+            if (entity instanceof Creeper && ((Creeper) entity).isIgnited()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the entity is active for this tick.
+     *
+     * @param entity The entity to check for activity
+     * @return Whether the given entity should be active
+     */
+    public static boolean checkIfActive(final Entity entity) {
+        // Never safe to skip fireworks or entities not yet added to chunk
+        if (entity instanceof Player || entity.level.isClientSide() || !entity.inChunk || entity instanceof FireworkRocketEntity) {
+            return true;
+        }
+        final ChunkBridge activeChunk = ((ActiveChunkReferantBridge) entity).bridge$getActiveChunk();
+        if (activeChunk == null) {
+            // Should never happen but just in case for mods, always tick
+            return true;
+        }
+
+        if (!activeChunk.bridge$isActive()) {
+            return false;
+        }
+
+        // If in forced chunk
+        if (activeChunk.bridge$isPersistedChunk()) {
+            return true;
+        }
+
+        final long currentTick = SpongeCommon.getServer().getTickCount();
+        final ActivationCapabilityBridge spongeEntity = (ActivationCapabilityBridge) entity;
+        boolean isActive = spongeEntity.activation$getActivatedTick() >= currentTick || spongeEntity.activation$getDefaultActivationState();
+
+        // Should this entity tick?
+        if (!isActive) {
+            if ((currentTick - spongeEntity.activation$getActivatedTick() - 1) % 20 == 0) {
+                // Check immunities every 20 ticks.
+                if (EntityActivationRange.checkEntityImmunities(entity)) {
+                    // Triggered some sort of immunity, give 20 full ticks before we check again.
+                    spongeEntity.activation$setActivatedTick(currentTick + 20);
+                }
+                isActive = true;
+            }
+            // Add a little performance juice to active entities. Skip 1/4 if not immune.
+        } else if (!spongeEntity.activation$getDefaultActivationState() && entity.tickCount % 4 == 0
+            && !EntityActivationRange.checkEntityImmunities(entity)) {
+            isActive = false;
+        }
+
+        if (isActive && !activeChunk.bridge$areNeighborsLoaded()) {
+            isActive = false;
+        }
+
+        return isActive;
+    }
+
+    private static void addEntityToConfig(final InheritableConfigHandle<WorldConfig> configAdapter, final ResourceLocation key,
+        final byte activationType) {
+        final EntityActivationRangeCategory category = configAdapter.get().entityActivationRange;
+        final boolean autoPopulate = category.autoPopulate;
+        final String activationTypeName = EntityActivationRange.activationTypeMappings.get(activationType);
+        final String entityModId = key.getNamespace();
+        final String entityId = key.getPath();
+        final int defaultActivationRange = category.globalRanges.getOrDefault(activationTypeName, EntityActivationRange.DEFAULT_ACTIVATION_RANGE);
+        int activationRange = defaultActivationRange;
+
+        boolean requiresSave = autoPopulate && !category.mods.containsKey(entityModId);
+        final EntityActivationRangeCategory.ModSubCategory entityMod = configAdapter.getOrCreateValue(s -> s.entityActivationRange.mods.get(entityModId),
+                c -> c.entityActivationRange.mods.put(entityModId, new EntityActivationRangeCategory.ModSubCategory()), autoPopulate);
+        if (entityMod != null) {
+            final Integer modActivationRange = entityMod.defaultRanges.get(activationTypeName);
+            if (autoPopulate && modActivationRange == null) {
+                entityMod.defaultRanges.put(activationTypeName, defaultActivationRange);
+                requiresSave = true;
+            } else if (modActivationRange != null && modActivationRange > activationRange) {
+                activationRange = modActivationRange;
+            }
+
+            final Integer entityActivationRange = entityMod.entities.get(entityId);
+            if (autoPopulate && entityActivationRange == null) {
+                entityMod.entities.put(entityId, entityMod.defaultRanges.get(activationTypeName));
+                requiresSave = true;
+            }
+            if (entityActivationRange != null && entityActivationRange > activationRange) {
+                activationRange = entityActivationRange;
+            }
+        }
+
+        // check max ranges
+        EntityActivationRange.ranges(configAdapter).maxActivationRanges.merge(activationType, activationRange, Math::max);
+
+        if (requiresSave) {
+            configAdapter.save();
+        }
+    }
+
+    private static WorldActivationRanges ranges(final InheritableConfigHandle<WorldConfig> configAdapter) {
+        return EntityActivationRange.worldActivationRanges.computeIfAbsent(configAdapter, k -> new WorldActivationRanges());
+    }
+
+    private EntityActivationRange() {
+    }
+
+    private static final class WorldActivationRanges {
+
+        final Map<Byte, Integer> maxActivationRanges = new ConcurrentHashMap<>();
+        final Set<EntityType<?>> initializedTypes = ConcurrentHashMap.newKeySet();
+    }
+}
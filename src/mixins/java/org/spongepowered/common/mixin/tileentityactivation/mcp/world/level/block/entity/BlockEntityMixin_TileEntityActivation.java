@@ -24,8 +24,14 @@
  */
 package org.spongepowered.common.mixin.tileentityactivation.mcp.world.level.block.entity;
 
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.block.entity.BlockEntityActivation;
 import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
 
 @Mixin(BlockEntity.class)
@@ -38,6 +44,11 @@ public abstract class BlockEntityMixin_TileEntityActivation implements Activatio
     private int tileEntityActivation$ticksExisted;
     private int tileEntityActivation$tickRate = 1;
 
+    @Inject(method = "setLevelAndPosition", at = @At("RETURN"))
+    private void tileEntityActivation$initActivationState(final Level level, final BlockPos pos, final CallbackInfo ci) {
+        BlockEntityActivation.initializeBlockEntityActivationState((BlockEntity) (Object) this);
+    }
+
     @Override
     public final void activation$incrementSpongeTicksExisted() {
         this.tileEntityActivation$ticksExisted++;
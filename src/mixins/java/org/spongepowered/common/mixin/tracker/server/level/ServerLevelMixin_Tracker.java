@@ -29,6 +29,7 @@
 import org.apache.logging.log4j.Level;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
+import org.objectweb.asm.Opcodes;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.entity.BlockEntity;
 import org.spongepowered.api.event.Cause;
@@ -51,6 +52,7 @@
 import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
 import org.spongepowered.common.bridge.TimingBridge;
 import org.spongepowered.common.bridge.TrackableBridge;
+import org.spongepowered.common.bridge.activation.ActivationCapabilityBridge;
 import org.spongepowered.common.bridge.block.BlockBridge;
 import org.spongepowered.common.bridge.block.BlockStateBridge;
 import org.spongepowered.common.bridge.block.TrackedBlockBridge;
@@ -96,7 +98,9 @@
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.TileEntityPipeline;
 import org.spongepowered.common.event.tracking.context.transaction.pipeline.WorldPipeline;
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
+import org.spongepowered.common.mixin.plugin.entityactivation.EntityActivationRange;
 import org.spongepowered.common.mixin.tracker.world.level.LevelMixin_Tracker;
+import org.spongepowered.common.relocate.co.aikar.timings.TimingHistory;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.util.PrettyPrinter;
 import org.spongepowered.common.util.VecHelper;
@@ -109,6 +113,7 @@
 import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -175,6 +180,15 @@ public abstract class ServerLevelMixin_Tracker extends LevelMixin_Tracker implem
         final Entity entity
     ) {
         ((ServerWorldBridge) this).bridge$getTimingsHandler().entityTick.startTiming();
+        // Entities outside of any player's activation range only age, the
+        // bridge is only present when the entity activation module is enabled.
+        if (entity instanceof ActivationCapabilityBridge && !EntityActivationRange.checkIfActive(entity)) {
+            ++entity.tickCount;
+            ((ActivationCapabilityBridge) entity).activation$inactiveTick();
+            ((ServerWorldBridge) this).bridge$getTimingsHandler().entityTick.stopTiming();
+            return;
+        }
+        TimingHistory.activatedEntityTicks++;
         final PhaseContext<@NonNull ?> currentState = PhaseTracker.SERVER.getPhaseContext();
         if (currentState.alreadyCapturingEntityTicks()) {
             this.shadow$guardEntityTick(entityUpdateConsumer, entity);
@@ -184,6 +198,28 @@ public abstract class ServerLevelMixin_Tracker extends LevelMixin_Tracker implem
         ((ServerWorldBridge) this).bridge$getTimingsHandler().entityTick.stopTiming();
     }
 
+    @Redirect(method = "tickPassenger",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/Entity;rideTick()V")
+    )
+    private void tracker$wrapPassengerTick(final Entity passenger) {
+        final PhaseContext<@NonNull ?> currentState = PhaseTracker.SERVER.getPhaseContext();
+        if (currentState.alreadyCapturingEntityTicks()) {
+            passenger.rideTick();
+            return;
+        }
+        TrackingUtil.tickRidingEntity(passenger);
+    }
+
+    @Inject(method = "tick",
+        at = @At(value = "FIELD",
+            target = "Lnet/minecraft/server/level/ServerLevel;tickingEntities:Z",
+            opcode = Opcodes.PUTFIELD,
+            ordinal = 1)
+    )
+    private void tracker$finishUntrackedEntityTicks(final BooleanSupplier hasTimeLeft, final CallbackInfo ci) {
+        TrackingUtil.finishUntrackedTicks();
+    }
+
     @Override
     protected void tracker$wrapTileEntityTick(final TickableBlockEntity tileEntity) {
         final PhaseContext<@NonNull ?> state = PhaseTracker.SERVER.getPhaseContext();
@@ -753,44 +789,49 @@ public boolean destroyBlock(final BlockPos pos, final boolean doDrops, @Nullable
             return;
         }
         // Otherwise, we continue with recording, maybe.
-        final LevelChunk targetChunk = this.shadow$getChunkAt(immutableTarget);
-        final BlockState targetBlockState = targetChunk.getBlockState(immutableTarget);
-        // Sponge - Shortcircuit if the block has no neighbor logic
-        if (!((TrackedBlockBridge) targetBlockState.getBlock()).bridge$overridesNeighborNotificationLogic()) {
-            return;
-        }
-        // Sponge End
-
-        // Sponge start - prepare notification
-        final PhaseContext<@NonNull ?> peek = server.getPhaseContext();
-
-        //  try { // Vanilla - We need to push the effect transactor so that it always pops
-        try {
-            final Supplier<ServerLevel> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier((ServerLevel) (Object) this, "ServerWorld");
-            final net.minecraft.world.level.block.entity.@Nullable BlockEntity existingTile = targetChunk.getBlockEntity(
-                immutableTarget,
-                LevelChunk.EntityCreationType.CHECK
-            );
-            peek.getTransactor().logNeighborNotification(worldSupplier, immutableFrom, blockIn, immutableTarget, targetBlockState, existingTile);
-
-            peek.associateNeighborStateNotifier(immutableFrom, targetBlockState.getBlock(), immutableTarget, ((ServerLevel) (Object) this), PlayerTracker.Type.NOTIFIER);
+        // Every notification is counted, including the ones short circuited below, so that the
+        // timings report shows how many neighbor updates a redstone contraption really causes.
+        try (final Timing timing = ((ServerWorldBridge) this).bridge$getTimingsHandler().neighborNotifications) {
+            timing.startTiming();
+            final LevelChunk targetChunk = this.shadow$getChunkAt(immutableTarget);
+            final BlockState targetBlockState = targetChunk.getBlockState(immutableTarget);
+            // Sponge - Shortcircuit if the block has no neighbor logic
+            if (!((TrackedBlockBridge) targetBlockState.getBlock()).bridge$overridesNeighborNotificationLogic()) {
+                return;
+            }
             // Sponge End
 
-            targetBlockState.neighborChanged(((ServerLevel) (Object) this), immutableTarget, blockIn, immutableFrom, false);
-
-        } catch (final Throwable throwable) {
-            final CrashReport crashreport = CrashReport.forThrowable(throwable, "Exception while updating neighbours");
-            final CrashReportCategory crashreportcategory = crashreport.addCategory("Block being updated");
-            crashreportcategory.setDetail("Source block type", () -> {
-                try {
-                    return String.format("ID #%d (%s // %s)", Registry.BLOCK.getId(blockIn),
-                        blockIn.getDescriptionId(), blockIn.getClass().getCanonicalName());
-                } catch (final Throwable var2) {
-                    return "ID #" + Registry.BLOCK.getId(blockIn);
-                }
-            });
-            CrashReportCategory.populateBlockDetails(crashreportcategory, immutableTarget, targetBlockState);
-            throw new ReportedException(crashreport);
+            // Sponge start - prepare notification
+            final PhaseContext<@NonNull ?> peek = server.getPhaseContext();
+
+            //  try { // Vanilla - We need to push the effect transactor so that it always pops
+            try {
+                final Supplier<ServerLevel> worldSupplier = VolumeStreamUtils.createWeaklyReferencedSupplier((ServerLevel) (Object) this, "ServerWorld");
+                final net.minecraft.world.level.block.entity.@Nullable BlockEntity existingTile = targetChunk.getBlockEntity(
+                    immutableTarget,
+                    LevelChunk.EntityCreationType.CHECK
+                );
+                peek.getTransactor().logNeighborNotification(worldSupplier, immutableFrom, blockIn, immutableTarget, targetBlockState, existingTile);
+
+                peek.associateNeighborStateNotifier(immutableFrom, targetBlockState.getBlock(), immutableTarget, ((ServerLevel) (Object) this), PlayerTracker.Type.NOTIFIER);
+                // Sponge End
+
+                targetBlockState.neighborChanged(((ServerLevel) (Object) this), immutableTarget, blockIn, immutableFrom, false);
+
+            } catch (final Throwable throwable) {
+                final CrashReport crashreport = CrashReport.forThrowable(throwable, "Exception while updating neighbours");
+                final CrashReportCategory crashreportcategory = crashreport.addCategory("Block being updated");
+                crashreportcategory.setDetail("Source block type", () -> {
+                    try {
+                        return String.format("ID #%d (%s // %s)", Registry.BLOCK.getId(blockIn),
+                            blockIn.getDescriptionId(), blockIn.getClass().getCanonicalName());
+                    } catch (final Throwable var2) {
+                        return "ID #" + Registry.BLOCK.getId(blockIn);
+                    }
+                });
+                CrashReportCategory.populateBlockDetails(crashreportcategory, immutableTarget, targetBlockState);
+                throw new ReportedException(crashreport);
+            }
         }
     }
 
@@ -233,6 +233,11 @@ public abstract class EntityMixin_Tracker implements TrackableBridge, EntityTrac
         ((TrackableBridge) this.type).bridge$setAllowsEntityEventCreation(allowsEntityEventCreation);
     }
 
+    @Override
+    public boolean bridge$allowsUntrackedTicks() {
+        return ((TrackableBridge) this.type).bridge$allowsUntrackedTicks();
+    }
+
     @Override
     public void bridge$refreshTrackerStates() {
         ((TrackableBridge) this.type).bridge$refreshTrackerStates();
@@ -24,17 +24,22 @@
  */
 package org.spongepowered.common.mixin.tracker.world.level;
 
+import org.objectweb.asm.Opcodes;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.Slice;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.bridge.TrackableBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
+import org.spongepowered.common.event.tracking.TrackingUtil;
 
 import javax.annotation.Nullable;
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
@@ -93,6 +98,18 @@ public abstract class LevelMixin_Tracker implements WorldBridge {
         tileEntity.tick();
     }
 
+    @Inject(method = "tickBlockEntities",
+        at = @At(value = "FIELD",
+            target = "Lnet/minecraft/world/level/Level;updatingBlockEntities:Z",
+            opcode = Opcodes.PUTFIELD,
+            ordinal = 1)
+    )
+    private void tracker$finishUntrackedBlockEntityTicks(final CallbackInfo ci) {
+        if ((Object) this instanceof ServerLevel) {
+            TrackingUtil.finishUntrackedTicks();
+        }
+    }
+
     @Redirect(method = "addBlockEntity",
         at = @At(value = "INVOKE", target = "Ljava/util/List;add(Ljava/lang/Object;)Z", remap = false),
         slice = @Slice(from = @At(value = "FIELD", target = "Lnet/minecraft/world/level/Level;tickableBlockEntities:Ljava/util/List;"),
@@ -0,0 +1,107 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class ScheduledTaskQueueTest {
+
+    private static SpongeScheduledTask createTask(final String name) {
+        return new SpongeScheduledTask(null, new SpongeTask(task -> {}, name, name, null, 0L, 0L, false), name);
+    }
+
+    @Test
+    public void pollsOnlyDueTasksInDeadlineOrder() {
+        final ScheduledTaskQueue queue = new ScheduledTaskQueue();
+        final Random random = new Random(42L);
+        final List<SpongeScheduledTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final SpongeScheduledTask task = ScheduledTaskQueueTest.createTask("task-" + i);
+            queue.offer(task, random.nextInt(1000));
+            tasks.add(task);
+        }
+        assertEquals(200, queue.size());
+
+        long last = Long.MIN_VALUE;
+        SpongeScheduledTask task;
+        int polled = 0;
+        while ((task = queue.pollDue(499L)) != null) {
+            assertTrue(task.deadline >= last, "Tasks should be polled in deadline order");
+            assertTrue(task.deadline <= 499L, "Only due tasks should be polled");
+            assertEquals(-1, task.queueIndex);
+            last = task.deadline;
+            polled++;
+        }
+        assertTrue(queue.peekDeadline() >= 500L);
+        assertEquals(200, polled + queue.size());
+    }
+
+    @Test
+    public void removesArbitraryTasks() {
+        final ScheduledTaskQueue queue = new ScheduledTaskQueue();
+        final List<SpongeScheduledTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            final SpongeScheduledTask task = ScheduledTaskQueueTest.createTask("task-" + i);
+            queue.offer(task, 50 - i);
+            tasks.add(task);
+        }
+        for (int i = 0; i < tasks.size(); i += 2) {
+            assertTrue(queue.remove(tasks.get(i)));
+        }
+        assertFalse(queue.remove(tasks.get(0)), "A removed task should no longer be queued");
+        assertEquals(25, queue.size());
+
+        for (int i = tasks.size() - 1; i > 0; i -= 2) {
+            assertSame(tasks.get(i), queue.pollDue(Long.MAX_VALUE));
+        }
+        assertNull(queue.pollDue(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, queue.peekDeadline());
+    }
+
+    @Test
+    public void reofferingMovesTask() {
+        final ScheduledTaskQueue queue = new ScheduledTaskQueue();
+        final SpongeScheduledTask first = ScheduledTaskQueueTest.createTask("first");
+        final SpongeScheduledTask second = ScheduledTaskQueueTest.createTask("second");
+        queue.offer(first, 10L);
+        queue.offer(second, 20L);
+        queue.offer(first, 30L);
+
+        assertEquals(2, queue.size());
+        assertSame(second, queue.pollDue(25L));
+        assertNull(queue.pollDue(25L));
+        assertSame(first, queue.pollDue(30L));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.schematic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+public class PrimitiveIdPaletteTest {
+
+    private static final List<String> VALUES = Arrays.asList("air", "stone", "dirt", "grass", "sand", "gravel");
+    private static final SpongePaletteType<String, String> TYPE = new SpongePaletteType<>((s, registry) -> Optional.of(s), (registry, s) -> s);
+
+    private static PrimitiveIdPalette<String, String> createPalette() {
+        // Global ids are the indices in VALUES, no registries are needed for the id mappings
+        return new PrimitiveIdPalette<>(PrimitiveIdPaletteTest.TYPE, null, null, PrimitiveIdPaletteTest.VALUES::indexOf,
+            PrimitiveIdPaletteTest.VALUES::get, 2);
+    }
+
+    @Test
+    public void refillsGapsWhenAssigning() {
+        final PrimitiveIdPalette<String, String> palette = PrimitiveIdPaletteTest.createPalette();
+        assertEquals(0, palette.getOrAssign("air"));
+        assertEquals(1, palette.getOrAssign("stone"));
+        assertEquals(2, palette.getOrAssign("dirt"));
+        assertEquals(1, palette.getOrAssign("stone"));
+
+        assertTrue(palette.remove("stone"));
+        assertFalse(palette.get("stone").isPresent());
+        assertEquals(2, palette.getHighestId());
+        assertEquals(1, palette.getOrAssign("grass"));
+        assertEquals(3, palette.getOrAssign("sand"));
+        assertEquals(3, palette.getHighestId());
+    }
+
+    @Test
+    public void assignReplacesExistingIds() {
+        final PrimitiveIdPalette<String, String> palette = PrimitiveIdPaletteTest.createPalette();
+        palette.assign("air", 0);
+        palette.assign("stone", 1);
+
+        // Another value takes over an id, the previous value is no longer in the palette
+        palette.assign("dirt", 1);
+        assertEquals(OptionalInt.of(1), palette.get("dirt"));
+        assertFalse(palette.get("stone").isPresent());
+        assertEquals(1, palette.getHighestId());
+
+        // A value moving to another id frees its old one
+        palette.assign("air", 5);
+        assertEquals(OptionalInt.of(5), palette.get("air"));
+        assertEquals(5, palette.getHighestId());
+        assertEquals(0, palette.getOrAssign("grass"));
+        assertEquals(2, palette.stream().filter(s -> !s.equals("grass")).count());
+    }
+
+    @Test
+    public void recomputesHighestIdOnRemoval() {
+        final PrimitiveIdPalette<String, String> palette = PrimitiveIdPaletteTest.createPalette();
+        palette.assign("air", 0);
+        palette.assign("stone", 3);
+        palette.assign("dirt", 7);
+        assertEquals(7, palette.getHighestId());
+
+        assertTrue(palette.remove("dirt"));
+        assertEquals(3, palette.getHighestId());
+        // Moving the highest value down clears its old id as well
+        palette.assign("stone", 1);
+        assertEquals(1, palette.getHighestId());
+        assertTrue(palette.remove("stone"));
+        assertTrue(palette.remove("air"));
+        assertEquals(0, palette.getHighestId());
+        assertFalse(palette.remove("air"));
+        assertEquals(0, palette.stream().count());
+    }
+
+    @Test
+    public void equalityFollowsTheIdMappings() {
+        final PrimitiveIdPalette<String, String> first = PrimitiveIdPaletteTest.createPalette();
+        first.getOrAssign("air");
+        first.getOrAssign("stone");
+        first.getOrAssign("dirt");
+
+        final PrimitiveIdPalette<String, String> second = PrimitiveIdPaletteTest.createPalette();
+        second.assign("dirt", 2);
+        second.assign("air", 0);
+        second.assign("stone", 1);
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+
+        second.remove("stone");
+        assertNotEquals(first, second);
+        second.getOrAssign("stone");
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+
+        second.assign("grass", 1);
+        assertNotEquals(first, second);
+    }
+}
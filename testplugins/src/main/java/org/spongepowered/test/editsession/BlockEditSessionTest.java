@@ -0,0 +1,263 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.test.editsession;
+
+import com.google.inject.Inject;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.command.Command;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.parameter.CommandContext;
+import org.spongepowered.api.command.parameter.Parameter;
+import org.spongepowered.api.data.Keys;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.event.lifecycle.RegisterCommandEvent;
+import org.spongepowered.api.scheduler.Task;
+import org.spongepowered.api.util.Ticks;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.common.world.server.SpongeBlockEditSession;
+import org.spongepowered.math.vector.Vector3i;
+import org.spongepowered.plugin.PluginContainer;
+import org.spongepowered.plugin.jvm.Plugin;
+import org.spongepowered.test.LoadableModule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills large regions through a {@link SpongeBlockEditSession} and checks the
+ * result once the session is closed.
+ *
+ * <p>{@code /blockeditsession fill [size] [summary]} fills a cube of the given
+ * size next to the player with stone capped by glowstone, {@code clear}
+ * empties it again. Both check the blocks and the heightmaps right after the
+ * session is closed, whether exactly one summary
+ * {@link ChangeBlockEvent.Post} was thrown if it was requested and none
+ * otherwise, and the block light above the cube a second later, once the
+ * light engine caught up. The default size of 32 covers at least one chunk
+ * column completely, so that chunk is resent whole, while a size of 8 only
+ * sends the changed sections. The client view has to be compared by eye, it
+ * should look the same after rejoining.</p>
+ */
+@Plugin("blockeditsessiontest")
+public final class BlockEditSessionTest implements LoadableModule {
+
+    private static final int DEFAULT_SIZE = 32;
+    private static final int MAX_REPORTED = 5;
+    private static final int GLOWSTONE_NEIGHBOR_LIGHT = 14;
+
+    final PluginContainer plugin;
+    Vector3i lastMin;
+    int lastSize;
+    boolean recording;
+    int postEvents;
+    int postTransactions;
+
+    @Inject
+    public BlockEditSessionTest(final PluginContainer plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void enable(final CommandContext ctx) {
+        Sponge.getEventManager().registerListeners(this.plugin, new PostListener());
+    }
+
+    @Listener
+    public void registerCommands(final RegisterCommandEvent<Command.Parameterized> event) {
+        final Parameter.Value<Integer> size = Parameter.integerNumber().setKey("size").optional().build();
+        final Parameter.Value<Boolean> summary = Parameter.bool().setKey("summary").optional().build();
+        event.register(this.plugin, Command.builder()
+            .child(Command.builder()
+                .parameter(size)
+                .parameter(summary)
+                .setExecutor(context -> this.fill(context, context.getOne(size).orElse(BlockEditSessionTest.DEFAULT_SIZE),
+                    context.getOne(summary).orElse(false)))
+                .build(), "fill")
+            .child(Command.builder()
+                .parameter(summary)
+                .setExecutor(context -> this.clear(context, context.getOne(summary).orElse(false)))
+                .build(), "clear")
+            .build(), "blockeditsession"
+        );
+    }
+
+    private CommandResult fill(final CommandContext context, final int size, final boolean summary) {
+        final ServerPlayer player = context.getCause().first(ServerPlayer.class).get();
+        final ServerWorld world = player.getWorld();
+        final Vector3i min = player.getBlockPosition().add(2, 0, 2);
+        final Vector3i max = min.add(size - 1, size - 1, size - 1);
+        if (max.getY() > 255) {
+            context.sendMessage(Identity.nil(), Component.text("The cube does not fit below the build limit", NamedTextColor.RED));
+            return CommandResult.success();
+        }
+        this.lastMin = min;
+        this.lastSize = size;
+        final BlockState stone = BlockTypes.STONE.get().getDefaultState();
+        final BlockState glowstone = BlockTypes.GLOWSTONE.get().getDefaultState();
+        this.edit(context, world, min, max, summary, y -> y == max.getY() ? glowstone : stone);
+
+        final List<String> differences = new ArrayList<>();
+        for (int x = min.getX(); x <= max.getX(); x++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                final int height = world.getHighestYAt(x, z);
+                if (height <= max.getY()) {
+                    differences.add("height at " + x + ", " + z + " is " + height + " instead of at least " + (max.getY() + 1));
+                }
+            }
+        }
+        this.report(context, "Heightmaps", differences);
+
+        // Light is updated by the light engine over the following ticks
+        final Vector3i lit = new Vector3i(min.getX() + size / 2, max.getY() + 1, min.getZ() + size / 2);
+        Sponge.getServer().getScheduler().submit(Task.builder()
+            .plugin(this.plugin)
+            .delay(Ticks.of(20))
+            .execute(() -> {
+                final int light = world.getLocation(lit).get(Keys.BLOCK_LIGHT).orElse(0);
+                final List<String> lightDifferences = new ArrayList<>();
+                if (light != BlockEditSessionTest.GLOWSTONE_NEIGHBOR_LIGHT) {
+                    lightDifferences.add("block light above the glowstone at " + lit + " is " + light + " instead of "
+                        + BlockEditSessionTest.GLOWSTONE_NEIGHBOR_LIGHT);
+                }
+                this.report(context, "Light", lightDifferences);
+            })
+            .build());
+        return CommandResult.success();
+    }
+
+    private CommandResult clear(final CommandContext context, final boolean summary) {
+        final ServerPlayer player = context.getCause().first(ServerPlayer.class).get();
+        if (this.lastMin == null) {
+            context.sendMessage(Identity.nil(), Component.text("Fill a cube first", NamedTextColor.RED));
+            return CommandResult.success();
+        }
+        final ServerWorld world = player.getWorld();
+        final Vector3i min = this.lastMin;
+        final Vector3i max = min.add(this.lastSize - 1, this.lastSize - 1, this.lastSize - 1);
+        final BlockState air = BlockTypes.AIR.get().getDefaultState();
+        this.edit(context, world, min, max, summary, y -> air);
+
+        final List<String> differences = new ArrayList<>();
+        for (int x = min.getX(); x <= max.getX(); x++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                final int height = world.getHighestYAt(x, z);
+                if (height > min.getY()) {
+                    differences.add("height at " + x + ", " + z + " is " + height + " instead of at most " + min.getY());
+                }
+            }
+        }
+        this.report(context, "Heightmaps", differences);
+        this.lastMin = null;
+        return CommandResult.success();
+    }
+
+    private void edit(final CommandContext context, final ServerWorld world, final Vector3i min, final Vector3i max, final boolean summary,
+        final StateByY states
+    ) {
+        int changed = 0;
+        this.postEvents = 0;
+        this.postTransactions = 0;
+        final long start = System.nanoTime();
+        try (final SpongeBlockEditSession session = SpongeBlockEditSession.open(world, summary)) {
+            for (int y = min.getY(); y <= max.getY(); y++) {
+                final BlockState state = states.get(y);
+                for (int z = min.getZ(); z <= max.getZ(); z++) {
+                    for (int x = min.getX(); x <= max.getX(); x++) {
+                        if (session.setBlock(x, y, z, state)) {
+                            changed++;
+                        }
+                    }
+                }
+            }
+            // Only the events thrown while closing the session count
+            this.recording = true;
+        } finally {
+            this.recording = false;
+        }
+        final long elapsed = System.nanoTime() - start;
+        context.sendMessage(Identity.nil(), Component.text("Changed " + changed + " blocks in "
+            + String.format("%.3f", elapsed / 1_000_000.0D) + "ms"));
+
+        final List<String> differences = new ArrayList<>();
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            final BlockState expected = states.get(y);
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    final BlockState actual = world.getBlock(x, y, z);
+                    if (!actual.equals(expected)) {
+                        differences.add("block at " + new Vector3i(x, y, z) + " is " + actual + " instead of " + expected);
+                    }
+                }
+            }
+        }
+        this.report(context, "Blocks", differences);
+
+        final List<String> eventDifferences = new ArrayList<>();
+        if (summary) {
+            if (this.postEvents != 1 || this.postTransactions != changed) {
+                eventDifferences.add(this.postEvents + " summary events with " + this.postTransactions + " transactions instead of 1 with "
+                    + changed);
+            }
+        } else if (this.postEvents != 0) {
+            eventDifferences.add(this.postEvents + " summary events although none were requested");
+        }
+        this.report(context, "Summary event", eventDifferences);
+    }
+
+    private void report(final CommandContext context, final String check, final List<String> differences) {
+        if (differences.isEmpty()) {
+            context.sendMessage(Identity.nil(), Component.text(check + ": OK", NamedTextColor.GREEN));
+            return;
+        }
+        context.sendMessage(Identity.nil(), Component.text(check + ": " + differences.size() + " differences", NamedTextColor.RED));
+        differences.stream()
+            .limit(BlockEditSessionTest.MAX_REPORTED)
+            .forEach(difference -> context.sendMessage(Identity.nil(), Component.text(" - " + difference, NamedTextColor.RED)));
+    }
+
+    @FunctionalInterface
+    interface StateByY {
+
+        BlockState get(int y);
+    }
+
+    public class PostListener {
+
+        @Listener
+        public void onChangeBlock(final ChangeBlockEvent.Post event) {
+            if (BlockEditSessionTest.this.recording) {
+                BlockEditSessionTest.this.postEvents++;
+                BlockEditSessionTest.this.postTransactions += event.getReceipts().size();
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.test.redstone;
+
+import com.google.inject.Inject;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.text.Component;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.block.transaction.BlockTransaction;
+import org.spongepowered.api.command.Command;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.parameter.CommandContext;
+import org.spongepowered.api.command.parameter.Parameter;
+import org.spongepowered.api.data.Keys;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.event.lifecycle.RegisterCommandEvent;
+import org.spongepowered.api.util.Direction;
+import org.spongepowered.api.world.server.ServerLocation;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.math.vector.Vector3i;
+import org.spongepowered.plugin.PluginContainer;
+import org.spongepowered.plugin.jvm.Plugin;
+import org.spongepowered.test.LoadableModule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds a reproducible redstone benchmark next to the player, meant to be
+ * run once with the eigen redstone optimization enabled and once without.
+ *
+ * <p>{@code /redstonebenchmark lines [lines] [length]} lays parallel dust lines
+ * with a power source at their start, {@code toggle} powers or depowers all of
+ * them at once and {@code clock} adds an observer clock driving a dust line
+ * every other tick. The number of neighbor notifications is reported under
+ * "causeTracker - NeighborNotifications" in the timings report, the wire power
+ * changes are counted here and printed with {@code stats}.</p>
+ */
+@Plugin("redstonebenchmarktest")
+public final class RedstoneBenchmarkTest implements LoadableModule {
+
+    private static final int DEFAULT_LINES = 8;
+    private static final int DEFAULT_LENGTH = 64;
+
+    final PluginContainer plugin;
+    final List<ServerLocation> powerSources = new ArrayList<>();
+    long wireChanges = 0;
+
+    @Inject
+    public RedstoneBenchmarkTest(final PluginContainer plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public void enable(final CommandContext ctx) {
+        Sponge.getEventManager().registerListeners(this.plugin, new WireChangeListener());
+    }
+
+    @Listener
+    public void registerCommands(final RegisterCommandEvent<Command.Parameterized> event) {
+        final Parameter.Value<Integer> lines = Parameter.integerNumber().setKey("lines").optional().build();
+        final Parameter.Value<Integer> length = Parameter.integerNumber().setKey("length").optional().build();
+        event.register(this.plugin, Command.builder()
+            .child(Command.builder()
+                .parameter(lines)
+                .parameter(length)
+                .setExecutor(context -> this.buildLines(context, context.getOne(lines).orElse(RedstoneBenchmarkTest.DEFAULT_LINES),
+                    context.getOne(length).orElse(RedstoneBenchmarkTest.DEFAULT_LENGTH)))
+                .build(), "lines")
+            .child(Command.builder()
+                .parameter(length)
+                .setExecutor(context -> this.buildClock(context, context.getOne(length).orElse(RedstoneBenchmarkTest.DEFAULT_LENGTH)))
+                .build(), "clock")
+            .child(Command.builder().setExecutor(this::toggle).build(), "toggle")
+            .child(Command.builder().setExecutor(this::printStats).build(), "stats")
+            .build(), "redstonebenchmark"
+        );
+    }
+
+    private CommandResult buildLines(final CommandContext context, final int lines, final int length) {
+        final ServerPlayer player = context.getCause().first(ServerPlayer.class).get();
+        final ServerWorld world = player.getWorld();
+        final Vector3i origin = player.getBlockPosition();
+        for (int line = 0; line < lines; line++) {
+            // Leave a gap between lines so that they do not connect to each other
+            final Vector3i start = origin.add(0, 0, 2 + line * 2);
+            world.setBlock(start.sub(0, 1, 0), BlockTypes.STONE.get().getDefaultState());
+            world.setBlock(start, BlockTypes.AIR.get().getDefaultState());
+            this.layDust(world, start.add(1, 0, 0), length);
+            this.powerSources.add(world.getLocation(start));
+        }
+        context.sendMessage(Identity.nil(), Component.text("Built " + lines + " dust lines of length " + length));
+        return CommandResult.success();
+    }
+
+    private CommandResult buildClock(final CommandContext context, final int length) {
+        final ServerPlayer player = context.getCause().first(ServerPlayer.class).get();
+        final ServerWorld world = player.getWorld();
+        final Vector3i origin = player.getBlockPosition().add(0, 0, -2);
+        this.layDust(world, origin.add(1, 0, 0), length);
+        // Two observers watching each other pulse forever once the second one is placed,
+        // the back of the eastern one powers the dust line.
+        world.setBlock(origin.sub(0, 1, 0), BlockTypes.STONE.get().getDefaultState());
+        world.setBlock(origin.sub(1, 1, 0), BlockTypes.STONE.get().getDefaultState());
+        world.setBlock(origin.sub(1, 0, 0), this.observer(Direction.EAST));
+        world.setBlock(origin, this.observer(Direction.WEST));
+        context.sendMessage(Identity.nil(), Component.text("Built an observer clock driving a dust line of length " + length));
+        return CommandResult.success();
+    }
+
+    private CommandResult toggle(final CommandContext context) {
+        final long start = System.nanoTime();
+        for (final ServerLocation source : this.powerSources) {
+            final boolean powered = source.getBlockType() == BlockTypes.REDSTONE_BLOCK.get();
+            source.setBlockType(powered ? BlockTypes.AIR.get() : BlockTypes.REDSTONE_BLOCK.get());
+        }
+        final long elapsed = System.nanoTime() - start;
+        context.sendMessage(Identity.nil(), Component.text("Toggled " + this.powerSources.size() + " power sources in "
+            + String.format("%.3f", elapsed / 1_000_000.0D) + "ms"));
+        return CommandResult.success();
+    }
+
+    private CommandResult printStats(final CommandContext context) {
+        context.sendMessage(Identity.nil(), Component.text("Wire power changes since last reset: " + this.wireChanges));
+        this.wireChanges = 0;
+        return CommandResult.success();
+    }
+
+    private void layDust(final ServerWorld world, final Vector3i start, final int length) {
+        for (int x = 0; x < length; x++) {
+            final Vector3i pos = start.add(x, 0, 0);
+            world.setBlock(pos.sub(0, 1, 0), BlockTypes.STONE.get().getDefaultState());
+            world.setBlock(pos, BlockTypes.REDSTONE_WIRE.get().getDefaultState());
+        }
+    }
+
+    private BlockState observer(final Direction facing) {
+        return BlockTypes.OBSERVER.get().getDefaultState().with(Keys.DIRECTION, facing).get();
+    }
+
+    public class WireChangeListener {
+
+        @Listener
+        public void onChangeBlock(final ChangeBlockEvent.All event) {
+            for (final BlockTransaction transaction : event.getTransactions()) {
+                if (transaction.getOriginal().getState().getType() == BlockTypes.REDSTONE_WIRE.get()
+                    && transaction.getFinal().getState().getType() == BlockTypes.REDSTONE_WIRE.get()) {
+                    RedstoneBenchmarkTest.this.wireChanges++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.test.schematic;
+
+import com.google.inject.Inject;
+import net.kyori.adventure.identity.Identity;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.block.BlockTypes;
+import org.spongepowered.api.block.entity.BlockEntityArchetype;
+import org.spongepowered.api.block.entity.BlockEntityTypes;
+import org.spongepowered.api.command.Command;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.parameter.CommandContext;
+import org.spongepowered.api.command.parameter.Parameter;
+import org.spongepowered.api.data.persistence.DataContainer;
+import org.spongepowered.api.data.persistence.DataQuery;
+import org.spongepowered.api.data.persistence.DataView;
+import org.spongepowered.api.entity.EntityTypes;
+import org.spongepowered.api.entity.living.player.server.ServerPlayer;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.cause.entity.SpawnTypes;
+import org.spongepowered.api.event.lifecycle.RegisterCommandEvent;
+import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeEntry;
+import org.spongepowered.common.world.schematic.SpongeSchematic;
+import org.spongepowered.common.world.schematic.SpongeSchematicReader;
+import org.spongepowered.common.world.schematic.SpongeSchematicWriter;
+import org.spongepowered.common.world.volume.buffer.archetype.SpongeArchetypeVolume;
+import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
+import org.spongepowered.plugin.PluginContainer;
+import org.spongepowered.plugin.jvm.Plugin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Checks the schematic reader and writer against each other and against a
+ * schematic written by another tool.
+ *
+ * <p>{@code /schematicroundtrip copy [radius]} copies the blocks, block
+ * entities and entities around the player, writes them as version 2 and 3
+ * schematics, reads both back and reports every difference to the copy.
+ * {@code external} reads the bundled {@code external_v2.schem}, laid out like
+ * the version 2 files WorldEdit writes, and its version 1 counterpart with
+ * tile entities, and checks their blocks, chest and armor stand. {@code paste} places the last read schematic at the player.</p>
+ */
+@Plugin("schematicroundtriptest")
+public final class SchematicRoundTripTest {
+
+    private static final int DEFAULT_RADIUS = 8;
+    private static final int[] VERSIONS = {2, 3};
+    private static final int MAX_REPORTED = 5;
+    private static final String[] EXTERNAL_SCHEMATICS = {"/schematics/external_v2.schem", "/schematics/external_v1.schem"};
+
+    final PluginContainer plugin;
+    SpongeSchematic lastRead;
+
+    @Inject
+    public SchematicRoundTripTest(final PluginContainer plugin) {
+        this.plugin = plugin;
+    }
+
+    @Listener
+    public void registerCommands(final RegisterCommandEvent<Command.Parameterized> event) {
+        final Parameter.Value<Integer> radius = Parameter.integerNumber().setKey("radius").optional().build();
+        event.register(this.plugin, Command.builder()
+            .child(Command.builder()
+                .parameter(radius)
+                .setExecutor(context -> this.roundTrip(context, context.getOne(radius).orElse(SchematicRoundTripTest.DEFAULT_RADIUS)))
+                .build(), "copy")
+            .child(Command.builder().setExecutor(this::readExternal).build(), "external")
+            .child(Command.builder().setExecutor(this::paste).build(), "paste")
+            .build(), "schematicroundtrip"
+        );
+    }
+
+    private CommandResult roundTrip(final CommandContext context, final int radius) {
+        final ServerPlayer player = context.getCause().first(ServerPlayer.class).get();
+        final Vector3i center = player.getBlockPosition();
+        final Vector3i min = center.sub(radius, radius, radius).max(center.getX() - radius, 0, center.getZ() - radius);
+        final Vector3i max = center.add(radius, radius, radius).min(center.getX() + radius, 255, center.getZ() + radius);
+        final SpongeArchetypeVolume volume = (SpongeArchetypeVolume) player.getWorld().createArchetypeVolume(min, max, center);
+        final SpongeSchematic original = new SpongeSchematic(volume.getBlockMin(), volume.getBlockSize(), volume, DataContainer.createNew());
+
+        for (final int version : SchematicRoundTripTest.VERSIONS) {
+            final List<String> differences = new ArrayList<>();
+            try {
+                final Path file = Files.createTempFile("roundtrip-v" + version, ".schem");
+                try {
+                    SpongeSchematicWriter.write(original, file, version);
+                    final SpongeSchematic read = SpongeSchematicReader.read(file);
+                    SchematicRoundTripTest.compare(original, read, differences);
+                    this.lastRead = read;
+                } finally {
+                    Files.deleteIfExists(file);
+                }
+            } catch (final IOException | RuntimeException e) {
+                differences.add("failed with " + e);
+            }
+            this.report(context, "Version " + version + " round trip of " + volume.getBlockSize() + " blocks, "
+                + original.getBlockEntityArchetypes().size() + " block entities and "
+                + original.getEntitiesByPosition().count() + " entities", differences);
+        }
+        return CommandResult.success();
+    }
+
+    private CommandResult readExternal(final CommandContext context) {
+        for (final String resource : SchematicRoundTripTest.EXTERNAL_SCHEMATICS) {
+            final List<String> differences = new ArrayList<>();
+            try (final InputStream input = SchematicRoundTripTest.class.getResourceAsStream(resource)) {
+                if (input == null) {
+                    throw new IOException("Missing " + resource);
+                }
+                final SpongeSchematic read = SpongeSchematicReader.read(input);
+                SchematicRoundTripTest.checkExternal(read, differences);
+                this.lastRead = read;
+            } catch (final IOException | RuntimeException e) {
+                differences.add("failed with " + e);
+            }
+            this.report(context, "Reading " + resource, differences);
+        }
+        return CommandResult.success();
+    }
+
+    private CommandResult paste(final CommandContext context) {
+        final ServerPlayer player = context.getCause().first(ServerPlayer.class).get();
+        if (this.lastRead == null) {
+            context.sendMessage(Identity.nil(), Component.text("Run copy or external first", NamedTextColor.RED));
+            return CommandResult.success();
+        }
+        this.lastRead.applyToWorld(player.getWorld(), player.getBlockPosition(), SpawnTypes.PLACEMENT);
+        context.sendMessage(Identity.nil(), Component.text("Pasted the last read schematic", NamedTextColor.GREEN));
+        return CommandResult.success();
+    }
+
+    private static void compare(final SpongeSchematic expected, final SpongeSchematic actual, final List<String> differences) {
+        if (!expected.getBlockMin().equals(actual.getBlockMin()) || !expected.getBlockSize().equals(actual.getBlockSize())) {
+            differences.add("bounds " + actual.getBlockMin() + " + " + actual.getBlockSize() + " instead of "
+                + expected.getBlockMin() + " + " + expected.getBlockSize());
+            return;
+        }
+        final Vector3i min = expected.getBlockMin();
+        final Vector3i max = expected.getBlockMax();
+        for (int y = min.getY(); y <= max.getY(); y++) {
+            for (int z = min.getZ(); z <= max.getZ(); z++) {
+                for (int x = min.getX(); x <= max.getX(); x++) {
+                    if (!expected.getBlock(x, y, z).equals(actual.getBlock(x, y, z))) {
+                        differences.add("block at " + new Vector3i(x, y, z) + " is " + actual.getBlock(x, y, z)
+                            + " instead of " + expected.getBlock(x, y, z));
+                    }
+                }
+            }
+        }
+
+        final Map<Vector3i, BlockEntityArchetype> expectedBlockEntities = expected.getBlockEntityArchetypes();
+        final Map<Vector3i, BlockEntityArchetype> actualBlockEntities = actual.getBlockEntityArchetypes();
+        if (!expectedBlockEntities.keySet().equals(actualBlockEntities.keySet())) {
+            differences.add("block entities at " + actualBlockEntities.keySet() + " instead of " + expectedBlockEntities.keySet());
+        }
+        expectedBlockEntities.forEach((pos, archetype) -> {
+            final BlockEntityArchetype read = actualBlockEntities.get(pos);
+            if (read == null) {
+                return;
+            }
+            if (read.getBlockEntityType() != archetype.getBlockEntityType()) {
+                differences.add("block entity at " + pos + " is " + read.getBlockEntityType() + " instead of " + archetype.getBlockEntityType());
+            } else if (!SchematicRoundTripTest.withoutPosition(read.getBlockEntityData())
+                .equals(SchematicRoundTripTest.withoutPosition(archetype.getBlockEntityData()))) {
+                differences.add("block entity data at " + pos + " differs");
+            }
+        });
+
+        final List<EntityArchetypeEntry> expectedEntities = expected.getEntitiesByPosition().collect(Collectors.toList());
+        final List<EntityArchetypeEntry> actualEntities = actual.getEntitiesByPosition().collect(Collectors.toList());
+        if (expectedEntities.size() != actualEntities.size()) {
+            differences.add(actualEntities.size() + " entities instead of " + expectedEntities.size());
+            return;
+        }
+        for (int i = 0; i < expectedEntities.size(); i++) {
+            final EntityArchetypeEntry expectedEntity = expectedEntities.get(i);
+            final EntityArchetypeEntry actualEntity = actualEntities.get(i);
+            if (actualEntity.getArchetype().getType() != expectedEntity.getArchetype().getType()
+                || actualEntity.getPosition().distanceSquared(expectedEntity.getPosition()) > 1.0E-6) {
+                differences.add("entity " + i + " is " + actualEntity.getArchetype().getType() + " at " + actualEntity.getPosition()
+                    + " instead of " + expectedEntity.getArchetype().getType() + " at " + expectedEntity.getPosition());
+            } else if (!SchematicRoundTripTest.withoutPosition(actualEntity.getArchetype().getEntityData())
+                .equals(SchematicRoundTripTest.withoutPosition(expectedEntity.getArchetype().getEntityData()))) {
+                differences.add("entity data of entity " + i + " differs");
+            }
+        }
+    }
+
+    private static void checkExternal(final SpongeSchematic schematic, final List<String> differences) {
+        // The file holds a 3x2x3 stone floor with planks in its far corner, and a chest,
+        // glass and planks on top; asymmetric so that swapped axes show up
+        final Vector3i min = schematic.getBlockMin();
+        if (!schematic.getBlockSize().equals(new Vector3i(3, 2, 3))) {
+            differences.add("size " + schematic.getBlockSize() + " instead of (3, 2, 3)");
+            return;
+        }
+        for (int z = 0; z < 3; z++) {
+            for (int x = 0; x < 3; x++) {
+                SchematicRoundTripTest.expectBlock(schematic, min.add(x, 0, z), x == 2 && z == 2 ? BlockTypes.OAK_PLANKS.get()
+                    : BlockTypes.STONE.get(), differences);
+                final BlockType top;
+                if (x == 0 && z == 0) {
+                    top = BlockTypes.CHEST.get();
+                } else if (x == 2 && z == 0) {
+                    top = BlockTypes.GLASS.get();
+                } else if (x == 0 && z == 2) {
+                    top = BlockTypes.OAK_PLANKS.get();
+                } else {
+                    top = BlockTypes.AIR.get();
+                }
+                SchematicRoundTripTest.expectBlock(schematic, min.add(x, 1, z), top, differences);
+            }
+        }
+
+        final Vector3i chest = min.add(0, 1, 0);
+        final BlockEntityArchetype archetype = schematic.getBlockEntityArchetypes().get(chest);
+        if (schematic.getBlockEntityArchetypes().size() != 1 || archetype == null) {
+            differences.add("block entities at " + schematic.getBlockEntityArchetypes().keySet() + " instead of only " + chest);
+        } else if (archetype.getBlockEntityType() != BlockEntityTypes.CHEST.get()) {
+            differences.add("block entity at " + chest + " is " + archetype.getBlockEntityType());
+        } else if (archetype.getBlockEntityData().getViewList(DataQuery.of("Items")).map(List::size).orElse(0) != 1) {
+            differences.add("chest items were not read");
+        }
+
+        final List<EntityArchetypeEntry> entities = schematic.getEntitiesByPosition().collect(Collectors.toList());
+        final Vector3d standPosition = min.toDouble().add(1.5, 1.0, 1.5);
+        if (entities.size() != 1) {
+            differences.add(entities.size() + " entities instead of 1");
+        } else if (entities.get(0).getArchetype().getType() != EntityTypes.ARMOR_STAND.get()
+            || entities.get(0).getPosition().distanceSquared(standPosition) > 1.0E-6) {
+            differences.add("entity is " + entities.get(0).getArchetype().getType() + " at " + entities.get(0).getPosition()
+                + " instead of an armor stand at " + standPosition);
+        }
+    }
+
+    private static void expectBlock(final SpongeSchematic schematic, final Vector3i pos, final BlockType expected,
+        final List<String> differences
+    ) {
+        final BlockType actual = schematic.getBlock(pos.getX(), pos.getY(), pos.getZ()).getType();
+        if (actual != expected) {
+            differences.add("block at " + pos + " is " + actual + " instead of " + expected);
+        }
+    }
+
+    private static DataContainer withoutPosition(final DataView data) {
+        // Positions are rebased and the id is added by the writer, both are compared separately
+        final DataContainer copy = data.copy();
+        copy.remove(DataQuery.of("Pos"));
+        copy.remove(DataQuery.of("Id"));
+        copy.remove(DataQuery.of("id"));
+        return copy;
+    }
+
+    private void report(final CommandContext context, final String check, final List<String> differences) {
+        if (differences.isEmpty()) {
+            context.sendMessage(Identity.nil(), Component.text(check + ": OK", NamedTextColor.GREEN));
+            return;
+        }
+        context.sendMessage(Identity.nil(), Component.text(check + ": " + differences.size() + " differences", NamedTextColor.RED));
+        differences.stream()
+            .limit(SchematicRoundTripTest.MAX_REPORTED)
+            .forEach(difference -> context.sendMessage(Identity.nil(), Component.text(" - " + difference, NamedTextColor.RED)));
+    }
+}